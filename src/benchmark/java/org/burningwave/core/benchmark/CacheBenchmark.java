@@ -0,0 +1,104 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheBenchmark {
+	private static final String PATH_PREFIX = "/burningwave/benchmark/cache/";
+
+	//Number of distinct paths, spread over nested folders, that are read in turn
+	@Param({"1024", "65536"})
+	int pathCount;
+
+	String[] paths;
+	ByteBuffer content;
+	MutexBasedPathForResources<ByteBuffer> mutexBasedPathForContents;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		paths = new String[pathCount];
+		for (int index = 0; index < pathCount; index++) {
+			paths[index] = PATH_PREFIX + "f" + (index % 16) + "/f" + (index % 256) + "/resource-" + index;
+		}
+		content = BufferHandler.allocateInHeap(64);
+		mutexBasedPathForContents = new MutexBasedPathForResources<>();
+		for (String path : paths) {
+			Cache.pathForContents.getOrUploadIfAbsent(path, () -> content);
+			mutexBasedPathForContents.getOrUploadIfAbsent(path, () -> content);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index;
+
+		String next(String[] paths) {
+			return paths[index++ & (paths.length - 1)];
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer pathForResourcesGetOrUploadIfAbsent(Cursor cursor) {
+		return Cache.pathForContents.getOrUploadIfAbsent(cursor.next(paths), () -> content);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ByteBuffer pathForResourcesGetOrUploadIfAbsentContended(Cursor cursor) {
+		return Cache.pathForContents.getOrUploadIfAbsent(cursor.next(paths), () -> content);
+	}
+
+	@Benchmark
+	public ByteBuffer mutexBasedGetOrUploadIfAbsent(Cursor cursor) {
+		return mutexBasedPathForContents.getOrUploadIfAbsent(cursor.next(paths), () -> content);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ByteBuffer mutexBasedGetOrUploadIfAbsentContended(Cursor cursor) {
+		return mutexBasedPathForContents.getOrUploadIfAbsent(cursor.next(paths), () -> content);
+	}
+
+	//Every call is a miss: the path is removed and then loaded again
+	@Benchmark
+	@Threads(4)
+	public ByteBuffer pathForResourcesRemoveAndLoadContended(Cursor cursor) {
+		String path = cursor.next(paths);
+		Cache.pathForContents.remove(path, false);
+		return Cache.pathForContents.getOrUploadIfAbsent(path, () -> content);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ByteBuffer mutexBasedRemoveAndLoadContended(Cursor cursor) {
+		String path = cursor.next(paths);
+		mutexBasedPathForContents.remove(path);
+		return mutexBasedPathForContents.getOrUploadIfAbsent(path, () -> content);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (String path : paths) {
+			Cache.pathForContents.remove(path, false);
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ByteCodeHunter;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClassHuntingBenchmark {
+
+	@Param({"1000", "10000", "100000"})
+	int classCount;
+
+	File folder;
+	String jarPath;
+	String nestedJarPath;
+	ClassHunter classHunter;
+	ByteCodeHunter byteCodeHunter;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		folder = Fixtures.createTemporaryFolder("class-hunting");
+		jarPath = Fixtures.createJar(new File(folder, "classes.jar"), classCount).getAbsolutePath();
+		nestedJarPath = Fixtures.createNestedJar(new File(folder, "nested.jar"), 10, classCount / 10).getAbsolutePath();
+		ComponentSupplier componentSupplier = ComponentSupplier.getInstance();
+		classHunter = componentSupplier.getClassHunter();
+		byteCodeHunter = componentSupplier.getByteCodeHunter();
+	}
+
+	@Benchmark
+	public int classHunterFindBy() {
+		try (ClassHunter.SearchResult result = classHunter.findBy(createSearchConfig(jarPath))) {
+			return result.getClasses().size();
+		}
+	}
+
+	@Benchmark
+	public int classHunterFindByInNestedJar() {
+		try (ClassHunter.SearchResult result = classHunter.findBy(createSearchConfig(nestedJarPath))) {
+			return result.getClasses().size();
+		}
+	}
+
+	@Benchmark
+	public int byteCodeHunterFindBy() {
+		try (ByteCodeHunter.SearchResult result = byteCodeHunter.findBy(createSearchConfig(jarPath))) {
+			return result.getClasses().size();
+		}
+	}
+
+	@Benchmark
+	public int byteCodeHunterFindByInNestedJar() {
+		try (ByteCodeHunter.SearchResult result = byteCodeHunter.findBy(createSearchConfig(nestedJarPath))) {
+			return result.getClasses().size();
+		}
+	}
+
+	SearchConfig createSearchConfig(String path) {
+		return SearchConfig.forPaths(path).by(
+			ClassCriteria.create().className(className -> className.endsWith("0"))
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		FileSystemItem.ofPath(jarPath).destroy();
+		FileSystemItem.ofPath(nestedJarPath).destroy();
+		Fixtures.delete(folder);
+	}
+
+}
@@ -0,0 +1,103 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrencyBenchmark {
+	private static final int MUTEX_COUNT = 64;
+	private static final int TASKS_PER_INVOCATION = 8192;
+
+	String[] mutexIds;
+	long counter;
+
+	public ConcurrencyBenchmark() {
+		mutexIds = new String[MUTEX_COUNT];
+		for (int index = 0; index < MUTEX_COUNT; index++) {
+			mutexIds[index] = "burningwave-benchmark-" + index;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index;
+
+		String next(String[] mutexIds) {
+			return mutexIds[index++ & (mutexIds.length - 1)];
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Producers {
+		@Param({"1", "8", "64"})
+		int count;
+	}
+
+	@Benchmark
+	public long synchronizerExecute(Cursor cursor) {
+		return Synchronizer.execute(cursor.next(mutexIds), () -> ++counter);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public long synchronizerExecuteContended(Cursor cursor) {
+		return Synchronizer.execute(cursor.next(mutexIds), () -> ++counter);
+	}
+
+	@Benchmark
+	public Integer queuedTaskExecutorSubmitAndJoin() {
+		return BackgroundExecutor.createProducerTask(() -> 1).submit().join();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer queuedTaskExecutorSubmitAndJoinContended() {
+		return BackgroundExecutor.createProducerTask(() -> 1).submit().join();
+	}
+
+	@Benchmark
+	public QueuedTaskExecutor.Task queuedTaskExecutorSubmitAndWaitForFinish() {
+		return BackgroundExecutor.createTask(() -> {}).submit().waitForFinish();
+	}
+
+	//Every invocation submits the tasks from the given number of producer threads and waits for their execution
+	@Benchmark
+	@OperationsPerInvocation(TASKS_PER_INVOCATION)
+	public long queuedTaskExecutorThroughput(Producers producers) throws InterruptedException {
+		CountDownLatch executedTasks = new CountDownLatch(TASKS_PER_INVOCATION);
+		int tasksPerProducer = TASKS_PER_INVOCATION / producers.count;
+		Thread[] producerThreads = new Thread[producers.count];
+		for (int index = 0; index < producerThreads.length; index++) {
+			producerThreads[index] = new Thread(() -> {
+				for (int taskIndex = 0; taskIndex < tasksPerProducer; taskIndex++) {
+					BackgroundExecutor.createTask(task -> {
+						executedTasks.countDown();
+					}, Thread.NORM_PRIORITY).submit();
+				}
+			});
+			producerThreads[index].start();
+		}
+		for (Thread producerThread : producerThreads) {
+			producerThread.join();
+		}
+		executedTasks.await();
+		return executedTasks.getCount();
+	}
+
+}
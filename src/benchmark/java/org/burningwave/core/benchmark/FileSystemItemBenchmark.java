@@ -0,0 +1,73 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileSystemItemBenchmark {
+
+	//Depth of a folder tree with three sub folders and ten files in every folder
+	@Param({"3", "5", "7"})
+	int depth;
+
+	File folder;
+	FileSystemItem folderTree;
+	FileSystemItem nestedJar;
+	FileSystemItem.Criteria classFileCriteria;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		folder = Fixtures.createTemporaryFolder("file-system-item");
+		folderTree = FileSystemItem.ofPath(
+			Fixtures.createFolderTree(new File(folder, "tree"), depth, 3, 10).getAbsolutePath()
+		);
+		nestedJar = FileSystemItem.ofPath(
+			Fixtures.createNestedJar(new File(folder, "nested.jar"), 10, 1000).getAbsolutePath()
+		);
+		classFileCriteria = FileSystemItem.Criteria.forAllFileThat(file -> file.getName().endsWith("0.class"));
+	}
+
+	//Measures the scan with the children already cached by the previous invocations
+	@Benchmark
+	public int findInAllChildrenOfFolderTree() {
+		return folderTree.findInAllChildren(classFileCriteria).size();
+	}
+
+	//Measures the scan after the cached children and contents have been released
+	@Benchmark
+	public int findInAllChildrenOfResetFolderTree() {
+		return folderTree.reset().findInAllChildren(classFileCriteria).size();
+	}
+
+	@Benchmark
+	public int findInAllChildrenOfNestedJar() {
+		return nestedJar.findInAllChildren(classFileCriteria).size();
+	}
+
+	@Benchmark
+	public int findInAllChildrenOfResetNestedJar() {
+		return nestedJar.reset().findInAllChildren(classFileCriteria).size();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		folderTree.destroy();
+		nestedJar.destroy();
+		Fixtures.delete(folder);
+	}
+
+}
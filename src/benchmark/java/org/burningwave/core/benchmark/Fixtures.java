@@ -0,0 +1,125 @@
+package org.burningwave.core.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+//Builds the synthetic file system resources used by the benchmarks: the generated content only depends on
+//the parameters, so the same fixture is produced on every run and on every machine
+public class Fixtures {
+	public static final String PACKAGE_PREFIX = "org/burningwave/core/benchmark/fixture/";
+	public static final int CLASSES_PER_PACKAGE = 1000;
+
+	private Fixtures() {}
+
+	public static File createTemporaryFolder(String prefix) throws IOException {
+		return Files.createTempDirectory("burningwave-" + prefix).toFile();
+	}
+
+	public static File createJar(File destination, int classCount) throws IOException {
+		try (OutputStream outputStream = new FileOutputStream(destination)) {
+			writeJar(outputStream, classCount, 0);
+		}
+		return destination;
+	}
+
+	//Creates an archive that contains innerJarCount jars of classCountPerJar classes each: the classes
+	//of every inner jar have different names
+	public static File createNestedJar(File destination, int innerJarCount, int classCountPerJar) throws IOException {
+		try (ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(destination))) {
+			for (int jarIndex = 0; jarIndex < innerJarCount; jarIndex++) {
+				ByteArrayOutputStream innerJar = new ByteArrayOutputStream();
+				writeJar(innerJar, classCountPerJar, jarIndex * classCountPerJar);
+				outputStream.putNextEntry(new ZipEntry("lib/inner-" + jarIndex + ".jar"));
+				outputStream.write(innerJar.toByteArray());
+				outputStream.closeEntry();
+			}
+		}
+		return destination;
+	}
+
+	//Creates a folder tree of the given depth where every folder has fanOut sub folders and filesPerFolder
+	//class files
+	public static File createFolderTree(File root, int depth, int fanOut, int filesPerFolder) throws IOException {
+		createFolderTree(root, "", depth, fanOut, filesPerFolder, new int[] {0});
+		return root;
+	}
+
+	private static void createFolderTree(File folder, String relativePath, int depth, int fanOut, int filesPerFolder, int[] classIndex) throws IOException {
+		folder.mkdirs();
+		for (int fileIndex = 0; fileIndex < filesPerFolder; fileIndex++) {
+			String className = "C" + classIndex[0]++;
+			Files.write(new File(folder, className + ".class").toPath(), toClassBytes(relativePath + className, "java/lang/Object"));
+		}
+		if (depth > 0) {
+			for (int folderIndex = 0; folderIndex < fanOut; folderIndex++) {
+				String folderName = "f" + folderIndex;
+				createFolderTree(new File(folder, folderName), relativePath + folderName + "/", depth - 1, fanOut, filesPerFolder, classIndex);
+			}
+		}
+	}
+
+	public static void delete(File file) throws IOException {
+		if (file != null && file.exists()) {
+			try (Stream<Path> paths = Files.walk(file.toPath())) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	private static void writeJar(OutputStream destination, int classCount, int firstClassIndex) throws IOException {
+		ZipOutputStream outputStream = new ZipOutputStream(destination);
+		outputStream.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+		outputStream.write("Manifest-Version: 1.0\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+		outputStream.closeEntry();
+		for (int classIndex = firstClassIndex; classIndex < firstClassIndex + classCount; classIndex++) {
+			String className = getClassName(classIndex);
+			outputStream.putNextEntry(new ZipEntry(className + ".class"));
+			outputStream.write(toClassBytes(className, "java/lang/Object"));
+			outputStream.closeEntry();
+		}
+		outputStream.finish();
+	}
+
+	public static String getClassName(int classIndex) {
+		return PACKAGE_PREFIX + "p" + (classIndex / CLASSES_PER_PACKAGE) + "/C" + classIndex;
+	}
+
+	//Writes the smallest valid class file: a public class without members that extends the given super class
+	public static byte[] toClassBytes(String internalName, String superClassInternalName) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream classFile = new DataOutputStream(bytes)) {
+			classFile.writeInt(0xCAFEBABE);
+			classFile.writeShort(0);
+			classFile.writeShort(52);
+			classFile.writeShort(5);
+			classFile.writeByte(1);
+			classFile.writeUTF(internalName);
+			classFile.writeByte(7);
+			classFile.writeShort(1);
+			classFile.writeByte(1);
+			classFile.writeUTF(superClassInternalName);
+			classFile.writeByte(7);
+			classFile.writeShort(3);
+			classFile.writeShort(0x0021);
+			classFile.writeShort(2);
+			classFile.writeShort(4);
+			classFile.writeShort(0);
+			classFile.writeShort(0);
+			classFile.writeShort(0);
+			classFile.writeShort(0);
+		}
+		return bytes.toByteArray();
+	}
+
+}
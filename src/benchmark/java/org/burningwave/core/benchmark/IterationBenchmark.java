@@ -0,0 +1,70 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IterationBenchmark {
+
+	@Param({"10000", "1000000"})
+	int itemCount;
+
+	@Param({"sequential", "evenly-split", "adaptive-chunked"})
+	String strategy;
+
+	List<Integer> list;
+	Collection<Integer> set;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		list = new ArrayList<>(itemCount);
+		for (int index = 0; index < itemCount; index++) {
+			list.add(index);
+		}
+		set = new HashSet<>(list);
+	}
+
+	@Benchmark
+	public long iterateList() {
+		return iterate(list);
+	}
+
+	@Benchmark
+	public long iterateSet() {
+		return iterate(set);
+	}
+
+	long iterate(Collection<Integer> items) {
+		LongAdder sum = new LongAdder();
+		IterationConfig<Integer, Collection<Integer>, ?> config = IterationConfig.of(items)
+			.parallelIf(coll -> !strategy.equals("sequential"))
+			.withAction(sum::add);
+		if (strategy.equals("adaptive-chunked")) {
+			config.adaptiveChunked();
+		} else {
+			config.evenlySplit();
+		}
+		IterableObjectHelper.iterate(config);
+		return sum.sum();
+	}
+
+}
@@ -0,0 +1,81 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+//The lookup of the Cache.PathForResources before the in-flight loadings: every miss and every removal goes
+//through a string-keyed mutex of the Synchronizer and the partition is computed by streaming the characters
+//of the path. It's kept only to compare the two implementations in the CacheBenchmark
+class MutexBasedPathForResources<R> {
+	private final Map<Long, Map<String, Map<String, R>>> resources;
+	private final Long partitionStartLevel;
+	private final String instanceId;
+
+	MutexBasedPathForResources() {
+		this.resources = new ConcurrentHashMap<>();
+		this.partitionStartLevel = 1L;
+		this.instanceId = this.toString();
+	}
+
+	R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
+		Map<String, R> loadedResources = getNestedPartition(path);
+		R resource = loadedResources.get(path);
+		if (resource == null) {
+			resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+				R resourceTemp = loadedResources.get(path);
+				if ((resourceTemp == null) && (resourceSupplier != null)) {
+					resourceTemp = resourceSupplier.get();
+					if (resourceTemp != null) {
+						loadedResources.put(path, resourceTemp);
+					}
+				}
+				return resourceTemp;
+			});
+		}
+		return resource;
+	}
+
+	R remove(String path) {
+		Map<String, R> nestedPartition = getNestedPartition(path);
+		return Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+			return nestedPartition.remove(path);
+		});
+	}
+
+	private Map<String, R> getNestedPartition(String path) {
+		Long occurences = path.chars().filter(ch -> ch == '/').count();
+		Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
+		Map<String, Map<String, R>> partion = resources.get(partitionIndex);
+		if (partion == null) {
+			partion = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
+				Map<String, Map<String, R>> resourcesTemp = resources.get(partitionIndex);
+				if (resourcesTemp == null) {
+					resources.put(partitionIndex, resourcesTemp = new ConcurrentHashMap<>());
+				}
+				return resourcesTemp;
+			});
+		}
+		String partitionKey = "/";
+		if (partitionIndex > 1) {
+			partitionKey = path.substring(0, path.lastIndexOf("/"));
+			partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
+		}
+		Map<String, R> innerPartion = partion.get(partitionKey);
+		if (innerPartion == null) {
+			String finalPartitionKey = partitionKey;
+			Map<String, Map<String, R>> finalPartion = partion;
+			innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
+				Map<String, R> innerPartionTemp = finalPartion.get(finalPartitionKey);
+				if (innerPartionTemp == null) {
+					finalPartion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
+				}
+				return innerPartionTemp;
+			});
+		}
+		return innerPartion;
+	}
+
+}
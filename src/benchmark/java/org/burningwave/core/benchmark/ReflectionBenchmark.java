@@ -0,0 +1,83 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ByFieldOrByMethodPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.classes.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReflectionBenchmark {
+
+	Target target = new Target();
+	org.burningwave.core.classes.Methods.Invoker invoker = Methods.bind(Target.class, "sum", int.class, long.class);
+	FieldAccessor.CompiledPath compiledPath = ByFieldOrByMethodPropertyAccessor.compile(Target.class, "value");
+
+	@Benchmark
+	public Object methodsInvoke() {
+		return Methods.invoke(target, "sum", 1, 2L);
+	}
+
+	@Benchmark
+	public Object methodsInvokeDirect() {
+		return Methods.invokeDirect(target, "sum", 1, 2L);
+	}
+
+	@Benchmark
+	public Object methodsBoundInvoker() {
+		return invoker.invoke(target, 1, 2L);
+	}
+
+	@Benchmark
+	public Object methodsInvokeOverloaded() {
+		return Methods.invoke(target, "sum", 1, 2);
+	}
+
+	@Benchmark
+	public Object fieldsGet() {
+		return Fields.get(target, "value");
+	}
+
+	@Benchmark
+	public Object fieldsGetDirect() {
+		return Fields.getDirect(target, "value");
+	}
+
+	@Benchmark
+	public Object propertyAccessorGet() {
+		return ByFieldOrByMethodPropertyAccessor.get(target, "value");
+	}
+
+	@Benchmark
+	public Object propertyAccessorCompiledGet() {
+		return compiledPath.get(target);
+	}
+
+	public static class Target {
+		private String value = "value";
+
+		public long sum(int first, long second) {
+			return first + second;
+		}
+
+		public int sum(int first, int second) {
+			return first + second;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+
+}
@@ -0,0 +1,468 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.burningwave.core.ManagedLogger.Repository;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
+
+//A repository that checks the logging level before doing anything else and that hands the events to a bounded
+//buffer drained by a single writer thread: the caller frame is captured only for the enabled events and the
+//messages are formatted by the writer thread, so the arguments are converted to string after the call returns
+public class AsyncManagedLoggerRepository extends Repository.Abst {
+	private static final Function<String, StackTraceElement> callerFrameFinder;
+
+	private Map<String, LoggingLevel.Mutable> loggers;
+	private BlockingQueue<Event> events;
+	private OverflowPolicy overflowPolicy;
+	private AtomicLong discardedEventCount;
+	private long reportedDiscardedEventCount;
+	private SimpleDateFormat dateFormat;
+	private Thread writer;
+	private Thread flusher;
+
+	static {
+		callerFrameFinder = createCallerFrameFinder();
+	}
+
+	public AsyncManagedLoggerRepository(Map<?, ?> properties) {
+		super(properties);
+	}
+
+	@Override
+	void initSpecificElements(Map<?, ?> properties) {
+		loggers = new ConcurrentHashMap<>();
+		events = new ArrayBlockingQueue<>(
+			Objects.toInt(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Repository.Configuration.Key.ASYNC_BUFFER_SIZE)
+					.on(properties)
+					.withDefaultValues(Repository.Configuration.DEFAULT_VALUES)
+				)
+			)
+		);
+		overflowPolicy = OverflowPolicy.forLabel(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Repository.Configuration.Key.ASYNC_OVERFLOW_POLICY)
+				.on(properties)
+				.withDefaultValues(Repository.Configuration.DEFAULT_VALUES)
+			)
+		);
+		discardedEventCount = new AtomicLong();
+		dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss.SSS");
+		writer = new Thread(this::writeEvents, "Burningwave - ManagedLoggerRepository writer");
+		writer.setDaemon(true);
+		writer.start();
+		flusher = new Thread(this::writeRemainingEvents, "Burningwave - ManagedLoggerRepository flusher");
+		Runtime.getRuntime().addShutdownHook(flusher);
+	}
+
+	@Override
+	void resetSpecificElements() {
+		loggers.clear();
+	}
+
+	private LoggingLevel.Mutable getLoggerEnabledFlag(String clientName) {
+		LoggingLevel.Mutable loggerEnabledFlag = loggers.get(clientName);
+		if (loggerEnabledFlag == null) {
+			loggerEnabledFlag = new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED);
+			LoggingLevel.Mutable previousLoggerEnabledFlag = loggers.putIfAbsent(clientName, loggerEnabledFlag);
+			if (previousLoggerEnabledFlag != null) {
+				loggerEnabledFlag = previousLoggerEnabledFlag;
+			}
+		}
+		return loggerEnabledFlag;
+	}
+
+	@Override
+	public void setLoggingLevelFlags(Class<?> cls, Integer flags) {
+		getLoggerEnabledFlag(cls.getName()).set(flags);
+	}
+
+	@Override
+	public Integer getLoggingLevelFlags(Class<?> cls) {
+		return getLoggerEnabledFlag(cls.getName()).flags;
+	}
+
+	@Override
+	public void addLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		for (String className : classNames) {
+			getLoggerEnabledFlag(className).add(logLevel.flags);
+		}
+	}
+
+	@Override
+	public void removeLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		for (String className : classNames) {
+			getLoggerEnabledFlag(className).remove(logLevel.flags);
+		}
+	}
+
+	@Override
+	public void setLoggingLevelFor(LoggingLevel logLevel, String... classNames) {
+		for (String className : classNames) {
+			getLoggerEnabledFlag(className).set(logLevel.flags);
+		}
+	}
+
+	@Override
+	public void disableLogging(String clientName) {
+		loggers.put(clientName, new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_DISABLED));
+	}
+
+	@Override
+	public void enableLogging(String clientName) {
+		loggers.put(clientName, new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
+	}
+
+	public long getDiscardedEventCount() {
+		return discardedEventCount.get();
+	}
+
+	private void log(Supplier<String> clientNameSupplier, LoggingLevel level, PrintStream printStream, String message, Throwable exception, Object... arguments) {
+		if (!isEnabled) {
+			return;
+		}
+		String clientName = clientNameSupplier.get();
+		if (!getLoggerEnabledFlag(clientName).partialyMatch(level)) {
+			return;
+		}
+		Event event = new Event(
+			System.currentTimeMillis(), Thread.currentThread().getName(), clientName,
+			callerFrameFinder.apply(AsyncManagedLoggerRepository.class.getName()),
+			printStream, message, arguments, exception
+		);
+		if (events.offer(event)) {
+			return;
+		}
+		if (overflowPolicy == OverflowPolicy.WAIT) {
+			try {
+				events.put(event);
+				return;
+			} catch (InterruptedException exc) {
+				Thread.currentThread().interrupt();
+			}
+		} else if (overflowPolicy == OverflowPolicy.WRITE_IN_CALLER_THREAD) {
+			write(event);
+			return;
+		}
+		discardedEventCount.incrementAndGet();
+	}
+
+	//Returns when the events logged before the call have been written: a flush request is queued behind them and
+	//the caller waits for the writer to reach it, or writes the remaining events itself if the writer has stopped
+	public void flush() {
+		FlushRequest flushRequest = new FlushRequest();
+		try {
+			while (!events.offer(flushRequest, 100, TimeUnit.MILLISECONDS)) {
+				if (!writer.isAlive()) {
+					writeRemainingEvents();
+					return;
+				}
+			}
+			while (!flushRequest.await(100)) {
+				if (!writer.isAlive()) {
+					writeRemainingEvents();
+					return;
+				}
+			}
+		} catch (InterruptedException exc) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void writeEvents() {
+		try {
+			while (true) {
+				process(events.take());
+				Event event;
+				while ((event = events.poll()) != null) {
+					process(event);
+				}
+				reportDiscardedEvents();
+			}
+		} catch (InterruptedException exc) {
+			//Interrupted by the close method that writes the remaining events
+		}
+	}
+
+	private void writeRemainingEvents() {
+		Event event;
+		while ((event = events.poll()) != null) {
+			process(event);
+		}
+		reportDiscardedEvents();
+	}
+
+	private void process(Event event) {
+		if (event instanceof FlushRequest) {
+			reportDiscardedEvents();
+			((FlushRequest)event).countDown();
+		} else {
+			write(event);
+		}
+	}
+
+	private synchronized void reportDiscardedEvents() {
+		long discardedEventCount = this.discardedEventCount.get();
+		if (discardedEventCount != reportedDiscardedEventCount) {
+			System.err.println(
+				dateFormat.format(new Date()) + " [" + Thread.currentThread().getName() + "] - " + getClass().getName() + " - " +
+				(discardedEventCount - reportedDiscardedEventCount) + " log events discarded because the buffer was full (" +
+				discardedEventCount + " in total)"
+			);
+			reportedDiscardedEventCount = discardedEventCount;
+		}
+	}
+
+	private synchronized void write(Event event) {
+		String message = event.arguments != null && event.arguments.length > 0 ?
+			Strings.compile(event.message, event.arguments) :
+			event.message;
+		if (event.callerFrame != null) {
+			message = addDetailsToMessage(message, event.callerFrame);
+		}
+		event.printStream.println(
+			dateFormat.format(new Date(event.timestamp)) + " [" + event.threadName + "] - " + event.clientName + " - " + message
+		);
+		if (event.exception != null) {
+			event.exception.printStackTrace(event.printStream);
+		}
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, Throwable exc) {
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, "Exception occurred", exc);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, exc, arguments);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc) {
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, exc);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, null, arguments);
+	}
+
+	@Override
+	public void logError(Supplier<String> clientNameSupplier, String message) {
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, null);
+	}
+
+	@Override
+	public void logDebug(Supplier<String> clientNameSupplier, String message) {
+		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, message, null);
+	}
+
+	@Override
+	public void logDebug(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, message, null, arguments);
+	}
+
+	@Override
+	public void logInfo(Supplier<String> clientNameSupplier, String message) {
+		log(clientNameSupplier, LoggingLevel.INFO, System.out, message, null);
+	}
+
+	@Override
+	public void logInfo(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.INFO, System.out, message, null, arguments);
+	}
+
+	@Override
+	public void logWarn(Supplier<String> clientNameSupplier, String message) {
+		log(clientNameSupplier, LoggingLevel.WARN, System.out, message, null);
+	}
+
+	@Override
+	public void logWarn(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.WARN, System.out, message, null, arguments);
+	}
+
+	@Override
+	public void logTrace(Supplier<String> clientNameSupplier, String message) {
+		log(clientNameSupplier, LoggingLevel.TRACE, System.out, message, null);
+	}
+
+	@Override
+	public void logTrace(Supplier<String> clientNameSupplier, String message, Object... arguments) {
+		log(clientNameSupplier, LoggingLevel.TRACE, System.out, message, null, arguments);
+	}
+
+	@Override
+	public void close() {
+		writer.interrupt();
+		try {
+			writer.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException exc) {
+			Thread.currentThread().interrupt();
+		}
+		writeRemainingEvents();
+		try {
+			Runtime.getRuntime().removeShutdownHook(flusher);
+		} catch (IllegalStateException exc) {
+			//The shutdown is in progress and the flusher is running
+		}
+		this.loggers.clear();
+		super.close();
+	}
+
+	//Uses the StackWalker, when available, to walk only the frames up to the caller one, otherwise falls back
+	//on the stack trace of a new Throwable
+	private static Function<String, StackTraceElement> createCallerFrameFinder() {
+		try {
+			Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+			Class<?> stackFrameClass = Class.forName("java.lang.StackWalker$StackFrame");
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			Object stackWalker = lookup.findStatic(stackWalkerClass, "getInstance", MethodType.methodType(stackWalkerClass)).invoke();
+			MethodHandle walker = lookup.findVirtual(
+				stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class)
+			).bindTo(stackWalker);
+			MethodHandle classNameRetriever = lookup.findVirtual(stackFrameClass, "getClassName", MethodType.methodType(String.class));
+			MethodHandle stackTraceElementRetriever = lookup.findVirtual(
+				stackFrameClass, "toStackTraceElement", MethodType.methodType(StackTraceElement.class)
+			);
+			return repositoryClassName -> {
+				try {
+					return (StackTraceElement)walker.invoke((Function<Stream<Object>, Object>)frames -> frames.filter(frame -> {
+						try {
+							return !isLoggingFrame((String)classNameRetriever.invoke(frame), repositoryClassName);
+						} catch (Throwable exc) {
+							return false;
+						}
+					}).findFirst().map(frame -> {
+						try {
+							return (StackTraceElement)stackTraceElementRetriever.invoke(frame);
+						} catch (Throwable exc) {
+							return null;
+						}
+					}).orElse(null));
+				} catch (Throwable exc) {
+					return null;
+				}
+			};
+		} catch (Throwable exc) {
+			return repositoryClassName -> {
+				for (StackTraceElement stackTraceElement : new Throwable().getStackTrace()) {
+					if (!isLoggingFrame(stackTraceElement.getClassName(), repositoryClassName)) {
+						return stackTraceElement;
+					}
+				}
+				return null;
+			};
+		}
+	}
+
+	private static boolean isLoggingFrame(String className, String repositoryClassName) {
+		return className.startsWith(repositoryClassName) || className.equals(ManagedLogger.class.getName());
+	}
+
+	private static enum OverflowPolicy {
+		DISCARD, WAIT, WRITE_IN_CALLER_THREAD;
+
+		static OverflowPolicy forLabel(String label) {
+			return valueOf(label.trim().toUpperCase().replace("-", "_"));
+		}
+	}
+
+	private static class Event {
+		private final long timestamp;
+		private final String threadName;
+		private final String clientName;
+		private final StackTraceElement callerFrame;
+		private final PrintStream printStream;
+		private final String message;
+		private final Object[] arguments;
+		private final Throwable exception;
+
+		Event(
+			long timestamp,
+			String threadName,
+			String clientName,
+			StackTraceElement callerFrame,
+			PrintStream printStream,
+			String message,
+			Object[] arguments,
+			Throwable exception
+		) {
+			this.timestamp = timestamp;
+			this.threadName = threadName;
+			this.clientName = clientName;
+			this.callerFrame = callerFrame;
+			this.printStream = printStream;
+			this.message = message;
+			this.arguments = arguments;
+			this.exception = exception;
+		}
+	}
+
+	private static class FlushRequest extends Event {
+		private final CountDownLatch writtenEvents;
+
+		FlushRequest() {
+			super(0, null, null, null, null, null, null, null);
+			writtenEvents = new CountDownLatch(1);
+		}
+
+		void countDown() {
+			writtenEvents.countDown();
+		}
+
+		boolean await(long timeout) throws InterruptedException {
+			return writtenEvents.await(timeout, TimeUnit.MILLISECONDS);
+		}
+	}
+
+}
@@ -30,26 +30,37 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
-import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import org.burningwave.core.classes.Members;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
@@ -57,9 +68,43 @@ import org.burningwave.core.function.TriConsumer;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 
 public class Cache {
+
+	public static abstract class Configuration {
+
+		public static abstract class Key {
+
+			public static final String PREFIX = "cache.";
+			public static final String MAX_ENTRIES_SUFFIX = ".max-entries";
+			public static final String MAX_WEIGHT_SUFFIX = ".max-weight";
+			public static final String EVICTION_POLICY_SUFFIX = ".eviction-policy";
+			public static final String TIME_TO_IDLE_SUFFIX = ".time-to-idle";
+			public static final String PATH_FOR_CONTENTS_RELEASE_EVICTED_BUFFERS = PREFIX + "path-for-contents.release-evicted-buffers";
+
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+
+			defaultValues.put(Key.PATH_FOR_CONTENTS_RELEASE_EVICTED_BUFFERS, "false");
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+
+	public enum EvictionPolicy {
+		LRU, LFU, TIME_TO_IDLE;
+
+		public static EvictionPolicy forName(String name) {
+			return valueOf(name.trim().toUpperCase().replace("-", "_"));
+		}
+	}
+
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForIterableZipContainers;
@@ -71,36 +116,65 @@ public class Cache {
 	public final ObjectAndPathForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
 	public final ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
+	public final ObjectAndKeyForResources<ClassLoader, Members.Handler.InvocationKey, Object> invocationKeyForResources;
 
-	private Cache() {
+	private Cache(Map<?, ?> config) {
 		ManagedLoggerRepository.logInfo(getClass()::getName, "Building cache");
-		pathForContents = new PathForResources<>(BufferHandler::shareContent);
-		pathForFileSystemItems = new PathForResources<>(
+		pathForContents = new PathForResources<>(BufferHandler::shareContent).setCapacity(
+			config, "path-for-contents", buffer -> BufferHandler.limit(buffer),
+			Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.PATH_FOR_CONTENTS_RELEASE_EVICTED_BUFFERS)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			) ? (path, buffer) -> {
+				//The memory mapped contents are shared through views and are unmapped by the garbage collector
+				if (!BufferHandler.isMemoryMapped(buffer)) {
+					BufferHandler.destroy(buffer, true);
+				}
+			} : null
+		);
+		pathForFileSystemItems = new PathForResources<FileSystemItem>(
 			(path, fileSystemItem) ->
 				fileSystemItem.destroy()
-		);
-		pathForIterableZipContainers = new PathForResources<>(
+		).setCapacity(config, "path-for-file-system-items", null, null);
+		pathForIterableZipContainers = new PathForResources<IterableZipContainer>(
 			(path, zipFileContainer) ->
 				zipFileContainer.destroy()
-		);
-		classLoaderForFields = new ObjectAndPathForResources<>();
-		classLoaderForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForFields = new ObjectAndPathForResources<>();
-		uniqueKeyForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>();
-		classLoaderForConstructors = new ObjectAndPathForResources<>();
-		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
+		).setCapacity(config, "path-for-iterable-zip-containers", null, null);
+		classLoaderForFields = new ObjectAndPathForResources<ClassLoader, Field[]>().setCapacity(config, "class-loader-for-fields");
+		classLoaderForMethods = new ObjectAndPathForResources<ClassLoader, Method[]>().setCapacity(config, "class-loader-for-methods");
+		uniqueKeyForFields = new ObjectAndPathForResources<ClassLoader, Collection<Field>>().setCapacity(config, "unique-key-for-fields");
+		uniqueKeyForMethods = new ObjectAndPathForResources<ClassLoader, Collection<Method>>().setCapacity(config, "unique-key-for-methods");
+		uniqueKeyForConstructors = new ObjectAndPathForResources<ClassLoader, Collection<Constructor<?>>>().setCapacity(config, "unique-key-for-constructors");
+		classLoaderForConstructors = new ObjectAndPathForResources<ClassLoader, Constructor<?>[]>().setCapacity(config, "class-loader-for-constructors");
+		bindedFunctionalInterfaces = new ObjectAndPathForResources<ClassLoader, Object>().setCapacity(config, "binded-functional-interfaces");
+		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>>().setCapacity(config, "unique-key-for-executable-and-method-handle");
+		invocationKeyForResources = new ObjectAndKeyForResources<ClassLoader, Members.Handler.InvocationKey, Object>().setCapacity(config, "invocation-key-for-resources");
 	}
 
 	public static Cache create() {
-		return new Cache();
+		return new Cache(Collections.emptyMap());
+	}
+
+	public static Cache create(Map<?, ?> config) {
+		return new Cache(config);
+	}
+
+	static String resolveCapacityValue(Map<?, ?> config, String cacheName, String suffix) {
+		return IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(Configuration.Key.PREFIX + cacheName + suffix)
+			.on(config)
+		);
 	}
 
 	public static class ObjectAndPathForResources<T, R> {
 		Map<T, PathForResources<R>> resources;
 		Supplier<PathForResources<R>> pathForResourcesSupplier;
 		String instanceId;
+		Map<?, ?> capacityConfig;
+		String capacityConfigName;
 
 		public ObjectAndPathForResources() {
 			this(1L, item -> item, null );
@@ -116,31 +190,54 @@ public class Cache {
 
 		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
 			this.resources = new ConcurrentHashMap<>();
-			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer);
+			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer).setCapacity(
+				capacityConfig, capacityConfigName, null, null
+			);
 			this.instanceId = Objects.getId(this);
 		}
 
-		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
-			PathForResources<R> pathForResources = resources.get(object);
-			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_" + Objects.getId(object), () -> getPathForResource(object));
+		ObjectAndPathForResources<T, R> setCapacity(Map<?, ?> config, String name) {
+			this.capacityConfig = config;
+			this.capacityConfigName = name;
+			return this;
+		}
+
+		public long getHitCount() {
+			long count = 0;
+			for (PathForResources<R> pathForResources : resources.values()) {
+				count += pathForResources.getHitCount();
 			}
-			return pathForResources.getOrUploadIfAbsent(path, resourceSupplier);
+			return count;
 		}
 
-		public R get(T object, String path) {
-			PathForResources<R> pathForResources = resources.get(object);
-			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_mutexManagerForResources_" + Objects.getId(object), () -> getPathForResource(object));
+		public long getMissCount() {
+			long count = 0;
+			for (PathForResources<R> pathForResources : resources.values()) {
+				count += pathForResources.getMissCount();
 			}
-			return pathForResources.get(path);
+			return count;
+		}
+
+		public long getEvictionCount() {
+			long count = 0;
+			for (PathForResources<R> pathForResources : resources.values()) {
+				count += pathForResources.getEvictionCount();
+			}
+			return count;
+		}
+
+		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
+			return getPathForResource(object).getOrUploadIfAbsent(path, resourceSupplier);
+		}
+
+		public R get(T object, String path) {
+			return getPathForResource(object).get(path);
 		}
 
 		private PathForResources<R> getPathForResource(T object) {
 			PathForResources<R> pathForResources = resources.get(object);
 			if (pathForResources == null) {
-				pathForResources = pathForResourcesSupplier.get();
-				resources.put(object, pathForResources);
+				pathForResources = resources.computeIfAbsent(object, key -> pathForResourcesSupplier.get());
 			}
 			return pathForResources;
 		}
@@ -210,12 +307,243 @@ public class Cache {
 		}
 	}
 
+	//Unlike ObjectAndPathForResources the resources are stored by structured keys that implement equals and
+	//hashCode, so a lookup does not need to build a path: the capacity, if configured, bounds the resources of
+	//each object
+	public static class ObjectAndKeyForResources<T, K, R> {
+		Map<T, KeyForResources<K, R>> resources;
+		EvictionPolicy evictionPolicy;
+		long maxEntries;
+		long timeToIdle;
+		LongAdder hitCount;
+		LongAdder missCount;
+		LongAdder evictionCount;
+
+		public ObjectAndKeyForResources() {
+			this.resources = new ConcurrentHashMap<>();
+			this.maxEntries = -1;
+			this.timeToIdle = -1;
+			this.hitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.evictionCount = new LongAdder();
+		}
+
+		ObjectAndKeyForResources<T, K, R> setCapacity(Map<?, ?> config, String name) {
+			if (config == null || name == null) {
+				return this;
+			}
+			String maxEntries = resolveCapacityValue(config, name, Configuration.Key.MAX_ENTRIES_SUFFIX);
+			String timeToIdle = resolveCapacityValue(config, name, Configuration.Key.TIME_TO_IDLE_SUFFIX);
+			String evictionPolicy = resolveCapacityValue(config, name, Configuration.Key.EVICTION_POLICY_SUFFIX);
+			return setCapacity(
+				maxEntries != null ? Long.valueOf(maxEntries.trim()) : -1,
+				timeToIdle != null ? Long.valueOf(timeToIdle.trim()) : -1,
+				evictionPolicy != null ? EvictionPolicy.forName(evictionPolicy) : null
+			);
+		}
+
+		public ObjectAndKeyForResources<T, K, R> setCapacity(long maxEntries, long timeToIdle, EvictionPolicy evictionPolicy) {
+			this.maxEntries = maxEntries;
+			this.timeToIdle = timeToIdle;
+			if (maxEntries > 0 || timeToIdle > 0) {
+				this.evictionPolicy = evictionPolicy != null ?
+					evictionPolicy :
+					maxEntries <= 0 ?
+						EvictionPolicy.TIME_TO_IDLE :
+						EvictionPolicy.LRU;
+			} else {
+				this.evictionPolicy = null;
+			}
+			return this;
+		}
+
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		public R getOrUploadIfAbsent(T object, K key, Supplier<R> resourceSupplier) {
+			KeyForResources<K, R> resources = getResources(object);
+			R resource = get(resources, key);
+			if (resource == null) {
+				resource = resourceSupplier.get();
+				if (resource != null) {
+					R previousResource = resources.items.putIfAbsent(key, resource);
+					if (previousResource != null) {
+						return previousResource;
+					}
+					if (resources.usages != null) {
+						resources.usages.put(key, 1);
+						evictIfNeeded(resources);
+					}
+				}
+			}
+			return resource;
+		}
+
+		public R get(T object, K key) {
+			KeyForResources<K, R> resources = this.resources.get(object);
+			if (resources == null) {
+				missCount.increment();
+				return null;
+			}
+			return get(resources, key);
+		}
+
+		R get(KeyForResources<K, R> resources, K key) {
+			R resource = resources.items.get(key);
+			if (resources.usages != null) {
+				if (resource != null && !resources.usages.touch(key, System.currentTimeMillis(), timeToIdle)) {
+					evict(resources, key, resource);
+					resource = null;
+				}
+				evictIdleEntriesIfNeeded(resources);
+			}
+			if (resource != null) {
+				hitCount.increment();
+			} else {
+				missCount.increment();
+			}
+			return resource;
+		}
+
+		//Evicts in batch until the resources of the object are below the 90% of the maximum entries
+		void evictIfNeeded(KeyForResources<K, R> resources) {
+			if (maxEntries <= 0 || resources.usages.size() <= maxEntries || !resources.evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				long entriesTarget = maxEntries * 9 / 10;
+				for (K key : resources.usages.getInEvictionOrder()) {
+					if (resources.usages.size() <= entriesTarget) {
+						break;
+					}
+					evict(resources, key);
+				}
+			} finally {
+				resources.evicting.set(false);
+			}
+		}
+
+		void evictIdleEntriesIfNeeded(KeyForResources<K, R> resources) {
+			if (timeToIdle <= 0) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			if (now < resources.nextIdleEntriesEvictionTime || !resources.evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				resources.nextIdleEntriesEvictionTime = now + Math.max(timeToIdle / 2, 1);
+				for (K key : resources.usages.getIdle(now, timeToIdle)) {
+					evict(resources, key);
+				}
+			} finally {
+				resources.evicting.set(false);
+			}
+		}
+
+		void evict(KeyForResources<K, R> resources, K key) {
+			R resource = resources.items.get(key);
+			if (resource != null) {
+				evict(resources, key, resource);
+			} else {
+				resources.usages.remove(key);
+			}
+		}
+
+		void evict(KeyForResources<K, R> resources, K key, R resource) {
+			if (resources.items.remove(key, resource)) {
+				resources.usages.remove(key);
+				evictionCount.increment();
+			}
+		}
+
+		private KeyForResources<K, R> getResources(T object) {
+			KeyForResources<K, R> resources = this.resources.get(object);
+			if (resources == null) {
+				resources = this.resources.computeIfAbsent(object, obj -> new KeyForResources<>(evictionPolicy));
+			}
+			return resources;
+		}
+
+		public Map<K, R> remove(T object) {
+			KeyForResources<K, R> resources = this.resources.remove(object);
+			return resources != null ? resources.items : null;
+		}
+
+		public R remove(T object, K key) {
+			KeyForResources<K, R> resources = this.resources.get(object);
+			if (resources == null) {
+				return null;
+			}
+			R resource = resources.items.remove(key);
+			if (resource != null && resources.usages != null) {
+				resources.usages.remove(key);
+			}
+			return resource;
+		}
+
+		QueuedTaskExecutor.Task clearInBackground() {
+			Map<T, KeyForResources<K, R>> resources;
+			synchronized (this.resources) {
+				resources = this.resources;
+				this.resources = new ConcurrentHashMap<>();
+			}
+			return BackgroundExecutor.createTask(task -> {
+				for (KeyForResources<K, R> item : resources.values()) {
+					item.items.clear();
+					if (item.usages != null) {
+						item.usages.clear();
+					}
+				}
+				resources.clear();
+			}).submit();
+		}
+
+		private static class KeyForResources<K, R> {
+			private final Map<K, R> items;
+			private final Usages<K> usages;
+			private final AtomicBoolean evicting;
+			private volatile long nextIdleEntriesEvictionTime;
+
+			private KeyForResources(EvictionPolicy evictionPolicy) {
+				this.items = new ConcurrentHashMap<>();
+				this.usages = evictionPolicy != null ? new Usages<>(evictionPolicy == EvictionPolicy.LFU) : null;
+				this.evicting = new AtomicBoolean();
+			}
+		}
+
+	}
+
 	public static class PathForResources<R> {
 		Map<Long, Map<String, Map<String, R>>> resources;
+		Map<String, Loading<R>> loadings;
+		Map<String, Location> locations;
 		Long partitionStartLevel;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
 		String instanceId;
+		EvictionPolicy evictionPolicy;
+		long maxEntries;
+		long maxWeight;
+		long timeToIdle;
+		ToLongFunction<R> weigher;
+		BiConsumer<String, R> evictedItemDestroyer;
+		Usages<String> usages;
+		AtomicLong totalWeight;
+		AtomicBoolean evicting;
+		volatile long nextIdleEntriesEvictionTime;
+		LongAdder hitCount;
+		LongAdder missCount;
+		LongAdder evictionCount;
 
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -249,70 +577,261 @@ public class Cache {
 			this.partitionStartLevel = partitionStartLevel;
 			this.sharer = sharer;
 			this.resources = new ConcurrentHashMap<>();
+			this.loadings = new ConcurrentHashMap<>();
+			this.locations = new ConcurrentHashMap<>();
 			this.itemDestroyer = itemDestroyer;
 			this.instanceId = this.toString();
+			this.maxEntries = -1;
+			this.maxWeight = -1;
+			this.timeToIdle = -1;
+			this.hitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.evictionCount = new LongAdder();
 		}
 
-		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
-			String partitionKey = "/";
-			if (partitionIndex > 1) {
-				partitionKey = path.substring(0, path.lastIndexOf("/"));
-				partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
+		PathForResources<R> setCapacity(Map<?, ?> config, String name, ToLongFunction<R> weigher, BiConsumer<String, R> evictedItemDestroyer) {
+			if (config == null || name == null) {
+				return this;
 			}
+			String maxEntries = resolveCapacityValue(config, name, Configuration.Key.MAX_ENTRIES_SUFFIX);
+			String maxWeight = resolveCapacityValue(config, name, Configuration.Key.MAX_WEIGHT_SUFFIX);
+			String timeToIdle = resolveCapacityValue(config, name, Configuration.Key.TIME_TO_IDLE_SUFFIX);
+			String evictionPolicy = resolveCapacityValue(config, name, Configuration.Key.EVICTION_POLICY_SUFFIX);
+			return setCapacity(
+				maxEntries != null ? Long.valueOf(maxEntries.trim()) : -1,
+				maxWeight != null ? Long.valueOf(maxWeight.trim()) : -1,
+				timeToIdle != null ? Long.valueOf(timeToIdle.trim()) : -1,
+				evictionPolicy != null ? EvictionPolicy.forName(evictionPolicy) : null,
+				weigher,
+				evictedItemDestroyer
+			);
+		}
+
+		public PathForResources<R> setCapacity(
+			long maxEntries,
+			long maxWeight,
+			long timeToIdle,
+			EvictionPolicy evictionPolicy,
+			ToLongFunction<R> weigher,
+			BiConsumer<String, R> evictedItemDestroyer
+		) {
+			this.maxEntries = maxEntries;
+			this.maxWeight = weigher != null ? maxWeight : -1;
+			this.timeToIdle = timeToIdle;
+			this.weigher = weigher;
+			this.evictedItemDestroyer = evictedItemDestroyer;
+			if (maxEntries > 0 || this.maxWeight > 0 || timeToIdle > 0) {
+				this.evictionPolicy = evictionPolicy != null ?
+					evictionPolicy :
+					maxEntries <= 0 && this.maxWeight <= 0 ?
+						EvictionPolicy.TIME_TO_IDLE :
+						EvictionPolicy.LRU;
+				this.usages = new Usages<>(this.evictionPolicy == EvictionPolicy.LFU);
+				this.totalWeight = new AtomicLong();
+				this.evicting = new AtomicBoolean();
+			} else {
+				this.evictionPolicy = null;
+				this.usages = null;
+			}
+			return this;
+		}
+
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		public long getTotalWeight() {
+			return totalWeight != null ? totalWeight.get() : -1;
+		}
+
+		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, String partitionKey) {
 			Map<String, R> innerPartion = partion.get(partitionKey);
 			if (innerPartion == null) {
-				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
-					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
-					if (innerPartionTemp == null) {
-						partion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
-					}
-					return innerPartionTemp;
-				});
+				innerPartion = partion.computeIfAbsent(partitionKey, key -> new ConcurrentHashMap<>());
 			}
 			return innerPartion;
 		}
 
 		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
 			R resource = loadedResources.get(path);
-			if (resource == null) {
-				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-					R resourceTemp = loadedResources.get(path);
-					if ((resourceTemp == null) && (resourceSupplier != null)) {
-						resourceTemp = resourceSupplier.get();
-						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
-						}
-					}
-					return resourceTemp;
-				});
+			if (usages != null) {
+				if (resource != null && !usages.touch(path, System.currentTimeMillis(), timeToIdle)) {
+					evict(loadedResources, path, resource);
+					resource = null;
+				}
+				evictIdleEntriesIfNeeded();
+			}
+			if (resource != null) {
+				hitCount.increment();
+			} else {
+				missCount.increment();
+				if (resourceSupplier != null) {
+					resource = load(loadedResources, path, resourceSupplier);
+				}
 			}
 			return resource != null?
 				sharer.apply(resource) :
 				resource;
 		}
 
+		//Only the first thread that requests a missing path executes the supplier: the other ones wait for its loading
+		R load(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
+			Loading<R> loading = new Loading<>();
+			Loading<R> inFlightLoading = loadings.putIfAbsent(path, loading);
+			if (inFlightLoading != null) {
+				if (inFlightLoading.owner == Thread.currentThread()) {
+					return resourceSupplier.get();
+				}
+				try {
+					return inFlightLoading.join();
+				} catch (CompletionException exc) {
+					return Driver.throwException(exc.getCause());
+				}
+			}
+			try {
+				R resource = loadedResources.get(path);
+				if (resource == null) {
+					resource = resourceSupplier.get();
+					if (resource != null) {
+						put(loadedResources, path, resource = sharer.apply(resource));
+					}
+				}
+				loading.complete(resource);
+				return resource;
+			} catch (Throwable exc) {
+				loading.completeExceptionally(exc);
+				throw exc;
+			} finally {
+				loadings.remove(path, loading);
+			}
+		}
+
+		//The upload waits for the in-flight loading of the same path, so that a stale resource can't overwrite the
+		//uploaded one, and the loadings started in the meantime wait for the upload
 		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
-			R oldResource = remove(path, destroy);
-			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				R resourceTemp = resourceSupplier.get();
-				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+			Loading<R> loading = new Loading<>();
+			Loading<R> inFlightLoading;
+			while ((inFlightLoading = loadings.putIfAbsent(path, loading)) != null && inFlightLoading.owner != Thread.currentThread()) {
+				try {
+					inFlightLoading.join();
+				} catch (CompletionException exc) {
+					//The failure is notified to the thread that requested the loading
+				}
+				Thread.yield();
+			}
+			try {
+				R oldResource = remove(path, destroy);
+				R resource = resourceSupplier.get();
+				if (resource != null) {
+					put(loadedResources, path, resource = sharer.apply(resource));
+				}
+				loading.complete(resource);
+				return oldResource;
+			} catch (Throwable exc) {
+				loading.completeExceptionally(exc);
+				throw exc;
+			} finally {
+				loadings.remove(path, loading);
+			}
+		}
+
+		void put(Map<String, R> loadedResources, String path, R resource) {
+			R oldResource = loadedResources.put(path, resource);
+			locations.computeIfAbsent(path, key -> new Location(key, partitionStartLevel));
+			if (usages != null) {
+				long weight = weigher != null ? weigher.applyAsLong(resource) : 1;
+				Usage oldUsage = usages.put(path, weight);
+				totalWeight.addAndGet(weight - (oldUsage != null && oldResource != null ? oldUsage.weight : 0));
+				if (exceedsCapacity()) {
+					evict();
+				}
+				evictIdleEntriesIfNeeded();
+			}
+		}
+
+		boolean exceedsCapacity() {
+			return (maxEntries > 0 && usages.size() > maxEntries) ||
+				(maxWeight > 0 && totalWeight.get() > maxWeight);
+		}
+
+		//Evicts in batch until the cache is below the 90% of its limits: the eviction order is computed once per batch
+		//on a snapshot of the usages, so that the accesses don't have to keep it updated
+		void evict() {
+			if (!evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				long entriesTarget = maxEntries > 0 ? maxEntries * 9 / 10 : Long.MAX_VALUE;
+				long weightTarget = maxWeight > 0 ? maxWeight * 9 / 10 : Long.MAX_VALUE;
+				for (String path : usages.getInEvictionOrder()) {
+					if (usages.size() <= entriesTarget && totalWeight.get() <= weightTarget) {
+						break;
+					}
+					evict(path);
 				}
-			});
-			return oldResource;
+			} finally {
+				evicting.set(false);
+			}
+		}
+
+		//The idle entries are evicted on access at most twice per time to idle
+		void evictIdleEntriesIfNeeded() {
+			if (timeToIdle <= 0) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			if (now < nextIdleEntriesEvictionTime || !evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				nextIdleEntriesEvictionTime = now + Math.max(timeToIdle / 2, 1);
+				for (String path : usages.getIdle(now, timeToIdle)) {
+					evict(path);
+				}
+			} finally {
+				evicting.set(false);
+			}
+		}
+
+		void evict(String path) {
+			Map<String, R> nestedPartition = getNestedPartition(path);
+			R item = nestedPartition.get(path);
+			if (item != null) {
+				evict(nestedPartition, path, item);
+			} else {
+				Usage usage = usages.remove(path);
+				if (usage != null) {
+					totalWeight.addAndGet(-usage.weight);
+				}
+			}
+		}
+
+		void evict(Map<String, R> loadedResources, String path, R item) {
+			if (loadedResources.remove(path, item)) {
+				locations.remove(path);
+				Usage usage = usages.remove(path);
+				if (usage != null) {
+					totalWeight.addAndGet(-usage.weight);
+				}
+				evictionCount.increment();
+				if (evictedItemDestroyer != null) {
+					evictedItemDestroyer.accept(path, item);
+				}
+			}
 		}
 
 		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
 			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
 			if (resources == null) {
-				resources = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
-					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
-					if (resourcesTemp == null) {
-						partitionedResources.put(partitionIndex, resourcesTemp = new ConcurrentHashMap<>());
-					}
-					return resourcesTemp;
-				});
+				resources = partitionedResources.computeIfAbsent(partitionIndex, key -> new ConcurrentHashMap<>());
 			}
 			return resources;
 		}
@@ -321,11 +840,14 @@ public class Cache {
 			return upload(getNestedPartition(path), path, resourceSupplier, destroy);
 		}
 
+		//The location of the loaded paths is computed once and kept until they are removed
 		private Map<String, R> getNestedPartition(String path) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			return retrievePartition(partion, partitionIndex, path);
+			Location location = locations.get(path);
+			if (location == null) {
+				location = new Location(path, partitionStartLevel);
+			}
+			Map<String, Map<String, R>> partion = retrievePartition(resources, location.partitionIndex);
+			return retrievePartition(partion, location.partitionKey);
 		}
 
 		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
@@ -339,9 +861,14 @@ public class Cache {
 
 		public R remove(String path, boolean destroy) {
 			Map<String, R> nestedPartition = getNestedPartition(path);
-			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
-			});
+			R item = nestedPartition.remove(path);
+			locations.remove(path);
+			if (usages != null && item != null) {
+				Usage usage = usages.remove(path);
+				if (usage != null) {
+					totalWeight.addAndGet(-usage.weight);
+				}
+			}
 			if ((itemDestroyer != null) && destroy && (item != null)) {
 				String finalPath = path;
 				itemDestroyer.accept(finalPath, item);
@@ -368,6 +895,11 @@ public class Cache {
 			synchronized (this.resources) {
 				partitions = this.resources;
 				this.resources = new ConcurrentHashMap<>();
+				this.locations.clear();
+				if (usages != null) {
+					usages.clear();
+					totalWeight.set(0);
+				}
 			}
 			return BackgroundExecutor.createTask(task -> {
 				clearResources(partitions, destroyItems);
@@ -440,9 +972,153 @@ public class Cache {
 			}
 		}
 
+		private static class Location {
+			private final Long partitionIndex;
+			private final String partitionKey;
+
+			private Location(String path, Long partitionStartLevel) {
+				long occurences = 0;
+				for (int index = path.indexOf('/'); index >= 0; index = path.indexOf('/', index + 1)) {
+					++occurences;
+				}
+				this.partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
+				String partitionKey = "/";
+				if (partitionIndex > 1) {
+					partitionKey = path.substring(0, path.lastIndexOf("/"));
+					partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
+				}
+				this.partitionKey = partitionKey;
+			}
+		}
+
+		private static class Loading<R> extends CompletableFuture<R> {
+			private final Thread owner;
+
+			private Loading() {
+				this.owner = Thread.currentThread();
+			}
+		}
+
 	}
 
 
+	private static class Usage {
+		private static final AtomicLongFieldUpdater<Usage> ACCESS_COUNT_UPDATER =
+			AtomicLongFieldUpdater.newUpdater(Usage.class, "accessCount");
+
+		private final long weight;
+		private final long insertionOrder;
+		private volatile long lastAccessTime;
+		private volatile long lastAccessOrder;
+		private volatile long accessCount;
+
+		private Usage(long weight, long insertionOrder) {
+			this.weight = weight;
+			this.insertionOrder = insertionOrder;
+			this.lastAccessTime = System.currentTimeMillis();
+			this.lastAccessOrder = System.nanoTime();
+			this.accessCount = 1;
+		}
+	}
+
+	//The accesses update the usage of the entry without locking: the eviction order (by access time for the LRU and
+	//TIME_TO_IDLE policies and by access count for the LFU policy, and then by insertion) is computed only when the
+	//entries have to be evicted, on a snapshot of the usages
+	private static class Usages<K> {
+		private final Map<K, Usage> usages;
+		private final AtomicLong insertions;
+		private final boolean orderByAccessCount;
+
+		private Usages(boolean orderByAccessCount) {
+			this.usages = new ConcurrentHashMap<>();
+			this.insertions = new AtomicLong();
+			this.orderByAccessCount = orderByAccessCount;
+		}
+
+		Usage put(K key, long weight) {
+			return usages.put(key, new Usage(weight, insertions.incrementAndGet()));
+		}
+
+		Usage remove(K key) {
+			return usages.remove(key);
+		}
+
+		//Returns false if the entry is idle
+		boolean touch(K key, long now, long timeToIdle) {
+			Usage usage = usages.get(key);
+			if (usage == null) {
+				return true;
+			}
+			long lastAccessTime = usage.lastAccessTime;
+			if (timeToIdle > 0 && now - lastAccessTime > timeToIdle) {
+				return false;
+			}
+			if (lastAccessTime < now) {
+				usage.lastAccessTime = now;
+			}
+			usage.lastAccessOrder = System.nanoTime();
+			if (orderByAccessCount) {
+				Usage.ACCESS_COUNT_UPDATER.incrementAndGet(usage);
+			}
+			return true;
+		}
+
+		List<K> getInEvictionOrder() {
+			List<UsageSnapshot<K>> snapshots = new ArrayList<>(usages.size());
+			for (Map.Entry<K, Usage> entry : usages.entrySet()) {
+				snapshots.add(new UsageSnapshot<>(entry.getKey(), entry.getValue(), orderByAccessCount));
+			}
+			Collections.sort(snapshots);
+			List<K> keys = new ArrayList<>(snapshots.size());
+			for (UsageSnapshot<K> snapshot : snapshots) {
+				keys.add(snapshot.key);
+			}
+			return keys;
+		}
+
+		List<K> getIdle(long now, long timeToIdle) {
+			List<K> keys = new ArrayList<>();
+			for (Map.Entry<K, Usage> entry : usages.entrySet()) {
+				if (now - entry.getValue().lastAccessTime > timeToIdle) {
+					keys.add(entry.getKey());
+				}
+			}
+			return keys;
+		}
+
+		int size() {
+			return usages.size();
+		}
+
+		void clear() {
+			usages.clear();
+		}
+	}
+
+	//Copies the fields of the usage because they can change while sorting
+	private static class UsageSnapshot<K> implements Comparable<UsageSnapshot<K>> {
+		private final K key;
+		private final long accessCount;
+		private final long lastAccessOrder;
+		private final long insertionOrder;
+
+		private UsageSnapshot(K key, Usage usage, boolean withAccessCount) {
+			this.key = key;
+			this.accessCount = withAccessCount ? usage.accessCount : 0;
+			this.lastAccessOrder = usage.lastAccessOrder;
+			this.insertionOrder = usage.insertionOrder;
+		}
+
+		@Override
+		public int compareTo(UsageSnapshot<K> other) {
+			int result = Long.compare(accessCount, other.accessCount);
+			if (result == 0) {
+				result = Long.compare(lastAccessOrder, other.lastAccessOrder);
+			}
+			return result != 0 ? result : Long.compare(insertionOrder, other.insertionOrder);
+		}
+	}
+
 	public void clear(boolean destroyItems, Object... excluded) {
 		Set<Object> toBeExcluded = (excluded != null) && (excluded.length > 0) ?
 			new HashSet<>(Arrays.asList(excluded)) :
@@ -459,6 +1135,7 @@ public class Cache {
 		addCleaningTask(tasks, clear(uniqueKeyForConstructors, toBeExcluded, destroyItems));
 		addCleaningTask(tasks, clear(uniqueKeyForMethods, toBeExcluded, destroyItems));
 		addCleaningTask(tasks, clear(uniqueKeyForExecutableAndMethodHandle, toBeExcluded, destroyItems));
+		addCleaningTask(tasks, clear(invocationKeyForResources, toBeExcluded, destroyItems));
 		for (QueuedTaskExecutor.Task task : tasks) {
 			task.join();
 		}
@@ -477,6 +1154,8 @@ public class Cache {
 				return ((ObjectAndPathForResources<?,?>)cache).clearInBackground(destroyItems);
 			}  else if (cache instanceof PathForResources) {
 				return ((PathForResources<?>)cache).clearInBackground(destroyItems);
+			} else if (cache instanceof ObjectAndKeyForResources) {
+				return ((ObjectAndKeyForResources<?, ?, ?>)cache).clearInBackground();
 			}
 		}
 		return null;
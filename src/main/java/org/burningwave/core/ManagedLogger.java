@@ -109,6 +109,8 @@ public interface ManagedLogger {
 
 				public static final String TYPE = "managed-logger.repository";
 				public static final String ENABLED_FLAG = "managed-logger.repository.enabled";
+				public static final String ASYNC_BUFFER_SIZE = "managed-logger.repository.async.buffer-size";
+				public static final String ASYNC_OVERFLOW_POLICY = "managed-logger.repository.async.overflow-policy";
 
 				private static final String LOGGING_LEVEL_FLAG_PREFIX = "managed-logger.repository.logging";
 				private static final String LOGGING_LEVEL_DISABLED_FLAG_SUFFIX = "disabled-for";
@@ -128,6 +130,8 @@ public interface ManagedLogger {
 
 				defaultValues.put(Key.TYPE, "autodetect");
 				defaultValues.put(Key.ENABLED_FLAG, String.valueOf(true));
+				defaultValues.put(Key.ASYNC_BUFFER_SIZE, "8192");
+				defaultValues.put(Key.ASYNC_OVERFLOW_POLICY, "discard");
 
 				String defaultValuesSeparator = (String)org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES.get(
 					org.burningwave.core.iterable.IterableObjectHelper.Configuration.Key.DEFAULT_VALUES_SEPERATOR
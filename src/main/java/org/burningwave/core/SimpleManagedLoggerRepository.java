@@ -113,11 +113,11 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 		if (!isEnabled) {
 			return;
 		}
-		StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
-		StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
-			stackTraceElements[4] : stackTraceElements[3];
 		String clientName = clientNameSupplier.get();
 		if (getLoggerEnabledFlag(clientName).partialyMatch(level)) {
+			StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
+			StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
+				stackTraceElements[4] : stackTraceElements[3];
 			if (exception == null) {
 				printStream.println(dateFormat.format(new Date()) + " [" + Thread.currentThread().getName() + "] - " + clientName + " - " + addDetailsToMessage(text, stackTraceElement));
 			} else {
@@ -73,6 +73,8 @@ public class StaticComponentContainer {
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED = "background-executor.all-tasks-monitoring.logger.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_INTERVAL = "background-executor.all-tasks-monitoring.interval";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_PROBABLE_DEAD_LOCKED_TASKS_HANDLING_POLICY = "background-executor.all-tasks-monitoring.probable-dead-locked-tasks-handling.policy";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_CAPACITY = "background-executor.queue.capacity";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_BACK_PRESSURE_POLICY = "background-executor.queue.back-pressure-policy";
 			private static final String JVM_DRIVER_TYPE = "jvm.driver.type";
 			private static final String JVM_DRIVER_INIT = "jvm.driver.init";
 			private static final String MODULES_EXPORT_ALL_TO_ALL = "modules.export-all-to-all";
@@ -131,6 +133,16 @@ public class StaticComponentContainer {
 					"log only"
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_QUEUE_CAPACITY,
+					2000
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_QUEUE_BACK_PRESSURE_POLICY,
+					"block"
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED,
 					"${" + Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED +"}"
@@ -374,7 +386,7 @@ public class StaticComponentContainer {
 			BufferHandler = org.burningwave.core.jvm.BufferHandler.create(GlobalProperties);
 			Streams = org.burningwave.core.io.Streams.create();
 			Classes = org.burningwave.core.classes.Classes.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			Members = org.burningwave.core.classes.Members.create();
 			Fields = org.burningwave.core.classes.Fields.create();
 			Constructors = org.burningwave.core.classes.Constructors.create();
@@ -68,9 +68,13 @@ public class ByteCodeHunterImpl extends ClassPathScanner.Abst<JavaClass, SearchC
 
 	@Override
 	ClassCriteria.TestContext testClassCriteria(SearchContext<JavaClass> context, JavaClass javaClass) {
-		return context.getSearchConfig().getClassCriteria().hasNoPredicate() ?
-			context.getSearchConfig().getClassCriteria().testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
-			super.testClassCriteria(context, javaClass);
+		ClassCriteria classCriteria = context.getSearchConfig().getClassCriteria();
+		if (classCriteria.isTestableWithoutLoading()) {
+			return context.testWithoutLoading(javaClass) ?
+				classCriteria.testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
+				classCriteria.testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null);
+		}
+		return super.testClassCriteria(context, javaClass);
 	}
 
 
@@ -35,15 +35,19 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 
 import java.lang.reflect.Member;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.Criteria;
@@ -53,7 +57,14 @@ import org.burningwave.core.function.PentaPredicate;
 public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Class<?>, ClassCriteria, ClassCriteria.TestContext> {
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
+	JavaClass.Criteria javaClassCriteria;
+	private boolean predicateTestableByJavaClassCriteria;
+	private boolean orOperatorPending;
 	private boolean collectMembers;
+	//The paths of the packages (e.g. "com/acme/") outside of which no class can match: null if the criteria
+	//does not restrict the packages, e.g. because it contains a predicate that is not declarative
+	private Collection<String> packagePaths;
+	private Collection<String> packagePathsOfNextPredicate;
 
 	private ClassCriteria() {
 		super();
@@ -140,6 +151,246 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return new ClassCriteria();
 	}
 
+	public ClassCriteria byJavaClass(JavaClass.Criteria criteria) {
+		JavaClass.Criteria criteriaCopy = criteria.createCopy();
+		boolean orOperation = this.predicate != null && this.logicalOperator != null && this.orOperatorPending;
+		JavaClass.Criteria javaClassCriteria = this.javaClassCriteria;
+		boolean predicateTestableByJavaClassCriteria = this.predicate == null || this.predicateTestableByJavaClassCriteria;
+		this.predicate = concat(
+			this.predicate,
+			(context, cls) -> criteriaCopy.testWithFalseResultForNullEntityOrTrueResultForNullPredicate(
+				context.getJavaClass()
+			).getResult()
+		);
+		//The criteria tested before loading is a different copy because negate() changes it in place
+		if (!orOperation) {
+			this.javaClassCriteria = javaClassCriteria != null ?
+				javaClassCriteria.and(criteriaCopy.createCopy()) :
+				criteriaCopy.createCopy();
+			this.predicateTestableByJavaClassCriteria = predicateTestableByJavaClassCriteria;
+		}
+		return this;
+	}
+
+	//The declarative predicates are tested on the bytecode and are analyzed by the ClassPathScanner to exclude,
+	//before reading them, the class files placed outside of the packages that they admit
+
+	public ClassCriteria packagePrefix(String... packageNames) {
+		Collection<String> packageNameColl = Arrays.asList(packageNames);
+		if (!packageNameColl.contains("")) {
+			this.packagePathsOfNextPredicate = packageNameColl.stream().map(
+				packageName -> packageName.replace('.', '/') + "/"
+			).collect(Collectors.toSet());
+		}
+		return byJavaClass(
+			JavaClass.Criteria.create().className(className ->
+				packageNameColl.stream().anyMatch(packageName ->
+					packageName.isEmpty() || className.startsWith(packageName + ".")
+				)
+			)
+		);
+	}
+
+	//In the pattern '*' matches any sequence of characters except '.' and '**' matches any sequence of characters
+	public ClassCriteria classNamePattern(String pattern) {
+		StringBuilder regex = new StringBuilder();
+		int literalEnd = -1;
+		for (int i = 0; i < pattern.length(); i++) {
+			char character = pattern.charAt(i);
+			if (character == '*') {
+				if (literalEnd < 0) {
+					literalEnd = i;
+				}
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+					regex.append(".*");
+					i++;
+				} else {
+					regex.append("[^.]*");
+				}
+			} else {
+				regex.append(Pattern.quote(String.valueOf(character)));
+			}
+		}
+		String literalPrefix = literalEnd < 0 ? pattern : pattern.substring(0, literalEnd);
+		int lastIndexOfDot = literalPrefix.lastIndexOf('.');
+		if (lastIndexOfDot > 0) {
+			this.packagePathsOfNextPredicate = Collections.singleton(
+				literalPrefix.substring(0, lastIndexOfDot).replace('.', '/') + "/"
+			);
+		}
+		Pattern compiledPattern = Pattern.compile(regex.toString());
+		return byJavaClass(
+			JavaClass.Criteria.create().className(className -> compiledPattern.matcher(className).matches())
+		);
+	}
+
+	//Accepts the descriptor (e.g. "Lcom/acme/Component;") or the name of the annotation
+	public ClassCriteria annotationDescriptor(String descriptor) {
+		String annotationName = descriptor.startsWith("L") && descriptor.endsWith(";") ?
+			descriptor.substring(1, descriptor.length() - 1).replace('/', '.') :
+			descriptor;
+		return byJavaClass(
+			JavaClass.Criteria.create().annotationName(annotationName::equals)
+		);
+	}
+
+	//Matches the classes that directly extend the class with the given name
+	public ClassCriteria superClassName(String superClassName) {
+		return byJavaClass(
+			JavaClass.Criteria.create().superClassName(superClassName::equals)
+		);
+	}
+
+	//Matches the classes that directly implement the interface with the given name
+	public ClassCriteria interfaceName(String interfaceName) {
+		return byJavaClass(
+			JavaClass.Criteria.create().interfaceName(interfaceName::equals)
+		);
+	}
+
+	Collection<String> getPackagePaths() {
+		return packagePaths;
+	}
+
+	boolean isTestableWithoutLoading() {
+		return this.predicate == null || (predicateTestableByJavaClassCriteria && javaClassCriteria != null);
+	}
+
+	boolean testWithoutLoading(JavaClass javaClass) {
+		return javaClassCriteria == null ||
+			javaClassCriteria.testWithFalseResultForNullEntityOrTrueResultForNullPredicate(javaClass).getResult();
+	}
+
+	TestContext test(JavaClass javaClass, Class<?> cls) {
+		if (cls == null) {
+			return testWithFalseResultForNullEntityOrTrueResultForNullPredicate(null);
+		}
+		TestContext testContext = getContextWithTruePredicateForNullPredicate();
+		testContext.setJavaClass(javaClass);
+		testContext.getPredicate().test(cls);
+		return testContext;
+	}
+
+	@Override
+	public ClassCriteria and() {
+		this.orOperatorPending = false;
+		return super.and();
+	}
+
+	@Override
+	public ClassCriteria or() {
+		this.orOperatorPending = true;
+		return super.or();
+	}
+
+	@Override
+	public ClassCriteria and(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.and(criteria);
+		setJavaClassCriteria(newCriteria, this, criteria, JavaClass.Criteria::and);
+		setPackagePaths(newCriteria, this, criteria, ClassCriteria::intersectionOfPackagePaths);
+		return newCriteria;
+	}
+
+	@Override
+	public ClassCriteria or(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.or(criteria);
+		setJavaClassCriteria(newCriteria, this, criteria, JavaClass.Criteria::or);
+		setPackagePaths(newCriteria, this, criteria, ClassCriteria::unionOfPackagePaths);
+		return newCriteria;
+	}
+
+	private void setJavaClassCriteria(
+		ClassCriteria targetCriteria,
+		ClassCriteria leftCriteria,
+		ClassCriteria rightCriteria,
+		BinaryOperator<JavaClass.Criteria> binaryOperator
+	) {
+		if (leftCriteria.predicate == null || rightCriteria.predicate == null) {
+			ClassCriteria criteria = leftCriteria.predicate != null ? leftCriteria : rightCriteria;
+			targetCriteria.javaClassCriteria = criteria.javaClassCriteria != null ? criteria.javaClassCriteria.createCopy() : null;
+			targetCriteria.predicateTestableByJavaClassCriteria = criteria.predicateTestableByJavaClassCriteria;
+		} else if (leftCriteria.javaClassCriteria != null && rightCriteria.javaClassCriteria != null) {
+			targetCriteria.javaClassCriteria = binaryOperator.apply(leftCriteria.javaClassCriteria, rightCriteria.javaClassCriteria);
+			targetCriteria.predicateTestableByJavaClassCriteria =
+				leftCriteria.predicateTestableByJavaClassCriteria && rightCriteria.predicateTestableByJavaClassCriteria;
+		} else {
+			targetCriteria.javaClassCriteria = null;
+			targetCriteria.predicateTestableByJavaClassCriteria = false;
+		}
+	}
+
+	private void setPackagePaths(
+		ClassCriteria targetCriteria,
+		ClassCriteria leftCriteria,
+		ClassCriteria rightCriteria,
+		BinaryOperator<Collection<String>> binaryOperator
+	) {
+		if (leftCriteria.predicate == null || rightCriteria.predicate == null) {
+			targetCriteria.packagePaths = leftCriteria.predicate != null ? leftCriteria.packagePaths : rightCriteria.packagePaths;
+		} else {
+			targetCriteria.packagePaths = binaryOperator.apply(leftCriteria.packagePaths, rightCriteria.packagePaths);
+		}
+	}
+
+	//A null collection admits all the packages
+	private static Collection<String> intersectionOfPackagePaths(Collection<String> leftPaths, Collection<String> rightPaths) {
+		if (leftPaths == null || rightPaths == null) {
+			return leftPaths != null ? leftPaths : rightPaths;
+		}
+		Collection<String> intersection = new HashSet<>();
+		for (String leftPath : leftPaths) {
+			for (String rightPath : rightPaths) {
+				if (leftPath.startsWith(rightPath)) {
+					intersection.add(leftPath);
+				} else if (rightPath.startsWith(leftPath)) {
+					intersection.add(rightPath);
+				}
+			}
+		}
+		return intersection;
+	}
+
+	private static Collection<String> unionOfPackagePaths(Collection<String> leftPaths, Collection<String> rightPaths) {
+		if (leftPaths == null || rightPaths == null) {
+			return null;
+		}
+		Collection<String> union = new HashSet<>(leftPaths);
+		union.addAll(rightPaths);
+		return union;
+	}
+
+	@Override
+	public ClassCriteria negate() {
+		if (predicateTestableByJavaClassCriteria && javaClassCriteria != null) {
+			javaClassCriteria.negate();
+		} else {
+			javaClassCriteria = null;
+			predicateTestableByJavaClassCriteria = false;
+		}
+		packagePaths = null;
+		return super.negate();
+	}
+
+	@Override
+	protected BiPredicate<TestContext, Class<?>> concat(
+		BiPredicate<TestContext, Class<?>> mainPredicate,
+		BiPredicate<TestContext, Class<?>> otherPredicate
+	) {
+		Collection<String> otherPackagePaths = this.packagePathsOfNextPredicate;
+		this.packagePathsOfNextPredicate = null;
+		if (mainPredicate == null) {
+			this.packagePaths = otherPackagePaths;
+		} else if (this.logicalOperator != null && this.orOperatorPending) {
+			this.javaClassCriteria = null;
+			this.packagePaths = unionOfPackagePaths(this.packagePaths, otherPackagePaths);
+		} else {
+			this.packagePaths = intersectionOfPackagePaths(this.packagePaths, otherPackagePaths);
+		}
+		this.predicateTestableByJavaClassCriteria = false;
+		this.orOperatorPending = false;
+		return super.concat(mainPredicate, otherPredicate);
+	}
+
 	@Override
 	protected ClassCriteria logicOperation(
 		ClassCriteria leftCriteria, ClassCriteria rightCriteria,
@@ -256,6 +507,12 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			)
 		);
 		copy.collectMembers = this.collectMembers;
+		if (this.javaClassCriteria != null) {
+			copy.javaClassCriteria = this.javaClassCriteria.createCopy();
+		}
+		copy.predicateTestableByJavaClassCriteria = this.predicateTestableByJavaClassCriteria;
+		copy.orOperatorPending = this.orOperatorPending;
+		copy.packagePaths = this.packagePaths;
 		return copy;
 	}
 
@@ -268,7 +525,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 
 	public static class TestContext extends Criteria.TestContext<Class<?>, ClassCriteria> {
 		private enum Elements {
-			MEMBERS_FOUND
+			MEMBERS_FOUND,
+			JAVA_CLASS
 		}
 
 		protected TestContext(ClassCriteria criteria) {
@@ -286,6 +544,24 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			return get(Elements.MEMBERS_FOUND);
 		}
 
+		JavaClass getJavaClass() {
+			JavaClass javaClass = get(Elements.JAVA_CLASS);
+			if (javaClass == null && getEntity() != null) {
+				ClassCriteria criteria = getCriteria();
+				javaClass = JavaClass.create(
+					criteria.byteCodeSupplier != null ?
+						criteria.byteCodeSupplier.apply(getEntity()) :
+						Classes.getByteCode(getEntity())
+				);
+				setJavaClass(javaClass);
+			}
+			return javaClass;
+		}
+
+		void setJavaClass(JavaClass javaClass) {
+			put(Elements.JAVA_CLASS, javaClass);
+		}
+
 		void addMembersFound(MemberCriteria<?, ?, ?> criteria, Collection<Member> members) {
 			getMembersFound().put(criteria, members);
 		}
@@ -297,6 +573,10 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		this.memberCriterias.clear();
 		this.memberCriterias = null;
 		this.membersPredicate = null;
+		if (this.javaClassCriteria != null) {
+			this.javaClassCriteria.close();
+			this.javaClassCriteria = null;
+		}
 		super.close();
 	}
 }
@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -92,6 +93,10 @@ public interface ClassHunter extends ClassPathScanner<Class<?>, ClassHunter.Sear
 		);
 	}
 
+	//Passes every class to the consumer as soon as it is found: the consumer can stop the search by throwing
+	//IterableObjectHelper.TerminateIteration.NOTIFICATION
+	public ClassHunter.SearchResult findBy(SearchConfig searchConfig, Consumer<? super Class<?>> classConsumer);
+
 	public static class SearchResult extends org.burningwave.core.classes.SearchResult<Class<?>> {
 		SearchResult(ClassHunterImpl.SearchContext context) {
 			super(context);
@@ -143,6 +143,15 @@ class ClassHunterImpl extends ClassPathScanner.Abst<Class<?>, ClassHunterImpl.Se
 			}
 		}
 
+		@Override
+		void resetItemsFound() {
+			super.resetItemsFound();
+			synchronized(this) {
+				membersFound = null;
+				membersFoundFlatMap = null;
+			}
+		}
+
 		@Override
 		public void close() {
 			membersFound = null;
@@ -86,9 +86,11 @@ public interface ClassPathHelper {
 			public Collection<String> classRepositories;
 			public Predicate<FileSystemItem> pathsToBeRefreshedPredicate;
 			public Predicate<FileSystemItem> fileFilter;
+			public boolean extractCompressedPaths;
 
 			Config(Collection<String> classRepositories) {
 				this.classRepositories = classRepositories;
+				this.extractCompressedPaths = true;
 			}
 
 			public static Config create(Collection<String> classRepositories) {
@@ -108,6 +110,12 @@ public interface ClassPathHelper {
 				return this;
 			}
 
+			//If false the class paths located inside archives are returned as they are, without being extracted to a temporary folder
+			public Config extractCompressedPaths(boolean flag) {
+				this.extractCompressedPaths = flag;
+				return this;
+			}
+
 		}
 
 		public static class AndAddToClassLoaderConfig {
@@ -155,10 +163,12 @@ public interface ClassPathHelper {
 			public Collection<String> classRepositories;
 			public Predicate<FileSystemItem> pathsToBeRefreshedPredicate;
 			public Predicate<FileSystemItem> additionalFileFilter;
+			public boolean extractCompressedPaths;
 
 			BySourceImportsConfig(Collection<String> sources, Collection<String> classRepositories) {
 				this.sources = sources;
 				this.classRepositories = classRepositories;
+				this.extractCompressedPaths = true;
 			}
 
 			public static BySourceImportsConfig create(
@@ -182,6 +192,11 @@ public interface ClassPathHelper {
 				this.additionalFileFilter = additionalFileFilter;
 				return this;
 			}
+
+			public BySourceImportsConfig extractCompressedPaths(boolean flag) {
+				this.extractCompressedPaths = flag;
+				return this;
+			}
 		}
 
 		public interface ByClasses {
@@ -95,6 +95,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 		return compute0(
 			searchConfig.getPathsToBeScanned().stream().map(FileSystemItem::getAbsolutePath).collect(Collectors.toSet()),
 			null,
+			true,
 			(toBeAdjuested) -> {
 				searchConfigCopy.setFileFilter(
 					FileSystemItem.Criteria.forClassTypeFiles(
@@ -166,6 +167,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 			new Compute.Config(input.classRepositories)
 			.refreshAllPathsThat(input.pathsToBeRefreshedPredicate)
 			.withFileFilter(javaClassFilter)
+			.extractCompressedPaths(input.extractCompressedPaths)
 		);
 	}
 
@@ -287,6 +289,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 		return compute0(
 			input.classRepositories,
 			null,
+			input.extractCompressedPaths,
 			clsRepositories -> {
 				Collection<FileSystemItem> classPaths = ConcurrentHashMap.newKeySet();
 				for (String classRepositoryPath : clsRepositories) {
@@ -319,6 +322,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 	private Supplier<Map<String, String>> compute0(
 		Collection<String> classRepositories,
 		Predicate<FileSystemItem> pathsToBeRefreshedPredicate,
+		boolean extractCompressedPaths,
 		Function<Collection<String>, Collection<FileSystemItem>> callRepositoriesSupplier
 	) {
 		if (classRepositories == null) {
@@ -338,7 +342,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 				if (pathsToBeRefreshedPredicate.test(fsObject)) {
 					fsObject.refresh();
 				}
-				if (fsObject.isCompressed()) {
+				if (extractCompressedPaths && fsObject.isCompressed()) {
 					Executor.run(() -> {
 						synchronized (this) {
 							FileSystemItem classPath = FileSystemItem.ofPath(
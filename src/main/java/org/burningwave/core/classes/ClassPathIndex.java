@@ -0,0 +1,521 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.io.FileSystemItem;
+
+
+class ClassPathIndex implements Closeable {
+	private final static int FILE_FORMAT_MAGIC = 0xB0C1A55E;
+	private final static int FILE_FORMAT_VERSION = 3;
+
+	private File file;
+	private Map<String, Container> containers;
+	private Map<String, ScannedPath> scannedPaths;
+	private AtomicLong session;
+	private volatile boolean modified;
+
+	private ClassPathIndex(File file) {
+		this.file = file;
+		this.containers = new ConcurrentHashMap<>();
+		this.scannedPaths = new ConcurrentHashMap<>();
+		this.session = new AtomicLong();
+		load();
+	}
+
+	static ClassPathIndex create(String name) {
+		return new ClassPathIndex(
+			new File(FileSystemHelper.getOrCreateBurningwaveTemporaryFolder().getAbsolutePath() + "/" + name + ".class-path-index")
+		);
+	}
+
+	void startNewSession() {
+		session.incrementAndGet();
+	}
+
+	//Returns the class files of the scanned path recorded by a previous scan if the archive or the folder tree
+	//that contains it has not changed since, otherwise null
+	Collection<FileSystemItem> getClassFilesIfUnchanged(FileSystemItem scannedPath) {
+		String scannedAbsolutePath = scannedPath.getAbsolutePath();
+		ScannedPath indexedScannedPath = scannedPaths.get(scannedAbsolutePath);
+		if (indexedScannedPath == null) {
+			return null;
+		}
+		long currentSession = session.get();
+		if (indexedScannedPath.checkedInSession == currentSession || indexedScannedPath.isUnchanged()) {
+			indexedScannedPath.checkedInSession = currentSession;
+			Collection<FileSystemItem> classFiles = new ArrayList<>(indexedScannedPath.classFiles.length);
+			for (String classFile : indexedScannedPath.classFiles) {
+				classFiles.add(FileSystemItem.ofPath(classFile));
+			}
+			return classFiles;
+		}
+		if (scannedPaths.remove(scannedAbsolutePath, indexedScannedPath)) {
+			modified = true;
+		}
+		return null;
+	}
+
+	//Like getClassFilesIfUnchanged but, if the scanned path has changed or has never been indexed, its class
+	//files are listed through the finder and recorded
+	Collection<FileSystemItem> getClassFiles(FileSystemItem scannedPath, Function<FileSystemItem, Collection<FileSystemItem>> classFilesFinder) {
+		Collection<FileSystemItem> classFiles = getClassFilesIfUnchanged(scannedPath);
+		if (classFiles != null) {
+			return classFiles;
+		}
+		//The stamps are taken before listing the children so that a change made while listing them is
+		//detected by the next scan
+		Stamp[] stamps = stamp(getPhysicalFile(scannedPath));
+		classFiles = classFilesFinder.apply(scannedPath);
+		if (stamps != null && classFiles != null) {
+			String[] classFilePaths = new String[classFiles.size()];
+			int index = 0;
+			for (FileSystemItem classFile : classFiles) {
+				classFilePaths[index++] = classFile.getAbsolutePath();
+			}
+			ScannedPath newScannedPath = new ScannedPath(stamps, classFilePaths);
+			newScannedPath.checkedInSession = session.get();
+			scannedPaths.put(scannedPath.getAbsolutePath(), newScannedPath);
+			modified = true;
+		}
+		return classFiles;
+	}
+
+	//An archive is stamped with its size and its last modified time while a folder is stamped only with the last
+	//modified time of every folder of its tree, that changes when a file is added, removed or renamed: a class
+	//file changed in place is detected by the container of its entry. The first stamp is always the one of the
+	//physical file
+	private Stamp[] stamp(File physicalFile) {
+		if (physicalFile.isFile()) {
+			return new Stamp[] {new Stamp(physicalFile.getAbsolutePath(), physicalFile.length(), physicalFile.lastModified())};
+		}
+		if (!physicalFile.isDirectory()) {
+			return null;
+		}
+		Collection<Stamp> stamps = new ArrayList<>();
+		try {
+			Files.walkFileTree(physicalFile.toPath(), new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path folder, BasicFileAttributes attributes) {
+					File file = folder.toFile();
+					stamps.add(new Stamp(file.getAbsolutePath(), -1, file.lastModified()));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not stamp {}: {}", physicalFile.getAbsolutePath(), exc.getMessage());
+			return null;
+		}
+		return stamps.toArray(new Stamp[stamps.size()]);
+	}
+
+	JavaClass toJavaClass(FileSystemItem classFile) {
+		File physicalFile = getPhysicalFile(classFile);
+		Container container = getValidContainer(physicalFile);
+		Entry entry = container != null ? container.entries.get(classFile.getAbsolutePath()) : null;
+		if (entry != null) {
+			return entry.toJavaClass(classFile);
+		}
+		JavaClass javaClass = classFile.toJavaClass();
+		if (javaClass != null) {
+			put(physicalFile, container, classFile, javaClass);
+		}
+		return javaClass;
+	}
+
+	private Container getValidContainer(File physicalFile) {
+		String physicalFilePath = physicalFile.getAbsolutePath();
+		Container container = containers.get(physicalFilePath);
+		if (container == null) {
+			return null;
+		}
+		long currentSession = session.get();
+		if (container.checkedInSession == currentSession) {
+			return container;
+		}
+		if (container.size == physicalFile.length() && container.lastModified == physicalFile.lastModified()) {
+			container.checkedInSession = currentSession;
+			return container;
+		}
+		if (containers.remove(physicalFilePath, container)) {
+			modified = true;
+		}
+		return null;
+	}
+
+	private void put(File physicalFile, Container container, FileSystemItem classFile, JavaClass javaClass) {
+		if (container == null) {
+			Container newContainer = new Container(physicalFile.length(), physicalFile.lastModified());
+			newContainer.checkedInSession = session.get();
+			container = containers.putIfAbsent(physicalFile.getAbsolutePath(), newContainer);
+			if (container == null) {
+				container = newContainer;
+			}
+		}
+		container.entries.put(
+			classFile.getAbsolutePath(),
+			new Entry(
+				javaClass.getModifiers(),
+				javaClass.getName(),
+				javaClass.getSuperClassName(),
+				javaClass.getInterfaceNames(),
+				javaClass.getAnnotationNames()
+			)
+		);
+		modified = true;
+	}
+
+	private File getPhysicalFile(FileSystemItem classFile) {
+		FileSystemItem physicalFile = classFile;
+		while (physicalFile.isCompressed()) {
+			physicalFile = physicalFile.getParentContainer();
+		}
+		return new File(physicalFile.getAbsolutePath());
+	}
+
+	private void load() {
+		if (!file.exists()) {
+			return;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != FILE_FORMAT_MAGIC || input.readInt() != FILE_FORMAT_VERSION) {
+				return;
+			}
+			int containersCount = input.readInt();
+			for (int i = 0; i < containersCount; i++) {
+				String physicalFilePath = input.readUTF();
+				Container container = new Container(input.readLong(), input.readLong());
+				container.checkedInSession = -1;
+				int entriesCount = input.readInt();
+				for (int j = 0; j < entriesCount; j++) {
+					String classFilePath = input.readUTF();
+					container.entries.put(
+						classFilePath,
+						new Entry(
+							input.readInt(),
+							input.readUTF(),
+							readNullableUTF(input),
+							readUTFs(input),
+							Collections.unmodifiableCollection(Arrays.asList(readUTFs(input)))
+						)
+					);
+				}
+				containers.put(physicalFilePath, container);
+			}
+			int scannedPathsCount = input.readInt();
+			for (int i = 0; i < scannedPathsCount; i++) {
+				String scannedAbsolutePath = input.readUTF();
+				Stamp[] stamps = new Stamp[input.readInt()];
+				for (int j = 0; j < stamps.length; j++) {
+					stamps[j] = new Stamp(input.readUTF(), input.readLong(), input.readLong());
+				}
+				String[] classFiles = new String[input.readInt()];
+				for (int j = 0; j < classFiles.length; j++) {
+					classFiles[j] = input.readUTF();
+				}
+				ScannedPath scannedPath = new ScannedPath(stamps, classFiles);
+				scannedPath.checkedInSession = -1;
+				scannedPaths.put(scannedAbsolutePath, scannedPath);
+			}
+		} catch (Throwable exc) {
+			containers.clear();
+			scannedPaths.clear();
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class path index from {}: {}", file.getAbsolutePath(), exc.getMessage());
+		}
+	}
+
+	synchronized void store() {
+		if (file == null) {
+			return;
+		}
+		removeMissingScannedPaths();
+		if (!modified) {
+			return;
+		}
+		modified = false;
+		File temporaryFile = new File(file.getAbsolutePath() + "." + Thread.currentThread().getId() + ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+				output.writeInt(FILE_FORMAT_MAGIC);
+				output.writeInt(FILE_FORMAT_VERSION);
+				Collection<Map.Entry<String, Container>> containers = new ArrayList<>(this.containers.entrySet());
+				output.writeInt(containers.size());
+				for (Map.Entry<String, Container> containerEntry : containers) {
+					Container container = containerEntry.getValue();
+					Collection<Map.Entry<String, Entry>> entries = new ArrayList<>(container.entries.entrySet());
+					output.writeUTF(containerEntry.getKey());
+					output.writeLong(container.size);
+					output.writeLong(container.lastModified);
+					output.writeInt(entries.size());
+					for (Map.Entry<String, Entry> entry : entries) {
+						Entry classInfo = entry.getValue();
+						output.writeUTF(entry.getKey());
+						output.writeInt(classInfo.modifiers);
+						output.writeUTF(classInfo.name);
+						writeNullableUTF(output, classInfo.superClassName);
+						writeUTFs(output, classInfo.interfaceNames);
+						writeUTFs(output, classInfo.annotationNames.toArray(new String[classInfo.annotationNames.size()]));
+					}
+				}
+				Collection<Map.Entry<String, ScannedPath>> scannedPaths = new ArrayList<>(this.scannedPaths.entrySet());
+				output.writeInt(scannedPaths.size());
+				for (Map.Entry<String, ScannedPath> scannedPathEntry : scannedPaths) {
+					ScannedPath scannedPath = scannedPathEntry.getValue();
+					output.writeUTF(scannedPathEntry.getKey());
+					output.writeInt(scannedPath.stamps.length);
+					for (Stamp stamp : scannedPath.stamps) {
+						output.writeUTF(stamp.path);
+						output.writeLong(stamp.size);
+						output.writeLong(stamp.lastModified);
+					}
+					output.writeInt(scannedPath.classFiles.length);
+					for (String classFile : scannedPath.classFiles) {
+						output.writeUTF(classFile);
+					}
+				}
+			}
+			Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (Throwable exc) {
+			modified = true;
+			temporaryFile.delete();
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store class path index to {}: {}", file.getAbsolutePath(), exc.getMessage());
+		}
+	}
+
+	//The scanned paths whose physical file no longer exists are removed together with the containers of their
+	//class files
+	private void removeMissingScannedPaths() {
+		for (Map.Entry<String, ScannedPath> scannedPathEntry : scannedPaths.entrySet()) {
+			ScannedPath scannedPath = scannedPathEntry.getValue();
+			String physicalFilePath = scannedPath.stamps[0].path;
+			if (new File(physicalFilePath).exists() || !scannedPaths.remove(scannedPathEntry.getKey(), scannedPath)) {
+				continue;
+			}
+			containers.remove(physicalFilePath);
+			for (String classFile : scannedPath.classFiles) {
+				containers.remove(new File(classFile).getAbsolutePath());
+			}
+			modified = true;
+		}
+	}
+
+	private static String readNullableUTF(DataInputStream input) throws IOException {
+		return input.readBoolean() ? input.readUTF() : null;
+	}
+
+	private static void writeNullableUTF(DataOutputStream output, String value) throws IOException {
+		output.writeBoolean(value != null);
+		if (value != null) {
+			output.writeUTF(value);
+		}
+	}
+
+	private static String[] readUTFs(DataInputStream input) throws IOException {
+		String[] values = new String[input.readUnsignedShort()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = input.readUTF();
+		}
+		return values;
+	}
+
+	private static void writeUTFs(DataOutputStream output, String[] values) throws IOException {
+		if (values == null) {
+			output.writeShort(0);
+			return;
+		}
+		output.writeShort(values.length);
+		for (String value : values) {
+			output.writeUTF(value);
+		}
+	}
+
+	@Override
+	public void close() {
+		store();
+		containers.clear();
+		containers = null;
+		scannedPaths.clear();
+		scannedPaths = null;
+		file = null;
+	}
+
+	private static class Container {
+		private final long size;
+		private final long lastModified;
+		private final Map<String, Entry> entries;
+		private volatile long checkedInSession;
+
+		private Container(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.entries = new ConcurrentHashMap<>();
+		}
+	}
+
+	private static class ScannedPath {
+		private final Stamp[] stamps;
+		private final String[] classFiles;
+		private volatile long checkedInSession;
+
+		private ScannedPath(Stamp[] stamps, String[] classFiles) {
+			this.stamps = stamps;
+			this.classFiles = classFiles;
+		}
+
+		private boolean isUnchanged() {
+			for (Stamp stamp : stamps) {
+				if (!stamp.isUnchanged()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static class Stamp {
+		private final String path;
+		private final long size;
+		private final long lastModified;
+
+		private Stamp(String path, long size, long lastModified) {
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		private boolean isUnchanged() {
+			File file = new File(path);
+			return file.lastModified() == lastModified && (size < 0 || file.length() == size);
+		}
+	}
+
+	private static class Entry {
+		private final int modifiers;
+		private final String name;
+		private final String superClassName;
+		private final String[] interfaceNames;
+		private final Collection<String> annotationNames;
+
+		private Entry(int modifiers, String name, String superClassName, String[] interfaceNames, Collection<String> annotationNames) {
+			this.modifiers = modifiers;
+			this.name = name;
+			this.superClassName = superClassName;
+			this.interfaceNames = interfaceNames;
+			this.annotationNames = annotationNames;
+		}
+
+		private JavaClass toJavaClass(FileSystemItem classFile) {
+			return new JavaClass(toClassFileHeader()) {
+
+				@Override
+				protected ByteBuffer getByteCode0() {
+					return classFile.toByteBuffer();
+				}
+
+				@Override
+				protected void setByteCode0(ByteBuffer byteCode) {}
+
+				@Override
+				public Collection<String> getAnnotationNames() {
+					return annotationNames;
+				}
+
+			};
+		}
+
+		//Builds a class file containing only the constant pool entries and the header needed to parse the class info
+		private ByteBuffer toClassFileHeader() {
+			Collection<String> classNames = new ArrayList<>();
+			classNames.add(name);
+			if (superClassName != null) {
+				classNames.add(superClassName);
+			}
+			if (interfaceNames != null) {
+				Collections.addAll(classNames, interfaceNames);
+			}
+			Collection<byte[]> encodedClassNames = new ArrayList<>(classNames.size());
+			int size = 10 + 8 + 2 * (interfaceNames != null ? interfaceNames.length : 0) + 6;
+			for (String className : classNames) {
+				byte[] encodedClassName = className.replace('.', '/').getBytes(StandardCharsets.UTF_8);
+				encodedClassNames.add(encodedClassName);
+				size += 3 + encodedClassName.length + 3;
+			}
+			ByteBuffer header = ByteBuffer.allocate(size);
+			header.putInt(0xCAFEBABE).putShort((short)0).putShort((short)52);
+			header.putShort((short)(classNames.size() * 2 + 1));
+			int index = 1;
+			for (byte[] encodedClassName : encodedClassNames) {
+				header.put((byte)1).putShort((short)encodedClassName.length).put(encodedClassName);
+				header.put((byte)7).putShort((short)index);
+				index += 2;
+			}
+			header.putShort((short)modifiers).putShort((short)2).putShort((short)(superClassName != null ? 4 : 0));
+			int interfacesCount = interfaceNames != null ? interfaceNames.length : 0;
+			header.putShort((short)interfacesCount);
+			int interfaceIndex = superClassName != null ? 6 : 4;
+			for (int i = 0; i < interfacesCount; i++) {
+				header.putShort((short)interfaceIndex);
+				interfaceIndex += 2;
+			}
+			header.putShort((short)0).putShort((short)0).putShort((short)0);
+			header.flip();
+			return header;
+		}
+	}
+
+}
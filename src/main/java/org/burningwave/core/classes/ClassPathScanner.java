@@ -34,19 +34,27 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.SearchContext.InitContext;
 import org.burningwave.core.io.FileSystemItem;
+import org.burningwave.core.io.FileSystemWatcher;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
 import org.burningwave.core.iterable.Properties.Event;
 
@@ -57,6 +65,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 
 			public final static String DEFAULT_CHECK_FILE_OPTIONS = "hunters.default-search-config.check-file-option";
 			public static final String DEFAULT_SEARCH_CONFIG_PATHS = PathHelper.Configuration.Key.PATHS_PREFIX + "hunters.default-search-config.paths";
+			public final static String CLASS_PATH_INDEX_ENABLED = "hunters.class-path-index.enabled";
 
 		}
 
@@ -75,6 +84,10 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 				Key.DEFAULT_CHECK_FILE_OPTIONS,
 				"${" + PathScannerClassLoader.Configuration.Key.SEARCH_CONFIG_CHECK_FILE_OPTION + "}"
 			);
+			defaultValues.put(
+				Key.CLASS_PATH_INDEX_ENABLED,
+				"false"
+			);
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -93,6 +106,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		Collection<SearchResult<I>> searchResults;
 		String instanceId;
 		ClassLoaderManager<PathScannerClassLoader> defaultPathScannerClassLoaderManager;
+		ClassPathIndex classPathIndex;
 
 		Abst(
 			PathHelper pathHelper,
@@ -110,9 +124,27 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			this.defaultPathScannerClassLoaderManager = new ClassLoaderManager<>(
 				defaultPathScannerClassLoaderOrDefaultPathScannerClassLoaderSupplier
 			);
+			setClassPathIndex();
 			checkAndListenTo(config);
 		}
 
+		synchronized void setClassPathIndex() {
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			boolean classPathIndexEnabled = Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.CLASS_PATH_INDEX_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			if (classPathIndexEnabled && classPathIndex == null) {
+				this.classPathIndex = ClassPathIndex.create(getNameInConfigProperties());
+			} else if (!classPathIndexEnabled && classPathIndex != null) {
+				this.classPathIndex = null;
+				classPathIndex.close();
+			}
+		}
+
 		@Override
 		public <K, V> void processChangeNotification(
 			Properties properties, Event event, K key, V newValue,
@@ -123,6 +155,8 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 					String keyAsString = (String)key;
 					if (keyAsString.startsWith(getNameInConfigProperties() + ".default-path-scanner-class-loader")) {
 						this.defaultPathScannerClassLoaderManager.reset();
+					} else if (keyAsString.equals(Configuration.Key.CLASS_PATH_INDEX_ENABLED)) {
+						setClassPathIndex();
 					}
 				}
 			}
@@ -145,9 +179,14 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		public R findBy(SearchConfig input) {
 			SearchConfig searchConfig = input.isInitialized() ? input : input.createCopy();
 			C context = searchConfig.isInitialized() ? searchConfig.getSearchContext() : searchConfig.init(this);
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			if (classPathIndex != null) {
+				classPathIndex.startNewSession();
+			}
 			context.executeSearch(() -> {
 				Collection<FileSystemItem> pathsToBeScanned = searchConfig.getPathsToBeScanned();
-
+				Map<FileSystemItem, Collection<FileSystemItem>> notLoadedItems = new ConcurrentHashMap<>();
+				boolean filteredByPackagePaths = searchConfig.getPackagePaths() != null;
 				IterableObjectHelper.iterate(
 					IterationConfig.of(
 						IterableObjectHelper.iterateAndGet(
@@ -174,8 +213,76 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 							)
 						)
 					).withAction(
+						currentScannedPathAndChildren -> {
+							Collection<FileSystemItem> notLoadedChildren = filteredByPackagePaths ?
+								ConcurrentHashMap.newKeySet() : null;
+							testClassCriteriaAndAddItemsToContext(
+								context,
+								currentScannedPathAndChildren.getKey(),
+								currentScannedPathAndChildren.getValue(),
+								notLoadedChildren
+							);
+							if (notLoadedChildren != null && !notLoadedChildren.isEmpty()) {
+								notLoadedItems.put(currentScannedPathAndChildren.getKey(), notLoadedChildren);
+							}
+						}
+					).parallelIf(
+						searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
+							searchConfig.getMinimumCollectionSizeForParallelIterationPredicate()::test :
+							null
+					).withPriority(
+						searchConfig.priority
+					)
+				);
+				testNotLoadedItemsAgain(context, pathsToBeScanned, notLoadedItems);
+				Collection<String> skippedClassesNames = context.getSkippedClassNames();
+				if (!skippedClassesNames.isEmpty()) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Skipped classes count: {}", skippedClassesNames.size());
+				}
+			});
+			if (classPathIndex != null) {
+				classPathIndex.store();
+			}
+			R searchResult = resultSupplier.apply(context);
+			searchResult.setClassPathScanner(this);
+			return searchResult;
+		}
+
+		//Scans and tests every path in one pass, so that the items are passed to the consumer as soon as they are
+		//found: the consumer can stop the search by throwing TerminateIteration and, in this case, the result
+		//contains only the items passed to it. The classes that cannot be loaded because they depend on classes
+		//of paths not yet scanned are tested again after all paths have been scanned
+		public R findBy(SearchConfig input, Consumer<? super I> itemConsumer) {
+			SearchConfig searchConfig = input.isInitialized() ? input : input.createCopy();
+			C context = searchConfig.isInitialized() ? searchConfig.getSearchContext() : searchConfig.init(this);
+			context.setItemConsumer(itemConsumer);
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			if (classPathIndex != null) {
+				classPathIndex.startNewSession();
+			}
+			context.executeSearch(() -> {
+				Collection<FileSystemItem> pathsToBeScanned = searchConfig.getPathsToBeScanned();
+				Map<FileSystemItem, Collection<FileSystemItem>> notLoadedItems = new ConcurrentHashMap<>();
+				IterableObjectHelper.iterate(
+					IterationConfig.of(pathsToBeScanned)
+					.withAction(
 						currentScannedPath -> {
-							testClassCriteriaAndAddItemsToContext(context, currentScannedPath);
+							if (context.isTerminated()) {
+								throw TerminateIteration.NOTIFICATION;
+							}
+							if (!currentScannedPath.isContainer()) {
+								throw new IllegalArgumentException(Strings.compile("{} is not a folder or archive", currentScannedPath.getAbsolutePath()));
+							}
+							Collection<FileSystemItem> notLoadedChildren = ConcurrentHashMap.newKeySet();
+							testClassCriteriaAndAddItemsToContext(
+								context,
+								currentScannedPath,
+								scanAndAddToPathScannerClassLoader(context, currentScannedPath),
+								notLoadedChildren
+							);
+							if (!notLoadedChildren.isEmpty()) {
+								notLoadedItems.put(currentScannedPath, notLoadedChildren);
+							}
 						}
 					).parallelIf(
 						searchConfig.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
@@ -185,11 +292,15 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 						searchConfig.priority
 					)
 				);
+				testNotLoadedItemsAgain(context, pathsToBeScanned, notLoadedItems);
 				Collection<String> skippedClassesNames = context.getSkippedClassNames();
 				if (!skippedClassesNames.isEmpty()) {
 					ManagedLoggerRepository.logWarn(getClass()::getName, "Skipped classes count: {}", skippedClassesNames.size());
 				}
 			});
+			if (classPathIndex != null) {
+				classPathIndex.store();
+			}
 			R searchResult = resultSupplier.apply(context);
 			searchResult.setClassPathScanner(this);
 			return searchResult;
@@ -200,7 +311,21 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			FileSystemItem currentScannedPath
 		) {
 			SearchConfig searchConfig = context.searchConfig;
-			FileSystemItem.Criteria allFileFilters = searchConfig.getAllFileFilters(currentScannedPath);
+			Collection<String> packagePaths = searchConfig.getPackagePaths();
+			if (packagePaths != null && !currentScannedPath.mayContainFolders(packagePaths)) {
+				return Collections.emptySet();
+			}
+			//When the consumer terminates the search the filter stops the iteration of the remaining children
+			FileSystemItem.Criteria allFileFilters = context.isTerminable() ?
+				FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> {
+					if (context.isTerminated()) {
+						throw TerminateIteration.NOTIFICATION;
+					}
+					return true;
+				}).and(
+					searchConfig.getAllFileFilters(currentScannedPath)
+				) :
+				searchConfig.getAllFileFilters(currentScannedPath);
 			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
 			if (searchConfig.useDefaultPathScannerClassLoaderAsParent ||
 				(!searchConfig.useDefaultPathScannerClassLoaderAsParent && !searchConfig.useDefaultPathScannerClassLoader && searchConfig.pathScannerClassLoader == null)) {
@@ -208,19 +333,14 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			}
 			if (!searchConfig.getRefreshPathIf().test(currentScannedPath) &&
 				pathScannerClassLoader.hasBeenCompletelyLoaded(currentScannedPath.getAbsolutePath())) {
-				return searchConfig.getFindFunction(currentScannedPath).apply(
-					searchConfig.getRefreshPathIf().test(
-						currentScannedPath
-					) ?	currentScannedPath.refresh() : currentScannedPath,
-					searchConfig.getAllFileFilters(currentScannedPath)
-				);
+				return findIn(context, currentScannedPath, allFileFilters);
 			} else {
 				return Synchronizer.execute(pathScannerClassLoader.instanceId + "_" + currentScannedPath.getAbsolutePath(), () -> {
 					Boolean loadPathCompletely = null;
 					FileSystemItem.Criteria allFileFiltersInternal = allFileFilters;
 					if (searchConfig.getRefreshPathIf().test(currentScannedPath) ||
 						!pathScannerClassLoader.hasBeenCompletelyLoaded(currentScannedPath.getAbsolutePath())) {
-						if (!searchConfig.isFileFilterExternallySet() &&
+						if (!searchConfig.isFileFilterExternallySet() && packagePaths == null &&
 							searchConfig.getFindFunction(currentScannedPath) != FileSystemItem.Find.IN_CHILDREN) {
 							loadPathCompletely = Boolean.TRUE;
 						} else {
@@ -230,18 +350,175 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 							getPathScannerClassLoaderFiller(context, currentScannedPath)
 						);
 					}
-					Collection<FileSystemItem> itemsFound = searchConfig.getFindFunction(currentScannedPath).apply(
+					Collection<FileSystemItem> itemsFound = findIn(context, currentScannedPath, allFileFiltersInternal);
+					if (loadPathCompletely != null && !context.isTerminated()) {
+						pathScannerClassLoader.loadedPaths.put(currentScannedPath.getAbsolutePath(), loadPathCompletely);
+					}
+					return itemsFound;
+				});
+			}
+		}
+
+		//When the class path index is enabled the class files of a path that has not changed since the previous
+		//scan are taken from the index and filtered in memory without listing the children of the path. The path
+		//is listed only when it has changed and, in this case, it is refreshed so that the class files recorded in
+		//the index are not those cached before the change
+		Collection<FileSystemItem> findIn(C context, FileSystemItem currentScannedPath, FileSystemItem.Criteria fileFilters) {
+			SearchConfig searchConfig = context.searchConfig;
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			BiFunction<FileSystemItem, FileSystemItem.Criteria, Collection<FileSystemItem>> findFunction =
+				searchConfig.getFindFunction(currentScannedPath);
+			if (classPathIndex == null || searchConfig.isFileFilterExternallySet() || findFunction != FileSystemItem.Find.IN_ALL_CHILDREN) {
+				return findFunction.apply(
+					searchConfig.getRefreshPathIf().test(
+						currentScannedPath
+					) ? currentScannedPath.refresh() : currentScannedPath,
+					fileFilters
+				);
+			}
+			Collection<FileSystemItem> classFiles;
+			if (searchConfig.getPackagePaths() != null) {
+				//A changed path is not listed completely when the search is filtered by package paths, so it is
+				//not recorded in the index and the files placed outside of the packages are excluded without
+				//reading them
+				classFiles = classPathIndex.getClassFilesIfUnchanged(currentScannedPath);
+				if (classFiles == null) {
+					return findFunction.apply(
 						searchConfig.getRefreshPathIf().test(
 							currentScannedPath
 						) ? currentScannedPath.refresh() : currentScannedPath,
-						allFileFiltersInternal
+						fileFilters
 					);
-					if (loadPathCompletely != null) {
-						pathScannerClassLoader.loadedPaths.put(currentScannedPath.getAbsolutePath(), loadPathCompletely);
+				}
+			} else {
+				classFiles = classPathIndex.getClassFiles(
+					currentScannedPath,
+					scannedPath -> scannedPath.refresh().findInAllChildren(searchConfig.getAllFileFilters(scannedPath, false))
+				);
+				if (classFiles == null) {
+					return null;
+				}
+			}
+			Predicate<FileSystemItem[]> fileFiltersPredicate = fileFilters.getPredicateOrTruePredicateIfPredicateIsNull();
+			return IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(classFiles)
+				.parallelIf(
+					fileFilters.getMinimumCollectionSizeForParallelIterationPredicate() != null ?
+						fileFilters.getMinimumCollectionSizeForParallelIterationPredicate()::test :
+						null
+				).withPriority(
+					fileFilters.getPriority()
+				).withOutput(
+					ConcurrentHashMap.<FileSystemItem>newKeySet()
+				).withAction(
+					(classFile, outputHandler) -> {
+						if (fileFiltersPredicate.test(new FileSystemItem[] {classFile, currentScannedPath})) {
+							outputHandler.accept(output -> output.add(classFile));
+						}
 					}
-					return itemsFound;
-				});
+				)
+			);
+		}
+
+
+		//Tests again the classes that could not be loaded: if the files placed outside of the packages admitted by
+		//the class criteria have been excluded, the classes that were missing are searched in the scanned paths and
+		//added to the PathScannerClassLoader until the not loaded classes don't depend on other missing classes
+		void testNotLoadedItemsAgain(
+			C context,
+			Collection<FileSystemItem> scannedPaths,
+			Map<FileSystemItem, Collection<FileSystemItem>> notLoadedItems
+		) {
+			if (notLoadedItems.isEmpty()) {
+				return;
+			}
+			if (context.searchConfig.getPackagePaths() == null) {
+				testNotLoadedItemsAgain(context, notLoadedItems, null);
+				return;
+			}
+			//The loop ends when no other missing class is found: the missing classes already found are added again
+			//every time because the class loader removes the byte codes of the classes that it could not define
+			Collection<String> missingClassNames = new HashSet<>();
+			while (!notLoadedItems.isEmpty() && !context.isTerminated()) {
+				Collection<String> notLoadedClassNames = new HashSet<>();
+				for (Collection<FileSystemItem> children : notLoadedItems.values()) {
+					for (FileSystemItem child : children) {
+						notLoadedClassNames.add(toJavaClass(child).getName());
+					}
+				}
+				boolean otherMissingClassesFound = false;
+				for (String className : new ArrayList<>(context.getSkippedClassNames())) {
+					if (!notLoadedClassNames.contains(className)) {
+						otherMissingClassesFound |= missingClassNames.add(className);
+					}
+				}
+				if (!otherMissingClassesFound) {
+					return;
+				}
+				for (String className : missingClassNames) {
+					addToPathScannerClassLoader(context, scannedPaths, className);
+				}
+				Map<FileSystemItem, Collection<FileSystemItem>> stillNotLoadedItems = new HashMap<>();
+				testNotLoadedItemsAgain(context, notLoadedItems, stillNotLoadedItems);
+				notLoadedItems = stillNotLoadedItems;
+			}
+		}
+
+		void testNotLoadedItemsAgain(
+			C context,
+			Map<FileSystemItem, Collection<FileSystemItem>> notLoadedItems,
+			Map<FileSystemItem, Collection<FileSystemItem>> stillNotLoadedItems
+		) {
+			for (Map.Entry<FileSystemItem, Collection<FileSystemItem>> currentScannedPathAndChildren : notLoadedItems.entrySet()) {
+				if (context.isTerminated()) {
+					break;
+				}
+				//The byte codes of the classes that could not be defined have been removed from the class loader
+				for (FileSystemItem child : currentScannedPathAndChildren.getValue()) {
+					JavaClass javaClass = toJavaClass(child);
+					context.getSkippedClassNames().remove(javaClass.getName());
+					addToPathScannerClassLoader(context, javaClass);
+				}
+				Collection<FileSystemItem> notLoadedChildren = stillNotLoadedItems != null ?
+					ConcurrentHashMap.newKeySet() : null;
+				testClassCriteriaAndAddItemsToContext(
+					context, currentScannedPathAndChildren.getKey(), currentScannedPathAndChildren.getValue(), notLoadedChildren
+				);
+				if (notLoadedChildren != null && !notLoadedChildren.isEmpty()) {
+					stillNotLoadedItems.put(currentScannedPathAndChildren.getKey(), notLoadedChildren);
+				}
+			}
+		}
+
+		boolean addToPathScannerClassLoader(C context, Collection<FileSystemItem> scannedPaths, String className) {
+			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			if (pathScannerClassLoader.loadedByteCodes.get(className) != null ||
+				pathScannerClassLoader.notLoadedByteCodes.get(className) != null) {
+				return false;
+			}
+			String classFileRelativePath = className.replace(".", "/") + ".class";
+			for (FileSystemItem scannedPath : scannedPaths) {
+				FileSystemItem classFile = FileSystemItem.ofPath(scannedPath.getAbsolutePath() + "/" + classFileRelativePath);
+				if (classFile.exists()) {
+					JavaClass javaClass = toJavaClass(classFile);
+					if (javaClass != null && className.equals(javaClass.getName())) {
+						context.getSkippedClassNames().remove(className);
+						return addToPathScannerClassLoader(context, javaClass);
+					}
+				}
 			}
+			return false;
+		}
+
+		boolean addToPathScannerClassLoader(C context, JavaClass javaClass) {
+			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			String className = javaClass.getName();
+			if (pathScannerClassLoader.loadedByteCodes.get(className) == null &&
+				pathScannerClassLoader.notLoadedByteCodes.get(className) == null) {
+				pathScannerClassLoader.addByteCode0(className, javaClass.getByteCode());
+				return true;
+			}
+			return false;
 		}
 
 
@@ -251,7 +528,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		) {
 			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
 			return FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> {
-				JavaClass javaClass = fileSystemItem.toJavaClass();
+				JavaClass javaClass = toJavaClass(fileSystemItem);
 				try {
 					String className = javaClass.getName();
 					if (pathScannerClassLoader.loadedByteCodes.get(className) == null &&
@@ -270,23 +547,29 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 
 		void testClassCriteriaAndAddItemsToContext(
 			C context,
-			Map.Entry<FileSystemItem, Collection<FileSystemItem>> currentScannedPathAndChildren
+			FileSystemItem currentScannedPath,
+			Collection<FileSystemItem> children,
+			Collection<FileSystemItem> notLoadedChildren
 		) {
-			FileSystemItem currentScannedPath = currentScannedPathAndChildren.getKey();
 			String currentScannedAbsolutePath = currentScannedPath.getAbsolutePath();
 			FileSystemItem.Criteria allFileFilters = context.searchConfig.getAllFileFilters(currentScannedPath);
 			IterableObjectHelper.iterate(
 				IterationConfig.of(
-					currentScannedPathAndChildren.getValue()
+					children
 				).withAction(
 					child -> {
-						JavaClass javaClass = child.toJavaClass();
+						if (context.isTerminated()) {
+							throw TerminateIteration.NOTIFICATION;
+						}
+						JavaClass javaClass = toJavaClass(child);
 						try {
 							ClassCriteria.TestContext criteriaTestContext = testClassCriteria(context, javaClass);
 							if (criteriaTestContext.getResult()) {
 								addToContext(
 									context, criteriaTestContext, currentScannedAbsolutePath, child, javaClass
 								);
+							} else if (notLoadedChildren != null && context.getSkippedClassNames().contains(javaClass.getName())) {
+								notLoadedChildren.add(child);
 							}
 						} catch (NullPointerException exc) {
 							if (javaClass != null) {
@@ -300,16 +583,68 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 						null
 				).withPriority(
 					allFileFilters.getPriority()
-				)
+				).adaptiveChunked()
 			);
 		}
 
 
+		JavaClass toJavaClass(FileSystemItem classFile) {
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			return classPathIndex != null ?
+				classPathIndex.toJavaClass(classFile) :
+				classFile.toJavaClass();
+		}
+
+
 		ClassCriteria.TestContext testClassCriteria(C context, JavaClass javaClass) {
-			return context.test(context.loadClass(javaClass.getName()));
+			if (!context.testWithoutLoading(javaClass)) {
+				return context.getSearchConfig().getClassCriteria().testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null);
+			}
+			return context.test(javaClass, context.loadClass(javaClass.getName()));
 		}
 
 
+		//Applies the changes detected by a FileSystemWatcher to the items found: a modified class already defined
+		//by the PathScannerClassLoader keeps its previous definition and the changed archives are not scanned
+		//again until the next search
+		@SuppressWarnings("unchecked")
+		void applyChanges(SearchContext<I> searchContext, Collection<FileSystemWatcher.Event> events) {
+			C context = (C)searchContext;
+			context.waitForSearchEnding();
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			if (classPathIndex != null) {
+				classPathIndex.startNewSession();
+			}
+			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			Collection<FileSystemItem> pathsToBeScanned = context.searchConfig.getPathsToBeScanned();
+			for (FileSystemWatcher.Event event : events) {
+				String absolutePath = event.getAbsolutePath();
+				pathScannerClassLoader.invalidateLoadedPaths(absolutePath);
+				context.removeItemsFound(absolutePath);
+				if (event.getKind() == FileSystemWatcher.Event.Kind.DELETED || context.isTerminated()) {
+					continue;
+				}
+				for (FileSystemItem currentScannedPath : pathsToBeScanned) {
+					if (absolutePath.startsWith(currentScannedPath.getAbsolutePath() + "/")) {
+						FileSystemItem child = FileSystemItem.ofPath(absolutePath);
+						if (child.exists() && !child.isContainer() &&
+							context.searchConfig.getAllFileFilters(currentScannedPath).getPredicateOrTruePredicateIfPredicateIsNull().test(
+								new FileSystemItem[] {child, currentScannedPath}
+							)
+						) {
+							JavaClass javaClass = toJavaClass(child);
+							if (javaClass != null && pathScannerClassLoader.loadedByteCodes.get(javaClass.getName()) == null) {
+								pathScannerClassLoader.addByteCode0(javaClass.getName(), javaClass.getByteCode());
+							}
+							testClassCriteriaAndAddItemsToContext(context, currentScannedPath, Collections.singleton(child), null);
+						}
+						break;
+					}
+				}
+			}
+			context.resetItemsFound();
+		}
+
 		abstract void addToContext(
 			C context,
 			ClassCriteria.TestContext criteriaTestContext,
@@ -349,6 +684,11 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			defaultPathScannerClassLoaderManager.close();
 			defaultPathScannerClassLoaderManager = null;
 			this.searchResults = null;
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			if (classPathIndex != null) {
+				this.classPathIndex = null;
+				classPathIndex.close();
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -35,6 +35,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
@@ -65,6 +66,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -80,6 +82,7 @@ import org.burningwave.core.assembler.StaticComponentContainer;
 import org.burningwave.core.classes.Fields.NoSuchFieldException;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.FileSystemItem;
+import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
 
 @SuppressWarnings({"unchecked", "resource"})
 public class Classes implements MembersRetriever {
@@ -669,10 +672,12 @@ public class Classes implements MembersRetriever {
 			ClassLoader classLoader
 		) throws ClassNotFoundException {
 			if (!(classLoader instanceof MemoryClassLoader)) {
-				return loadOrDefineByByteCode(
-					className, clsName -> byteCodes.get(clsName).getByteCode(), classLoader,
-					getDefineClassMethod(classLoader), getDefinePackageMethod(classLoader)
-				);
+				return (Class<T>)loadOrDefineByDependencies(
+					Arrays.asList(className),
+					clsName -> Optional.ofNullable(byteCodes.get(clsName)).map(JavaClass::getByteCode).orElseGet(() -> null),
+					clsName -> Optional.ofNullable(byteCodes.get(clsName)).map(this::getSuperTypeNames).orElseGet(() -> null),
+					classLoader
+				).get(className);
 			} else {
 				for (Map.Entry<String, JavaClass> clazz : byteCodes.entrySet()) {
 					((MemoryClassLoader)classLoader).addByteCode(
@@ -695,11 +700,26 @@ public class Classes implements MembersRetriever {
 			String className,
 			Map<String, ByteBuffer> repository,
 			ClassLoader classLoader
+		) throws ClassNotFoundException {
+			return (Class<T>)loadOrDefineByByteCode(Arrays.asList(className), repository, classLoader).get(className);
+		}
+
+		//Loads or defines the classes with the given names and, before them, the super classes and the interfaces
+		//found in the repository: each class is defined once, after its super types, without trying to define it
+		//to find out which classes are missing
+		public Map<String, Class<?>> loadOrDefineByByteCode(
+			Collection<String> classNames,
+			Map<String, ByteBuffer> repository,
+			ClassLoader classLoader
 		) throws ClassNotFoundException {
 			if (!(classLoader instanceof MemoryClassLoader)) {
-				return loadOrDefineByByteCode(
-					className, clsName -> repository.get(clsName), classLoader,
-					getDefineClassMethod(classLoader), getDefinePackageMethod(classLoader)
+				return loadOrDefineByDependencies(
+					classNames,
+					repository::get,
+					clsName -> Optional.ofNullable(repository.get(clsName)).map(
+						byteCode -> JavaClass.extractByUsing(BufferHandler.duplicate(byteCode), this::getSuperTypeNames)
+					).orElseGet(() -> null),
+					classLoader
 				);
 			} else {
 				for (Map.Entry<String, ByteBuffer> clazz : repository.entrySet()) {
@@ -707,8 +727,114 @@ public class Classes implements MembersRetriever {
 						clazz.getKey(), clazz.getValue()
 					);
 				}
-				return (Class<T>) classLoader.loadClass(className);
+				Map<String, Class<?>> classes = new HashMap<>();
+				for (String className : classNames) {
+					classes.put(className, classLoader.loadClass(className));
+				}
+				return classes;
+			}
+		}
+
+		private Map<String, Class<?>> loadOrDefineByDependencies(
+			Collection<String> classNames,
+			Function<String, ByteBuffer> byteCodeSupplier,
+			Function<String, Collection<String>> superTypeNamesSupplier,
+			ClassLoader classLoader
+		) throws ClassNotFoundException {
+			MethodHandle defineClassMethod = getDefineClassMethod(classLoader);
+			MethodHandle definePackageMethod = getDefinePackageMethod(classLoader);
+			List<Collection<String>> levels = computeDefinitionLevels(classNames, superTypeNamesSupplier);
+			//The classes are defined in parallel only if the current thread does not hold any of the locks that the
+			//other threads would need to define them
+			boolean parallel = levels.stream().flatMap(Collection::stream).noneMatch(className ->
+				Thread.holdsLock(getClassLoadingLock(classLoader, className))
+			);
+			Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+			for (Collection<String> level : levels) {
+				AtomicReference<Throwable> exceptionWrapper = new AtomicReference<>();
+				IterableObjectHelper.iterate(
+					IterationConfig.of(level)
+					.parallelIf(lvl -> parallel && lvl.size() > 1)
+					.withAction(className -> {
+						try {
+							classes.put(
+								className,
+								loadOrDefineByByteCode(className, byteCodeSupplier, classLoader, defineClassMethod, definePackageMethod, false)
+							);
+						} catch (Throwable exc) {
+							exceptionWrapper.compareAndSet(null, exc);
+						}
+					})
+				);
+				Throwable exception = exceptionWrapper.get();
+				if (exception instanceof ClassNotFoundException) {
+					throw (ClassNotFoundException)exception;
+				} else if (exception != null) {
+					Driver.throwException(exception);
+				}
+			}
+			return classes;
+		}
+
+		/* Groups the classes with the given names and their super types that are in the repository (the ones whose
+		 * super type names are not null) so that the super types of the classes of each level are in the previous
+		 * levels: the classes of the same level are independent of each other */
+		private List<Collection<String>> computeDefinitionLevels(
+			Collection<String> classNames,
+			Function<String, Collection<String>> superTypeNamesSupplier
+		) {
+			Map<String, Integer> depths = new HashMap<>();
+			List<Collection<String>> levels = new ArrayList<>();
+			for (String className : classNames) {
+				computeDefinitionLevel(className, superTypeNamesSupplier.apply(className), superTypeNamesSupplier, depths, levels);
 			}
+			return levels;
+		}
+
+		private int computeDefinitionLevel(
+			String className,
+			Collection<String> superTypeNames,
+			Function<String, Collection<String>> superTypeNamesSupplier,
+			Map<String, Integer> depths,
+			List<Collection<String>> levels
+		) {
+			Integer depth = depths.get(className);
+			if (depth != null) {
+				//Negative depth means that the class is being visited: the cycles are not valid for the JVM
+				//and are broken here leaving the definition to fail
+				return depth;
+			}
+			depths.put(className, -1);
+			depth = 0;
+			if (superTypeNames != null) {
+				for (String superTypeName : superTypeNames) {
+					Collection<String> superTypeNamesOfSuperType = superTypeNamesSupplier.apply(superTypeName);
+					if (superTypeNamesOfSuperType != null) {
+						depth = Math.max(
+							depth,
+							computeDefinitionLevel(superTypeName, superTypeNamesOfSuperType, superTypeNamesSupplier, depths, levels) + 1
+						);
+					}
+				}
+			}
+			depths.put(className, depth);
+			while (levels.size() <= depth) {
+				levels.add(new ArrayList<>());
+			}
+			levels.get(depth).add(className);
+			return depth;
+		}
+
+		private Collection<String> getSuperTypeNames(io.github.toolfactory.jvm.util.JavaClass javaClass) {
+			Collection<String> superTypeNames = new ArrayList<>();
+			if (javaClass.getSuperClassName() != null) {
+				superTypeNames.add(javaClass.getSuperClassName());
+			}
+			String[] interfaceNames = javaClass.getInterfaceNames();
+			if (interfaceNames != null) {
+				superTypeNames.addAll(Arrays.asList(interfaceNames));
+			}
+			return superTypeNames;
 		}
 
 
@@ -718,6 +844,18 @@ public class Classes implements MembersRetriever {
 			ClassLoader classLoader,
 			MethodHandle defineClassMethod,
 			MethodHandle definePackageMethod
+		) throws ClassNotFoundException {
+			return loadOrDefineByByteCode(className, byteCodeSupplier, classLoader, defineClassMethod, definePackageMethod, true);
+		}
+
+		//If missingClassesResolutionEnabled is true the missing classes are searched through the exceptions raised by the definition
+		private <T> Class<T> loadOrDefineByByteCode(
+			String className,
+			Function<String, ByteBuffer> byteCodeSupplier,
+			ClassLoader classLoader,
+			MethodHandle defineClassMethod,
+			MethodHandle definePackageMethod,
+			boolean missingClassesResolutionEnabled
 		) throws ClassNotFoundException {
 			try {
 				try {
@@ -731,6 +869,13 @@ public class Classes implements MembersRetriever {
 				if (byteCodeSupplier.apply(className) == null) {
 					throw new ClassNotFoundException(className);
 				}
+				if (!missingClassesResolutionEnabled) {
+					//The super types have already been defined: the missing class is not in the repository
+					ManagedLoggerRepository.logDebug(
+						getClass()::getName, "Could not define class {} by its dependencies: {}", className, exc.toString()
+					);
+					return loadOrDefineByByteCode(className, byteCodeSupplier, classLoader, defineClassMethod, definePackageMethod, true);
+				}
 				String newNotFoundClassName = Classes.retrieveNames(exc).stream().findFirst().orElseGet(() -> null);
 				loadOrDefineByByteCode(
 					newNotFoundClassName,
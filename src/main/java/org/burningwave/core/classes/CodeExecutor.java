@@ -61,6 +61,7 @@ public interface CodeExecutor {
 			public static final String PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX = ".simple-name";
 			public static final String PROPERTIES_FILE_SUPPLIER_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_SUPPLIER_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
 			public static final String PROPERTIES_FILE_EXECUTOR_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_EXECUTOR_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
+			public static final String PREPARED_EXECUTABLES_MAX_ENTRIES = "code-executor.prepared-executables.max-entries";
 
 		}
 
@@ -81,6 +82,7 @@ public interface CodeExecutor {
 				QueuedTaskExecutor.Task.class.getName() + IterableObjectHelper.getDefaultValuesSeparator() +
 				Supplier.class.getName() + IterableObjectHelper.getDefaultValuesSeparator()
 			);
+			defaultValues.put(Key.PREPARED_EXECUTABLES_MAX_ENTRIES, "128");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -109,4 +111,15 @@ public interface CodeExecutor {
 
 	public <E extends LoadOrBuildAndDefineConfig.ForCodeExecutorAbst<E>, T extends Executable> Class<T> loadOrBuildAndDefineExecutorSubType(
 			E config);
+
+	//The prepare methods compile and define the code only the first time and return a thread safe Executable that
+	//can be invoked many times with different parameters: the prepared Executables are kept in a cache whose
+	//size is defined by the 'code-executor.prepared-executables.max-entries' property
+	public Executable prepareProperty(String propertyName, Class<?>... parameterTypes);
+
+	public Executable prepare(ExecuteConfig.ForProperties config);
+
+	public Executable prepare(BodySourceGenerator body);
+
+	public <E extends ExecuteConfig<E>> Executable prepare(E config);
 }
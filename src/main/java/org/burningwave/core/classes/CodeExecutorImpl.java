@@ -30,12 +30,18 @@ package org.burningwave.core.classes;
 
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -47,12 +53,13 @@ import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
 
 
-@SuppressWarnings("unchecked")
+@SuppressWarnings({"unchecked", "rawtypes"})
 public class CodeExecutorImpl implements CodeExecutor, Component {
 	private ClassFactory classFactory;
 	private PathHelper pathHelper;
 	private Supplier<ClassFactory> classFactorySupplier;
 	private Map<?, ?> config;
+	private Map<String, PreparedExecutable> preparedExecutables;
 
 	CodeExecutorImpl(
 		Supplier<ClassFactory> classFactorySupplier,
@@ -62,6 +69,27 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.pathHelper = pathHelper;
 		this.config = config;
+		int preparedExecutablesMaxEntries = Integer.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.PREPARED_EXECUTABLES_MAX_ENTRIES)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		this.preparedExecutables = new LinkedHashMap<String, PreparedExecutable>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -1815326410464862254L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedExecutable> eldest) {
+				if (size() > preparedExecutablesMaxEntries) {
+					eldest.getValue().close();
+					return true;
+				}
+				return false;
+			}
+
+		};
 		checkAndListenTo(config);
 	}
 
@@ -77,6 +105,13 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 
 	@Override
 	public <E extends ExecuteConfig<E>, T> T execute(ExecuteConfig.ForProperties config) {
+		buildBody(config);
+		return execute(
+			(E)config
+		);
+	}
+
+	private void buildBody(ExecuteConfig.ForProperties config) {
 		Map<?, ?> properties = config.getProperties();
 		if (properties == null) {
 			if (config.getFilePath() == null) {
@@ -155,10 +190,6 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 				"return " + code + ";"
 			);
 		}
-
-		return execute(
-			(E)config
-		);
 	}
 
 	private <R> R retrieveValue(
@@ -255,14 +286,217 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		return executableClass;
 	}
 
+	@Override
+	public Executable prepareProperty(String propertyName, Class<?>... parameterTypes) {
+		ExecuteConfig.ForProperties config = ExecuteConfig.forProperty(propertyName);
+		if (parameterTypes != null) {
+			config.getBody().useType(parameterTypes);
+		}
+		return prepare(config);
+	}
+
+	@Override
+	public Executable prepare(ExecuteConfig.ForProperties config) {
+		buildBody(config);
+		return prepare((ExecuteConfig)config);
+	}
+
+	@Override
+	public Executable prepare(BodySourceGenerator body) {
+		return prepare((ExecuteConfig)ExecuteConfig.forBodySourceGenerator(body));
+	}
+
+	@Override
+	public <E extends ExecuteConfig<E>> Executable prepare(E config) {
+		return prepare(new Preparation(config));
+	}
+
+	PreparedExecutable prepare(Preparation preparation) {
+		PreparedExecutable preparedExecutable;
+		synchronized (preparedExecutables) {
+			preparedExecutable = preparedExecutables.get(preparation.key);
+		}
+		if (preparedExecutable != null) {
+			return preparedExecutable;
+		}
+		return Synchronizer.execute(getOperationId("prepare_" + preparation.key.hashCode()), () -> {
+			PreparedExecutable newPreparedExecutable;
+			synchronized (preparedExecutables) {
+				newPreparedExecutable = preparedExecutables.get(preparation.key);
+			}
+			if (newPreparedExecutable == null) {
+				newPreparedExecutable = new PreparedExecutable(this, preparation);
+				synchronized (preparedExecutables) {
+					preparedExecutables.put(preparation.key, newPreparedExecutable);
+				}
+			}
+			return newPreparedExecutable;
+		});
+	}
+
 	@Override
 	public void close() {
 		if (config instanceof Properties) {
 			checkAndUnregister((Properties)config);
 		}
+		Collection<PreparedExecutable> preparedExecutables;
+		synchronized (this.preparedExecutables) {
+			preparedExecutables = new ArrayList<>(this.preparedExecutables.values());
+			this.preparedExecutables.clear();
+		}
+		preparedExecutables.forEach(PreparedExecutable::close);
 		classFactory = null;
 		pathHelper = null;
 		classFactorySupplier = null;
 		config = null;
 	}
-}
\ No newline at end of file
+
+	//Takes a snapshot of the settings of the configuration so that the code can be compiled and defined again
+	//after the related PreparedExecutable has been evicted: the key is made of the package of the executor, whose
+	//name is random by default, of its body and of the types used by it, so that the source of the whole unit is
+	//built only when the executor is compiled
+	static class Preparation {
+		private final ExecuteConfig<?> config;
+		private final ClassLoader classLoader;
+		private final ClassLoader parentClassLoader;
+		private final boolean useDefaultClassLoaderAsParent;
+		private final String key;
+
+		Preparation(ExecuteConfig<?> config) {
+			this.config = config.createCopy();
+			this.classLoader = config.getClassLoader();
+			this.parentClassLoader = config.getParentClassLoader();
+			this.useDefaultClassLoaderAsParent = config.isUseDefaultClassLoaderAsParentIfParentClassLoaderIsNull();
+			BodySourceGenerator body = config.getBody();
+			Collection<String> usedTypes = new TreeSet<>();
+			for (TypeDeclarationSourceGenerator typeDeclaration : body.getTypeDeclarations()) {
+				if (typeDeclaration.getName() != null) {
+					usedTypes.add(typeDeclaration.getName());
+				}
+			}
+			StringBuilder key = new StringBuilder(Classes.retrievePackageName(config.getExecutorName()));
+			key.append("\n").append(body.make())
+			.append("\n").append(usedTypes)
+			.append("\n").append(classLoader != null ? Objects.getId(classLoader) : "")
+			.append("\n").append(parentClassLoader != null ? Objects.getId(parentClassLoader) : "")
+			.append("\n").append(useDefaultClassLoaderAsParent);
+			this.key = key.toString();
+		}
+
+	}
+
+	//An Executable compiled and defined only once: its class loader is released when it is evicted from the cache of
+	//the CodeExecutor and, if it is invoked after that, it is prepared again. The executions in progress when it is
+	//evicted are counted, so that the class loader is released only when the last of them ends. As in the execute
+	//method, a class loader supplied by the caller has the parent class loader set only while the executor is
+	//defined and while it is executed, and its original parent is restored right after
+	static class PreparedExecutable implements Executable, Component {
+		private final CodeExecutorImpl codeExecutor;
+		private final Preparation preparation;
+		private final Object client;
+		private Executable executable;
+		private int executionsCount;
+		private boolean closed;
+		private ClassLoader defaultClassLoader;
+		private MemoryClassLoader memoryClassLoader;
+		private ClassLoader parentClassLoader;
+		private Function<Boolean, ClassLoader> parentClassLoaderRestorer;
+
+		PreparedExecutable(CodeExecutorImpl codeExecutor, Preparation preparation) {
+			this.codeExecutor = codeExecutor;
+			this.preparation = preparation;
+			this.client = new Object() {};
+			parentClassLoader = preparation.parentClassLoader;
+			if (parentClassLoader == null && preparation.useDefaultClassLoaderAsParent) {
+				parentClassLoader = defaultClassLoader = ((ClassFactoryImpl)codeExecutor.getClassFactory()).getDefaultClassLoader(client);
+			}
+			try {
+				ClassLoader classLoader = preparation.classLoader;
+				if (classLoader == null) {
+					classLoader = memoryClassLoader = MemoryClassLoader.create(parentClassLoader);
+					memoryClassLoader.register(client);
+				} else {
+					setParentClassLoader();
+				}
+				try {
+					Class<? extends Executable> executableClass = codeExecutor.loadOrBuildAndDefineExecutorSubType(
+						preparation.config.createCopy().useClassLoader(classLoader)
+					);
+					executable = Constructors.newInstanceDirectOf(executableClass);
+				} finally {
+					restoreParentClassLoader();
+				}
+			} catch (Throwable exc) {
+				close();
+				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+			}
+		}
+
+		@Override
+		public Object execute(Object... parameters) throws Throwable {
+			Executable executable = acquire();
+			if (executable == null) {
+				return codeExecutor.prepare(preparation).execute(parameters);
+			}
+			try {
+				return executable.execute(parameters);
+			} finally {
+				release();
+			}
+		}
+
+		private synchronized Executable acquire() {
+			Executable executable = this.executable;
+			if (executable != null && ++executionsCount == 1) {
+				setParentClassLoader();
+			}
+			return executable;
+		}
+
+		private synchronized void release() {
+			if (--executionsCount == 0) {
+				restoreParentClassLoader();
+				if (closed) {
+					releaseClassLoaders();
+				}
+			}
+		}
+
+		private void setParentClassLoader() {
+			ClassLoader classLoader = preparation.classLoader;
+			if (classLoader != null && parentClassLoader != null && ClassLoaders.getParent(classLoader) != parentClassLoader) {
+				parentClassLoaderRestorer = ClassLoaders.setAsParent(classLoader, parentClassLoader);
+			}
+		}
+
+		private void restoreParentClassLoader() {
+			if (parentClassLoaderRestorer != null) {
+				parentClassLoaderRestorer.apply(true);
+				parentClassLoaderRestorer = null;
+			}
+		}
+
+		@Override
+		public synchronized void close() {
+			executable = null;
+			closed = true;
+			if (executionsCount == 0) {
+				releaseClassLoaders();
+			}
+		}
+
+		private void releaseClassLoaders() {
+			if (memoryClassLoader != null) {
+				memoryClassLoader.unregister(client, true);
+				memoryClassLoader = null;
+			}
+			if (defaultClassLoader instanceof MemoryClassLoader) {
+				((MemoryClassLoader)defaultClassLoader).unregister(client, true);
+			}
+			defaultClassLoader = null;
+			parentClassLoader = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,372 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.io.FileSystemWatcher;
+
+
+//Stores the byte codes produced by the compilations: the key is a hash of the sources, of the options, of the
+//Java version and of the class paths and their last modification time and size
+class CompilationCache implements Closeable {
+	private static final int FOLDER_FINGERPRINTS_MAX_SIZE = 256;
+	private static final long FOLDER_WATCHER_POLLING_INTERVAL = 1000;
+
+	private Map<String, Entry> entries;
+	private File folder;
+	private int maxEntries;
+	private Map<String, FolderFingerprint> folderFingerprints;
+	private FileSystemWatcher folderWatcher;
+
+	CompilationCache(int maxEntries, File folder) {
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -3548305683186452591L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompilationCache.Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+		this.folder = folder;
+		this.maxEntries = maxEntries;
+		this.folderFingerprints = new ConcurrentHashMap<>();
+	}
+
+	String computeKey(
+		Collection<String> sources,
+		Collection<String> classPaths,
+		Collection<String> classRepositories,
+		Collection<String> blackListedClassPaths,
+		Map<String, String> options
+	) {
+		MessageDigest messageDigest = newMessageDigest();
+		update(messageDigest, System.getProperty("java.version"));
+		update(messageDigest, System.getProperty("java.vendor"));
+		for (String source : new TreeSet<>(sources)) {
+			update(messageDigest, source);
+		}
+		if (options != null) {
+			for (Map.Entry<String, String> option : new TreeMap<>(options).entrySet()) {
+				update(messageDigest, option.getKey());
+				update(messageDigest, option.getValue());
+			}
+		}
+		updateWithPaths(messageDigest, classPaths);
+		updateWithPaths(messageDigest, classRepositories);
+		updateWithPaths(messageDigest, blackListedClassPaths);
+		StringBuilder key = new StringBuilder();
+		for (byte value : messageDigest.digest()) {
+			key.append(String.format("%02x", value));
+		}
+		return key.toString();
+	}
+
+	//The paths that could not be resolved are null and are skipped
+	private void updateWithPaths(MessageDigest messageDigest, Collection<String> paths) {
+		update(messageDigest, "paths");
+		if (paths == null) {
+			return;
+		}
+		Collection<String> sortedPaths = new TreeSet<>();
+		for (String path : paths) {
+			if (path != null) {
+				sortedPaths.add(path);
+			}
+		}
+		for (String path : sortedPaths) {
+			update(messageDigest, path);
+			File file = new File(path);
+			if (file.isDirectory()) {
+				update(messageDigest, getFolderFingerprint(file));
+			} else if (file.isFile()) {
+				update(messageDigest, file.lastModified() + ":" + file.length());
+			} else {
+				//The paths inside the archives are identified by the archive that contains them
+				File container = file.getParentFile();
+				while (container != null && !container.exists()) {
+					container = container.getParentFile();
+				}
+				if (container != null && container.isFile()) {
+					update(messageDigest, container.lastModified() + ":" + container.length());
+				} else {
+					update(messageDigest, "missing:" + path);
+				}
+			}
+		}
+	}
+
+	//The fingerprints of the folders are computed once and discarded when the watcher detects a change inside
+	//them: the folder is watched before computing its fingerprint so that no change is lost in the meantime
+	private String getFolderFingerprint(File folder) {
+		String absolutePath = Paths.toNormalizedCleanedAbsolutePath(folder.getAbsolutePath());
+		FolderFingerprint folderFingerprint = folderFingerprints.get(absolutePath);
+		if (folderFingerprint != null && folderFingerprint.value != null) {
+			return folderFingerprint.value;
+		}
+		FileSystemWatcher folderWatcher = getFolderWatcher();
+		if (folderFingerprints.size() >= FOLDER_FINGERPRINTS_MAX_SIZE) {
+			for (String watchedPath : folderFingerprints.keySet()) {
+				folderWatcher.unwatch(watchedPath);
+			}
+			folderFingerprints.clear();
+		}
+		folderFingerprint = new FolderFingerprint();
+		folderFingerprints.put(absolutePath, folderFingerprint);
+		folderWatcher.watch(absolutePath);
+		MessageDigest messageDigest = newMessageDigest();
+		updateWithFile(messageDigest, folder, "");
+		StringBuilder value = new StringBuilder();
+		for (byte byteValue : messageDigest.digest()) {
+			value.append(String.format("%02x", byteValue));
+		}
+		folderFingerprint.value = value.toString();
+		return folderFingerprint.value;
+	}
+
+	private synchronized FileSystemWatcher getFolderWatcher() {
+		if (folderWatcher == null) {
+			folderWatcher = FileSystemWatcher.create(
+				"Burningwave - compilation cache folder watcher " + Objects.getId(this), FOLDER_WATCHER_POLLING_INTERVAL
+			);
+			folderWatcher.addListener(events -> {
+				for (FileSystemWatcher.Event event : events) {
+					folderFingerprints.remove(event.getWatchedPath());
+				}
+			});
+			folderWatcher.start();
+		}
+		return folderWatcher;
+	}
+
+	//The folders are identified by the relative path, the modification time and the size of all their files
+	private void updateWithFile(MessageDigest messageDigest, File file, String relativePath) {
+		if (file.isDirectory()) {
+			File[] children = file.listFiles();
+			if (children != null) {
+				Arrays.sort(children);
+				for (File child : children) {
+					updateWithFile(messageDigest, child, relativePath + "/" + child.getName());
+				}
+			}
+		} else {
+			update(messageDigest, relativePath);
+			update(messageDigest, file.lastModified() + ":" + file.length());
+		}
+	}
+
+	private MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException exc) {
+			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+		}
+	}
+
+	private void update(MessageDigest messageDigest, String value) {
+		if (value != null) {
+			messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		messageDigest.update((byte)0);
+	}
+
+	Entry get(String key) {
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry == null && folder != null) {
+			entry = load(key);
+			if (entry != null) {
+				synchronized (entries) {
+					entries.put(key, entry);
+				}
+			}
+		}
+		return entry;
+	}
+
+	void put(String key, Map<String, ByteBuffer> compiledFiles, Collection<String> dependencies) {
+		Map<String, byte[]> byteCodes = new HashMap<>();
+		compiledFiles.forEach((className, byteCode) ->
+			byteCodes.put(className, BufferHandler.toByteArray(byteCode))
+		);
+		Entry entry = new Entry(byteCodes, new ArrayList<>(dependencies));
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+		if (folder != null) {
+			store(key, entry);
+		}
+	}
+
+	private Entry load(String key) {
+		File file = new File(folder, key);
+		if (!file.exists()) {
+			return null;
+		}
+		//The modification time marks the last use of the stored entries for the pruning of the folder
+		file.setLastModified(System.currentTimeMillis());
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			int dependenciesCount = input.readInt();
+			Collection<String> dependencies = new ArrayList<>(dependenciesCount);
+			for (int index = 0; index < dependenciesCount; index++) {
+				dependencies.add(input.readUTF());
+			}
+			int byteCodesCount = input.readInt();
+			Map<String, byte[]> byteCodes = new HashMap<>();
+			for (int index = 0; index < byteCodesCount; index++) {
+				String className = input.readUTF();
+				byte[] byteCode = new byte[input.readInt()];
+				input.readFully(byteCode);
+				byteCodes.put(className, byteCode);
+			}
+			return new Entry(byteCodes, dependencies);
+		} catch (IOException exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not read compilation cache entry {}: {}", file.getAbsolutePath(), exc.getMessage());
+			return null;
+		}
+	}
+
+	//The entry is written to a temporary file and then renamed so that other processes never read partial entries
+	private void store(String key, Entry entry) {
+		File file = new File(folder, key);
+		File temporaryFile = new File(folder, key + "." + UUID.randomUUID().toString() + ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+				output.writeInt(entry.dependencies.size());
+				for (String dependency : entry.dependencies) {
+					output.writeUTF(dependency);
+				}
+				output.writeInt(entry.byteCodes.size());
+				for (Map.Entry<String, byte[]> byteCode : entry.byteCodes.entrySet()) {
+					output.writeUTF(byteCode.getKey());
+					output.writeInt(byteCode.getValue().length);
+					output.write(byteCode.getValue());
+				}
+			}
+			Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException exc) {
+			temporaryFile.delete();
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store compilation cache entry {}: {}", file.getAbsolutePath(), exc.getMessage());
+		}
+		prune();
+	}
+
+	//Deletes the least recently used entries stored beyond the maximum number of entries
+	private void prune() {
+		File[] files = folder.listFiles(file -> file.isFile() && !file.getName().endsWith(".tmp"));
+		if (files == null || files.length <= maxEntries) {
+			return;
+		}
+		Map<File, Long> lastModifiedTimes = new HashMap<>();
+		for (File file : files) {
+			lastModifiedTimes.put(file, file.lastModified());
+		}
+		Arrays.sort(files, (fileOne, fileTwo) -> Long.compare(lastModifiedTimes.get(fileOne), lastModifiedTimes.get(fileTwo)));
+		for (int index = 0; index < files.length - maxEntries; index++) {
+			files[index].delete();
+		}
+	}
+
+	@Override
+	public void close() {
+		synchronized (entries) {
+			entries.clear();
+		}
+		synchronized (this) {
+			if (folderWatcher != null) {
+				folderWatcher.close();
+				folderWatcher = null;
+			}
+		}
+		folderFingerprints.clear();
+		folder = null;
+	}
+
+	private static class FolderFingerprint {
+		private volatile String value;
+	}
+
+	static class Entry {
+		private final Map<String, byte[]> byteCodes;
+		private final Collection<String> dependencies;
+
+		private Entry(Map<String, byte[]> byteCodes, Collection<String> dependencies) {
+			this.byteCodes = byteCodes;
+			this.dependencies = dependencies;
+		}
+
+		//Every call returns new buffers: the results are closed by their users
+		Map<String, ByteBuffer> getCompiledFiles() {
+			Map<String, ByteBuffer> compiledFiles = new HashMap<>();
+			byteCodes.forEach((className, byteCode) ->
+				compiledFiles.put(className, ByteBuffer.wrap(Arrays.copyOf(byteCode, byteCode.length)))
+			);
+			return compiledFiles;
+		}
+
+		Collection<String> getDependencies() {
+			return new ArrayList<>(dependencies);
+		}
+
+	}
+
+}
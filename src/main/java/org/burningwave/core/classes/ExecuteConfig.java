@@ -90,6 +90,18 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 		return super.useClassLoader(classLoader);
 	}
 
+	//Creates a config for the same executor that can be modified, e.g. by setting its class loader, without
+	//changing this one
+	ExecuteConfig.ForBodySourceGenerator createCopy() {
+		ExecuteConfig.ForBodySourceGenerator copy = new ForBodySourceGenerator(body);
+		copyTo(copy);
+		copy.parentClassLoader = this.parentClassLoader;
+		copy.useDefaultClassLoaderAsParentIfParentClassLoaderIsNull = this.useDefaultClassLoaderAsParentIfParentClassLoaderIsNull;
+		copy.useDefaultClassLoaderAsParentIfParentClassLoaderIsNullHasBeenCalled = this.useDefaultClassLoaderAsParentIfParentClassLoaderIsNullHasBeenCalled;
+		copy.params = this.params != null ? new ArrayList<>(this.params) : null;
+		return copy;
+	}
+
 	Object[] getParams() {
 		return params != null ?
 			params.toArray(new Object[params.size()]) :
@@ -37,15 +37,18 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.burningwave.core.Component;
+import org.burningwave.core.function.ThrowingBiConsumer;
 import org.burningwave.core.function.ThrowingBiFunction;
 import org.burningwave.core.function.ThrowingFunction;
 
@@ -53,6 +56,7 @@ import org.burningwave.core.function.ThrowingFunction;
 public abstract class FieldAccessor implements Component {
 	public final static String REG_EXP_FOR_SIMPLE_FIELDS = "([a-zA-Z\\$\\_\\-0-9]*)(\\[*.*)";
 	public final static String REG_EXP_FOR_INDEXES_OF_INDEXED_FIELDS = "\\[(.*?)\\]";
+	private final static Object[] NO_ARGUMENTS = new Object[0];
 
 	private List<ThrowingBiFunction<Object, String, Object, Throwable>> fieldRetrievers;
 	private List<ThrowingFunction<Object[], Boolean, Throwable>> fieldSetters;
@@ -70,6 +74,23 @@ public abstract class FieldAccessor implements Component {
 
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getFieldRetrievers();
 
+	abstract boolean accessesByFieldFirst();
+
+	public CompiledPath compile(String path) {
+		return compile(null, path);
+	}
+
+	public CompiledPath compile(Class<?> targetClass, String path) {
+		if (path == null) {
+			throw new IllegalArgumentException("Field path cannot be null");
+		}
+		CompiledPath compiledPath = new CompiledPath(this, path);
+		if (targetClass != null) {
+			compiledPath.segments[0].getRetrievers(targetClass);
+		}
+		return compiledPath;
+	}
+
 	public <T> T get(Object obj, String path) {
 		if (path == null) {
 			throw new IllegalArgumentException("Field path cannot be null");
@@ -107,22 +128,63 @@ public abstract class FieldAccessor implements Component {
 		return objToReturn;
 	}
 
+	Object retrieve(Object target, CompiledPath.Accessors<ThrowingFunction<Object, Object, Throwable>> retrievers) {
+		List<Throwable> exceptions = null;
+		for (ThrowingFunction<Object, Object, Throwable> retriever : retrievers.accessors) {
+			try {
+				Object objToReturn = retriever.apply(target);
+				if (objToReturn != null) {
+					return objToReturn;
+				}
+				exceptions = Collections.emptyList();
+			} catch (Throwable exc) {
+				if (exceptions == null) {
+					exceptions = new ArrayList<>(retrievers.resolutionExceptions);
+				}
+				if (!exceptions.isEmpty()) {
+					exceptions.add(exc);
+				}
+			}
+		}
+		if (exceptions == null || !exceptions.isEmpty()) {
+			logAndThrow(exceptions != null ? exceptions : retrievers.resolutionExceptions);
+		}
+		return null;
+	}
+
+	void store(Object target, Object value, CompiledPath.Accessors<ThrowingBiConsumer<Object, Object, Throwable>> setters) {
+		List<Throwable> exceptions = new ArrayList<>(setters.resolutionExceptions);
+		for (ThrowingBiConsumer<Object, Object, Throwable> setter : setters.accessors) {
+			try {
+				setter.accept(target, value);
+				return;
+			} catch (Throwable exc) {
+				exceptions.add(exc);
+			}
+		}
+		logAndThrow(exceptions);
+	}
+
 	private void manageGetFieldExceptions(List<Throwable> exceptions) {
 		if (exceptions.size() > 0) {
-			String message = "";
-			for (Throwable exception : exceptions) {
-				message += exception.getMessage() + "\n";
-			}
-			message = message.substring(0, message.length() - 1);
 			if (exceptions.size() == fieldRetrievers.size()) {
-				ManagedLoggerRepository.logError(getClass()::getName, message.toString());
-				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exceptions.iterator().next());
+				logAndThrow(exceptions);
 			} else {
 				//logDebug("Warning: " + message);
 			}
 		}
 	}
 
+	private void logAndThrow(List<Throwable> exceptions) {
+		String message = "";
+		for (Throwable exception : exceptions) {
+			message += exception.getMessage() + "\n";
+		}
+		message = message.substring(0, message.length() - 1);
+		ManagedLoggerRepository.logError(getClass()::getName, message.toString());
+		org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exceptions.iterator().next());
+	}
+
 	public void set(Object obj, String path, Object value) {
 		if (path == null) {
 			throw new IllegalArgumentException("Field path cannot be null");
@@ -155,42 +217,50 @@ public abstract class FieldAccessor implements Component {
 	}
 
 
-	private <T> Object retrieveFromIndexedField(Object fieldValue, String indexes) {
+	private Object retrieveFromIndexedField(Object fieldValue, String indexes) {
+		String[] splittedIndexes = splitIndexes(indexes);
+		return retrieveFromIndexes(fieldValue, splittedIndexes, splittedIndexes.length);
+	}
+
+	String[] splitIndexes(String indexes) {
 		Matcher matcher = indexesSearcherForIndexedField.matcher(indexes);
-		if (matcher.find()) {
-			String index = matcher.group(1);
-			Supplier<Object> propertyRetriever = null;
-			if (fieldValue.getClass().isArray()) {
-				propertyRetriever = () -> Array.get(fieldValue, Integer.valueOf(index));
-			} else if (fieldValue instanceof List) {
-				propertyRetriever = () -> ((List<?>)fieldValue).get(Integer.valueOf(index));
-			} else if (fieldValue instanceof Map) {
-				propertyRetriever = () -> ((Map<?, ?>)fieldValue).get(index);
-			} else if (fieldValue instanceof Collection) {
-				propertyRetriever = () -> {
-					Collection<T> collection = (Collection<T>)fieldValue;
-					int indexAsInt = convertAndCheckIndex(collection, index);
-					Iterator<T> itr = collection.iterator();
-					int currentIterationIndex = 0;
-					while (itr.hasNext()) {
-						Object currentIteartedObject = itr.next();
-						if (currentIterationIndex++ == indexAsInt) {
-							return currentIteartedObject;
-						}
-					}
-					return null;
-				};
-			} else {
-				return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("indexed property {} of type {} is not supporterd", fieldValue, fieldValue.getClass());
-			}
-			return retrieveFromIndexedField(
-				propertyRetriever.get(),
-				indexes.substring(matcher.end(), indexes.length())
-			);
+		List<String> splittedIndexes = new ArrayList<>();
+		while (matcher.find()) {
+			splittedIndexes.add(matcher.group(1));
+		}
+		return splittedIndexes.toArray(new String[splittedIndexes.size()]);
+	}
+
+	Object retrieveFromIndexes(Object fieldValue, String[] indexes, int indexCount) {
+		for (int i = 0; i < indexCount; i++) {
+			fieldValue = retrieveFromIndex(fieldValue, indexes[i]);
 		}
 		return fieldValue;
 	}
 
+	private <T> Object retrieveFromIndex(Object fieldValue, String index) {
+		if (fieldValue.getClass().isArray()) {
+			return Array.get(fieldValue, Integer.valueOf(index));
+		} else if (fieldValue instanceof List) {
+			return ((List<?>)fieldValue).get(Integer.valueOf(index));
+		} else if (fieldValue instanceof Map) {
+			return ((Map<?, ?>)fieldValue).get(index);
+		} else if (fieldValue instanceof Collection) {
+			Collection<T> collection = (Collection<T>)fieldValue;
+			int indexAsInt = convertAndCheckIndex(collection, index);
+			Iterator<T> itr = collection.iterator();
+			int currentIterationIndex = 0;
+			while (itr.hasNext()) {
+				Object currentIteartedObject = itr.next();
+				if (currentIterationIndex++ == indexAsInt) {
+					return currentIteartedObject;
+				}
+			}
+			return null;
+		}
+		return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("indexed property {} of type {} is not supporterd", fieldValue, fieldValue.getClass());
+	}
+
 	Object retrieveFieldByDirectAccess(Object target, String pathSegment) throws IllegalAccessException {
 		if (pathSegment.trim().isEmpty()) {
 			return target;
@@ -210,15 +280,13 @@ public abstract class FieldAccessor implements Component {
 		return objToReturn;
 	}
 
-	private <T> void setInIndexedField(Object fieldValue, String indexes, Object value) {
-		Matcher matcher = indexesSearcherForIndexedField.matcher(indexes);
-		int lastIndexOf = 0;
-		String index = null;
-		while (matcher.find()) {
-			index = matcher.group(1);
-			lastIndexOf = matcher.start();
-		}
-		Object targetObject = retrieveFromIndexedField(fieldValue, indexes.substring(0, lastIndexOf));
+	private void setInIndexedField(Object fieldValue, String indexes, Object value) {
+		setInIndexes(fieldValue, splitIndexes(indexes), value);
+	}
+
+	<T> void setInIndexes(Object fieldValue, String[] indexes, Object value) {
+		String index = indexes.length > 0 ? indexes[indexes.length - 1] : null;
+		Object targetObject = retrieveFromIndexes(fieldValue, indexes, indexes.length - 1);
 		if (targetObject.getClass().isArray()) {
 			Array.set(targetObject, Integer.valueOf(index), value);
 		} else if (targetObject instanceof List) {
@@ -296,6 +364,239 @@ public abstract class FieldAccessor implements Component {
 		return Boolean.TRUE;
 	}
 
+	CompiledPath.Accessors<ThrowingFunction<Object, Object, Throwable>> resolveRetrievers(Class<?> targetClass, String fieldName) {
+		List<Throwable> resolutionExceptions = new ArrayList<>();
+		ThrowingFunction<Object, Object, Throwable> byField = resolveRetrieverByDirectAccess(targetClass, fieldName, resolutionExceptions);
+		ThrowingFunction<Object, Object, Throwable> byMethod = resolveRetrieverByGetterMethod(targetClass, fieldName, resolutionExceptions);
+		return new CompiledPath.Accessors<>(
+			targetClass,
+			accessesByFieldFirst() ? new ThrowingFunction[] {byField, byMethod} : new ThrowingFunction[] {byMethod, byField},
+			resolutionExceptions
+		);
+	}
+
+	CompiledPath.Accessors<ThrowingBiConsumer<Object, Object, Throwable>> resolveSetters(Class<?> targetClass, String fieldName, String[] indexes) {
+		List<Throwable> resolutionExceptions = new ArrayList<>();
+		ThrowingBiConsumer<Object, Object, Throwable> byField = resolveSetterByDirectAccess(targetClass, fieldName, indexes, resolutionExceptions);
+		ThrowingBiConsumer<Object, Object, Throwable> byMethod = resolveSetterBySetterMethod(targetClass, fieldName, indexes, resolutionExceptions);
+		return new CompiledPath.Accessors<>(
+			targetClass,
+			accessesByFieldFirst() ? new ThrowingBiConsumer[] {byField, byMethod} : new ThrowingBiConsumer[] {byMethod, byField},
+			resolutionExceptions
+		);
+	}
+
+	private ThrowingFunction<Object, Object, Throwable> resolveRetrieverByDirectAccess(
+		Class<?> targetClass,
+		String fieldName,
+		List<Throwable> resolutionExceptions
+	) {
+		try {
+			Field field = Fields.findFirstAndMakeItAccessible(targetClass, fieldName);
+			return target -> Fields.getDirect(target, field);
+		} catch (Throwable exc) {
+			resolutionExceptions.add(exc);
+			return null;
+		}
+	}
+
+	private ThrowingFunction<Object, Object, Throwable> resolveRetrieverByGetterMethod(
+		Class<?> targetClass,
+		String fieldName,
+		List<Throwable> resolutionExceptions
+	) {
+		String getterName = Methods.createGetterMethodNameByFieldPath(fieldName);
+		try {
+			Methods.Invoker getter = Methods.bindDirect(targetClass, getterName);
+			if (getter.getMethod().getParameterCount() == 0) {
+				return target -> getter.invoke(target, NO_ARGUMENTS);
+			}
+			return target -> Methods.invokeDirect(target, getterName);
+		} catch (Throwable exc) {
+			resolutionExceptions.add(exc);
+			return null;
+		}
+	}
+
+	private ThrowingBiConsumer<Object, Object, Throwable> resolveSetterByDirectAccess(
+		Class<?> targetClass,
+		String fieldName,
+		String[] indexes,
+		List<Throwable> resolutionExceptions
+	) {
+		if (indexes != null && isIndexable(targetClass)) {
+			return (target, value) -> setInIndexes(target, indexes, value);
+		}
+		try {
+			Field field = Fields.findOneAndMakeItAccessible(targetClass, fieldName);
+			if (indexes == null) {
+				return (target, value) -> Fields.setDirect(target, field, value);
+			}
+			return (target, value) -> setInIndexes(Fields.getDirect(target, field), indexes, value);
+		} catch (Throwable exc) {
+			resolutionExceptions.add(exc);
+			return null;
+		}
+	}
+
+	private ThrowingBiConsumer<Object, Object, Throwable> resolveSetterBySetterMethod(
+		Class<?> targetClass,
+		String fieldName,
+		String[] indexes,
+		List<Throwable> resolutionExceptions
+	) {
+		if (indexes == null) {
+			String setterName = Methods.createSetterMethodNameByFieldPath(fieldName);
+			return (target, value) -> Methods.invokeDirect(target, setterName, value);
+		}
+		if (isIndexable(targetClass)) {
+			return (target, value) -> setInIndexes(target, indexes, value);
+		}
+		ThrowingFunction<Object, Object, Throwable> getter = resolveRetrieverByGetterMethod(targetClass, fieldName, resolutionExceptions);
+		if (getter == null) {
+			return null;
+		}
+		return (target, value) -> setInIndexes(getter.apply(target), indexes, value);
+	}
+
+	private boolean isIndexable(Class<?> targetClass) {
+		return targetClass.isArray() || Map.class.isAssignableFrom(targetClass) || Collection.class.isAssignableFrom(targetClass);
+	}
+
+	//A property path parsed once: every segment caches, for the class of the object it is applied to, the
+	//field or the accessor method that resolves it, so repeated accesses skip the parsing and the member
+	//lookups. When the segment is applied to an object of another class the members are resolved again and
+	//cached beside the previous ones
+	public static class CompiledPath {
+		private final String path;
+		private final Segment[] segments;
+
+		CompiledPath(FieldAccessor fieldAccessor, String path) {
+			this.path = path;
+			String[] pathSegments = path.split("\\.");
+			this.segments = new Segment[pathSegments.length];
+			for (int i = 0; i < pathSegments.length; i++) {
+				this.segments[i] = new Segment(fieldAccessor, pathSegments[i]);
+			}
+		}
+
+		public <T> T get(Object target) {
+			Object objToReturn = target;
+			for (Segment segment : segments) {
+				objToReturn = segment.get(objToReturn);
+			}
+			return (T)objToReturn;
+		}
+
+		public void set(Object target, Object value) {
+			if (path.trim().isEmpty()) {
+				return;
+			}
+			int lastSegmentIndex = segments.length - 1;
+			for (int i = 0; i < lastSegmentIndex; i++) {
+				target = segments[i].get(target);
+			}
+			segments[lastSegmentIndex].set(target, value);
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		private static class Segment {
+			private final FieldAccessor fieldAccessor;
+			private final String fieldName;
+			private final String[] indexes;
+			private final Map<Class<?>, Accessors<ThrowingFunction<Object, Object, Throwable>>> retrievers;
+			private final Map<Class<?>, Accessors<ThrowingBiConsumer<Object, Object, Throwable>>> setters;
+			private volatile Accessors<ThrowingFunction<Object, Object, Throwable>> lastRetrievers;
+			private volatile Accessors<ThrowingBiConsumer<Object, Object, Throwable>> lastSetters;
+
+			Segment(FieldAccessor fieldAccessor, String pathSegment) {
+				this.fieldAccessor = fieldAccessor;
+				Matcher matcher = fieldAccessor.simpleFieldSearcher.matcher(pathSegment);
+				matcher.find();
+				this.fieldName = matcher.group(1);
+				this.indexes = matcher.group(2).isEmpty() ? null : fieldAccessor.splitIndexes(matcher.group(2));
+				this.retrievers = new ConcurrentHashMap<>();
+				this.setters = new ConcurrentHashMap<>();
+			}
+
+			Object get(Object target) {
+				Object objToReturn = fieldName.trim().isEmpty() ?
+					target :
+					fieldAccessor.retrieve(target, getRetrievers(target.getClass()));
+				if (indexes != null) {
+					try {
+						objToReturn = fieldAccessor.retrieveFromIndexes(objToReturn, indexes, indexes.length);
+					} catch (Throwable exc) {
+						//Ignored like in FieldAccessor.get
+					}
+				}
+				return objToReturn;
+			}
+
+			void set(Object target, Object value) {
+				fieldAccessor.store(target, value, getSetters(target.getClass()));
+			}
+
+			Accessors<ThrowingFunction<Object, Object, Throwable>> getRetrievers(Class<?> targetClass) {
+				Accessors<ThrowingFunction<Object, Object, Throwable>> accessors = lastRetrievers;
+				if (accessors == null || accessors.targetClass != targetClass) {
+					accessors = retrievers.get(targetClass);
+					if (accessors == null) {
+						accessors = fieldAccessor.resolveRetrievers(targetClass, fieldName);
+						Accessors<ThrowingFunction<Object, Object, Throwable>> previousAccessors = retrievers.putIfAbsent(targetClass, accessors);
+						if (previousAccessors != null) {
+							accessors = previousAccessors;
+						}
+					}
+					lastRetrievers = accessors;
+				}
+				return accessors;
+			}
+
+			Accessors<ThrowingBiConsumer<Object, Object, Throwable>> getSetters(Class<?> targetClass) {
+				Accessors<ThrowingBiConsumer<Object, Object, Throwable>> accessors = lastSetters;
+				if (accessors == null || accessors.targetClass != targetClass) {
+					accessors = setters.get(targetClass);
+					if (accessors == null) {
+						accessors = fieldAccessor.resolveSetters(targetClass, fieldName, indexes);
+						Accessors<ThrowingBiConsumer<Object, Object, Throwable>> previousAccessors = setters.putIfAbsent(targetClass, accessors);
+						if (previousAccessors != null) {
+							accessors = previousAccessors;
+						}
+					}
+					lastSetters = accessors;
+				}
+				return accessors;
+			}
+
+		}
+
+		//The accessors resolved for a class, in the order in which they must be tried: the ones that
+		//could not be resolved are left out and their exceptions are kept to be reported if no other
+		//accessor succeeds
+		static class Accessors<A> {
+			final Class<?> targetClass;
+			final A[] accessors;
+			final List<Throwable> resolutionExceptions;
+
+			Accessors(Class<?> targetClass, A[] accessors, List<Throwable> resolutionExceptions) {
+				this.targetClass = targetClass;
+				int resolvedCount = 0;
+				for (A accessor : accessors) {
+					if (accessor != null) {
+						accessors[resolvedCount++] = accessor;
+					}
+				}
+				this.accessors = resolvedCount == accessors.length ? accessors : Arrays.copyOf(accessors, resolvedCount);
+				this.resolutionExceptions = resolutionExceptions;
+			}
+		}
+
+	}
+
 	public static class ByFieldOrByMethod extends FieldAccessor {
 
 		private ByFieldOrByMethod() {
@@ -314,6 +615,11 @@ public abstract class FieldAccessor implements Component {
 			return retrievers;
 		}
 
+		@Override
+		boolean accessesByFieldFirst() {
+			return true;
+		}
+
 		@Override
 		List<ThrowingFunction<Object[], Boolean, Throwable>> getFieldSetters() {
 			List<ThrowingFunction<Object[], Boolean, Throwable>> setters  = new ArrayList<>();
@@ -342,6 +648,11 @@ public abstract class FieldAccessor implements Component {
 			return retrievers;
 		}
 
+		@Override
+		boolean accessesByFieldFirst() {
+			return false;
+		}
+
 		@Override
 		List<ThrowingFunction<Object[], Boolean, Throwable>> getFieldSetters() {
 			List<ThrowingFunction<Object[], Boolean, Throwable>> retrievers  = new ArrayList<>();
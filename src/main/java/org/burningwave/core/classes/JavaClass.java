@@ -33,7 +33,12 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.burningwave.core.Closeable;
 import org.burningwave.core.function.ThrowingFunction;
@@ -41,6 +46,7 @@ import org.burningwave.core.io.FileSystemItem;
 
 public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implements Closeable {
 	private ByteBuffer byteCode;
+	private volatile ClassFileInfo classFileInfo;
 
 	public JavaClass(Class<?> cls) {
 		this(Classes.getByteCode(cls));
@@ -116,6 +122,34 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 		return Streams.store(classPathFolder + "/" + getPath(), getByteCode());
 	}
 
+	public Collection<String> getAnnotationNames() {
+		return getClassFileInfo().annotationNames;
+	}
+
+	public Collection<MemberInfo> getFields() {
+		return getClassFileInfo().fields;
+	}
+
+	public Collection<MemberInfo> getMethods() {
+		return getClassFileInfo().methods;
+	}
+
+	public int getModifiers() {
+		return modifiers;
+	}
+
+	ClassFileInfo getClassFileInfo() {
+		ClassFileInfo classFileInfo = this.classFileInfo;
+		if (classFileInfo == null) {
+			synchronized (this) {
+				if ((classFileInfo = this.classFileInfo) == null) {
+					this.classFileInfo = classFileInfo = new ClassFileInfo(getByteCode());
+				}
+			}
+		}
+		return classFileInfo;
+	}
+
 	public JavaClass duplicate() {
 		return new JavaClass(getByteCode0());
 	}
@@ -125,16 +159,226 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 		return getName();
 	}
 
-	protected static class Criteria extends org.burningwave.core.Criteria<JavaClass, Criteria, org.burningwave.core.Criteria.TestContext<JavaClass, Criteria>>{
+	public static class MemberInfo {
+		private final int modifiers;
+		private final String name;
+		private final String descriptor;
+		private final Collection<String> annotationNames;
+
+		MemberInfo(int modifiers, String name, String descriptor, Collection<String> annotationNames) {
+			this.modifiers = modifiers;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.annotationNames = annotationNames;
+		}
+
+		public int getModifiers() {
+			return modifiers;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescriptor() {
+			return descriptor;
+		}
+
+		public Collection<String> getAnnotationNames() {
+			return annotationNames;
+		}
+
+		@Override
+		public String toString() {
+			return name + descriptor;
+		}
+	}
+
+	static class ClassFileInfo {
+		private final static int CONSTANT_UTF8 = 1;
+		private final static int CONSTANT_INTEGER = 3;
+		private final static int CONSTANT_FLOAT = 4;
+		private final static int CONSTANT_LONG = 5;
+		private final static int CONSTANT_DOUBLE = 6;
+		private final static int CONSTANT_METHOD_HANDLE = 15;
+
+		private final ByteBuffer byteCode;
+		private final int[] utf8Offsets;
+		private final String[] utf8Values;
+		final Collection<String> annotationNames;
+		final Collection<MemberInfo> fields;
+		final Collection<MemberInfo> methods;
+
+		ClassFileInfo(ByteBuffer byteCode) {
+			this.byteCode = byteCode;
+			byteCode.position(8);
+			int constantPoolCount = readUnsignedShort();
+			utf8Offsets = new int[constantPoolCount];
+			utf8Values = new String[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = byteCode.get() & 0xFF;
+				if (tag == CONSTANT_UTF8) {
+					int length = readUnsignedShort();
+					utf8Offsets[i] = byteCode.position();
+					skip(length);
+				} else if (tag == CONSTANT_LONG || tag == CONSTANT_DOUBLE) {
+					skip(8);
+					i++;
+				} else if (tag == CONSTANT_INTEGER || tag == CONSTANT_FLOAT || (tag >= 9 && tag <= 12) || tag == 17 || tag == 18) {
+					skip(4);
+				} else if (tag == CONSTANT_METHOD_HANDLE) {
+					skip(3);
+				} else {
+					skip(2);
+				}
+			}
+			skip(6);
+			skip(readUnsignedShort() * 2);
+			fields = readMembers();
+			methods = readMembers();
+			annotationNames = readAttributesAndGetAnnotationNames();
+		}
+
+		private Collection<MemberInfo> readMembers() {
+			int count = readUnsignedShort();
+			if (count == 0) {
+				return Collections.emptyList();
+			}
+			Collection<MemberInfo> members = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int modifiers = readUnsignedShort();
+				String name = getUtf8(readUnsignedShort());
+				String descriptor = getUtf8(readUnsignedShort());
+				members.add(new MemberInfo(modifiers, name, descriptor, readAttributesAndGetAnnotationNames()));
+			}
+			return Collections.unmodifiableCollection(members);
+		}
+
+		private Collection<String> readAttributesAndGetAnnotationNames() {
+			Collection<String> annotationNames = null;
+			int attributesCount = readUnsignedShort();
+			for (int i = 0; i < attributesCount; i++) {
+				String attributeName = getUtf8(readUnsignedShort());
+				int length = byteCode.getInt();
+				int attributeEnd = byteCode.position() + length;
+				if ("RuntimeVisibleAnnotations".equals(attributeName) || "RuntimeInvisibleAnnotations".equals(attributeName)) {
+					int annotationsCount = readUnsignedShort();
+					for (int j = 0; j < annotationsCount; j++) {
+						if (annotationNames == null) {
+							annotationNames = new ArrayList<>();
+						}
+						annotationNames.add(readAnnotationAndGetName());
+					}
+				}
+				byteCode.position(attributeEnd);
+			}
+			return annotationNames != null ?
+				Collections.unmodifiableCollection(annotationNames) :
+				Collections.emptyList();
+		}
+
+		private String readAnnotationAndGetName() {
+			String descriptor = getUtf8(readUnsignedShort());
+			int elementValuePairsCount = readUnsignedShort();
+			for (int i = 0; i < elementValuePairsCount; i++) {
+				skip(2);
+				skipElementValue();
+			}
+			return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+		}
+
+		private void skipElementValue() {
+			char tag = (char)(byteCode.get() & 0xFF);
+			if (tag == 'e') {
+				skip(4);
+			} else if (tag == '@') {
+				readAnnotationAndGetName();
+			} else if (tag == '[') {
+				int valuesCount = readUnsignedShort();
+				for (int i = 0; i < valuesCount; i++) {
+					skipElementValue();
+				}
+			} else {
+				skip(2);
+			}
+		}
+
+		private String getUtf8(int index) {
+			String value = utf8Values[index];
+			if (value == null) {
+				int offset = utf8Offsets[index];
+				int length = ((byteCode.get(offset - 2) & 0xFF) << 8) | (byteCode.get(offset - 1) & 0xFF);
+				byte[] bytes = new byte[length];
+				for (int i = 0; i < length; i++) {
+					bytes[i] = byteCode.get(offset + i);
+				}
+				utf8Values[index] = value = new String(bytes, StandardCharsets.UTF_8);
+			}
+			return value;
+		}
+
+		private int readUnsignedShort() {
+			return byteCode.getShort() & 0xFFFF;
+		}
+
+		private void skip(int length) {
+			byteCode.position(byteCode.position() + length);
+		}
+	}
+
+	public static class Criteria extends org.burningwave.core.Criteria<JavaClass, Criteria, org.burningwave.core.Criteria.TestContext<JavaClass, Criteria>>{
 
 		public static Criteria create() {
 			return new Criteria();
 		}
 
+		public Criteria className(Predicate<String> predicate) {
+			return allThoseThatMatch(javaClass -> predicate.test(javaClass.getName()));
+		}
+
+		public Criteria packageName(Predicate<String> predicate) {
+			return allThoseThatMatch(javaClass -> predicate.test(javaClass.getPackageName()));
+		}
+
+		public Criteria superClassName(Predicate<String> predicate) {
+			return allThoseThatMatch(javaClass -> predicate.test(javaClass.getSuperClassName()));
+		}
+
+		public Criteria interfaceName(Predicate<String> predicate) {
+			return allThoseThatMatch(javaClass -> {
+				String[] interfaceNames = javaClass.getInterfaceNames();
+				if (interfaceNames != null) {
+					for (String interfaceName : interfaceNames) {
+						if (predicate.test(interfaceName)) {
+							return true;
+						}
+					}
+				}
+				return false;
+			});
+		}
+
+		public Criteria annotationName(Predicate<String> predicate) {
+			return allThoseThatMatch(javaClass -> javaClass.getAnnotationNames().stream().anyMatch(predicate));
+		}
+
+		public Criteria modifiers(Predicate<Integer> predicate) {
+			return allThoseThatMatch(javaClass -> predicate.test(javaClass.getModifiers()));
+		}
+
+		public Criteria field(Predicate<MemberInfo> predicate) {
+			return allThoseThatMatch(javaClass -> javaClass.getFields().stream().anyMatch(predicate));
+		}
+
+		public Criteria method(Predicate<MemberInfo> predicate) {
+			return allThoseThatMatch(javaClass -> javaClass.getMethods().stream().anyMatch(predicate));
+		}
+
 	}
 
 	@Override
 	public void close() {
 		byteCode = null;
+		classFileInfo = null;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+
+import org.burningwave.core.Closeable;
+
+
+//Keeps the file managers of the completed compilations open so that the next compilations with the same options
+//don't have to reopen and reindex the archives of the class path: a file manager is discarded when the last
+//modification time or the size of one of these archives changes
+class JavaFileManagerPool implements Closeable {
+	private JavaCompiler compiler;
+	private int maxSize;
+	private LinkedList<Entry> idleEntries;
+
+	JavaFileManagerPool(JavaCompiler compiler, int maxSize) {
+		this.compiler = compiler;
+		this.maxSize = maxSize;
+		this.idleEntries = new LinkedList<>();
+	}
+
+	Key computeKey(List<String> options) {
+		StringBuilder fingerprint = new StringBuilder();
+		Iterator<String> optionsIterator = options.iterator();
+		while (optionsIterator.hasNext()) {
+			String option = optionsIterator.next();
+			if ((option.equals("-classpath") || option.equals("-cp")) && optionsIterator.hasNext()) {
+				for (String classPath : optionsIterator.next().split(File.pathSeparator)) {
+					File file = new File(classPath);
+					if (file.isFile()) {
+						fingerprint.append(classPath).append(':').append(file.lastModified()).append(':').append(file.length()).append(';');
+					}
+				}
+			}
+		}
+		return new Key(String.join("\n", options), fingerprint.toString());
+	}
+
+	StandardJavaFileManager acquire(Key key) {
+		Collection<StandardJavaFileManager> staleJavaFileManagers = new ArrayList<>();
+		StandardJavaFileManager javaFileManager = null;
+		synchronized (this) {
+			if (idleEntries != null) {
+				Iterator<Entry> idleEntriesIterator = idleEntries.descendingIterator();
+				while (idleEntriesIterator.hasNext()) {
+					Entry entry = idleEntriesIterator.next();
+					if (!entry.key.options.equals(key.options)) {
+						continue;
+					}
+					if (!entry.key.fingerprint.equals(key.fingerprint)) {
+						idleEntriesIterator.remove();
+						staleJavaFileManagers.add(entry.javaFileManager);
+					} else if (javaFileManager == null) {
+						idleEntriesIterator.remove();
+						javaFileManager = entry.javaFileManager;
+					}
+				}
+			}
+		}
+		staleJavaFileManagers.forEach(this::close);
+		return javaFileManager != null ?
+			javaFileManager :
+			compiler.getStandardFileManager(null, null, null);
+	}
+
+	void release(Key key, StandardJavaFileManager javaFileManager) {
+		StandardJavaFileManager evictedJavaFileManager = null;
+		synchronized (this) {
+			if (idleEntries == null || maxSize <= 0) {
+				evictedJavaFileManager = javaFileManager;
+			} else {
+				idleEntries.addLast(new Entry(key, javaFileManager));
+				if (idleEntries.size() > maxSize) {
+					evictedJavaFileManager = idleEntries.removeFirst().javaFileManager;
+				}
+			}
+		}
+		if (evictedJavaFileManager != null) {
+			close(evictedJavaFileManager);
+		}
+	}
+
+	private void close(StandardJavaFileManager javaFileManager) {
+		try {
+			javaFileManager.close();
+		} catch (IOException exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Exception occurred while closing file manager: {}", exc.getMessage());
+		}
+	}
+
+	@Override
+	public void close() {
+		Collection<Entry> idleEntries;
+		synchronized (this) {
+			idleEntries = this.idleEntries;
+			this.idleEntries = null;
+		}
+		if (idleEntries != null) {
+			idleEntries.forEach(entry -> close(entry.javaFileManager));
+			idleEntries.clear();
+		}
+		compiler = null;
+	}
+
+	static class Key {
+		private final String options;
+		private final String fingerprint;
+
+		private Key(String options, String fingerprint) {
+			this.options = options;
+			this.fingerprint = fingerprint;
+		}
+
+	}
+
+	private static class Entry {
+		private final Key key;
+		private final StandardJavaFileManager javaFileManager;
+
+		private Entry(Key key, StandardJavaFileManager javaFileManager) {
+			this.key = key;
+			this.javaFileManager = javaFileManager;
+		}
+
+	}
+
+}
@@ -56,6 +56,9 @@ public interface JavaMemoryCompiler {
 			public static final String ADDITIONAL_CLASS_PATHS =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-paths";
 			public static final String CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.class-repositories";
 			public static final String ADDITIONAL_CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-repositories";
+			public static final String COMPILATION_CACHE_MAX_ENTRIES = "java-memory-compiler.compilation-cache.max-entries";
+			public static final String COMPILATION_CACHE_PERSISTENT = "java-memory-compiler.compilation-cache.persistent";
+			public static final String FILE_MANAGER_POOL_MAX_SIZE = "java-memory-compiler.file-manager-pool.max-size";
 		}
 
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -78,6 +81,9 @@ public interface JavaMemoryCompiler {
 				Key.BLACK_LISTED_CLASS_PATHS,
 				"//${paths.main-class-paths}/..//children:.*?surefirebooter[^\\/\\\\]{0,}\\.jar"  + IterableObjectHelper.getDefaultValuesSeparator()
 			);
+			defaultValues.put(Key.COMPILATION_CACHE_MAX_ENTRIES, "128");
+			defaultValues.put(Key.COMPILATION_CACHE_PERSISTENT, "false");
+			defaultValues.put(Key.FILE_MANAGER_POOL_MAX_SIZE, "8");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -93,6 +99,10 @@ public interface JavaMemoryCompiler {
 
 	public ProducerTask<Compilation.Result> compile(Compilation.Config config);
 
+	//Compiles the units that share the same class paths, class repositories and options in a single task: if this
+	//task fails each unit is compiled on its own, so the task of a unit fails only for the errors of its own sources
+	public Map<Compilation.Config, ProducerTask<Compilation.Result>> compile(Collection<Compilation.Config> configs);
+
 	public static class Compilation {
 
 		public static class Config {
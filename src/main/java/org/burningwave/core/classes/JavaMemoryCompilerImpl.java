@@ -30,6 +30,8 @@ package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
@@ -38,6 +40,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
@@ -46,14 +49,19 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -66,6 +74,7 @@ import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
 import javax.tools.SimpleJavaFileObject;
 import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
 import javax.tools.ToolProvider;
 
 import org.burningwave.core.Closeable;
@@ -73,10 +82,10 @@ import org.burningwave.core.Component;
 import org.burningwave.core.classes.ClassPathHelper.Compute;
 import org.burningwave.core.classes.JavaMemoryCompiler.Compilation.Config;
 import org.burningwave.core.concurrent.QueuedTaskExecutor.ProducerTask;
-import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.ByteBufferOutputStream;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -85,6 +94,8 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	ClassPathHelper classPathHelper;
 	JavaCompiler compiler;
 	FileSystemItem compiledClassesRepository;
+	CompilationCache compilationCache;
+	JavaFileManagerPool javaFileManagerPool;
 	Map<?, ?> config;
 
 	JavaMemoryCompilerImpl(
@@ -97,12 +108,81 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		this.compiler = ToolProvider.getSystemJavaCompiler();
 		this.compiledClassesRepository = FileSystemItem.of(((ClassPathHelperImpl)classPathHelper).getOrCreateTemporaryFolder("compiledClassesRepository"));
 		this.config = config;
+		this.compilationCache = createCompilationCache();
+		this.javaFileManagerPool = new JavaFileManagerPool(
+			compiler,
+			Integer.valueOf(
+				IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey(Configuration.Key.FILE_MANAGER_POOL_MAX_SIZE)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			)
+		);
+	}
+
+	private CompilationCache createCompilationCache() {
+		int maxEntries = Integer.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILATION_CACHE_MAX_ENTRIES)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		if (maxEntries <= 0) {
+			return null;
+		}
+		boolean persistent = Boolean.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILATION_CACHE_PERSISTENT)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		return new CompilationCache(
+			maxEntries,
+			persistent ? FileSystemHelper.getOrCreatePersistentFolder("compilation-cache") : null
+		);
 	}
 
 
 	@Override
 	public ProducerTask<JavaMemoryCompiler.Compilation.Result> compile(JavaMemoryCompiler.Compilation.Config config) {
-		return compile(
+		Compilation.Unit unit = toCompilationUnit(config);
+		ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task ->
+			compile(unit)
+		);
+		return tsk.submit();
+	}
+
+	@Override
+	public Map<JavaMemoryCompiler.Compilation.Config, ProducerTask<JavaMemoryCompiler.Compilation.Result>> compile(
+		Collection<JavaMemoryCompiler.Compilation.Config> configs
+	) {
+		Map<JavaMemoryCompiler.Compilation.Config, Compilation.Unit> units = new LinkedHashMap<>();
+		for (JavaMemoryCompiler.Compilation.Config config : configs) {
+			units.put(config, toCompilationUnit(config));
+		}
+		ProducerTask<Map<Compilation.Unit, Object>> batchTask = BackgroundExecutor.createProducerTask(task ->
+			compileAll(units.values())
+		);
+		batchTask.submit();
+		Map<JavaMemoryCompiler.Compilation.Config, ProducerTask<JavaMemoryCompiler.Compilation.Result>> tasks = new LinkedHashMap<>();
+		units.forEach((config, unit) -> {
+			ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task -> {
+				Object outcome = batchTask.join().get(unit);
+				if (outcome instanceof Throwable) {
+					return Driver.throwException((Throwable)outcome);
+				}
+				return (JavaMemoryCompiler.Compilation.Result)outcome;
+			});
+			tasks.put(config, tsk.submit());
+		});
+		return tasks;
+	}
+
+	private Compilation.Unit toCompilationUnit(JavaMemoryCompiler.Compilation.Config config) {
+		return new Compilation.Unit(
 			config.getSources(),
 			getClassPathsFrom(config),
 			getClassRepositoriesFrom(config),
@@ -151,51 +231,143 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		);
 	}
 
-	private ProducerTask<JavaMemoryCompiler.Compilation.Result> compile(
-		Collection<String> sources,
-		Collection<String> classPaths,
-		Collection<String> classRepositoriesPaths,
-		Collection<String> blackListedClassPaths,
-		String compiledClassesStorage,
-		boolean useTemporaryFolderForStoring,
-		Map<String, String> extraOptions
-	) {
-		ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task -> {
-			ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
-			Collection<MemorySource> memorySources = new ArrayList<>();
-			sourcesToMemorySources(sources, memorySources);
-			try (Compilation.Context context = Compilation.Context.create(
-					this,
-					memorySources,
-					new ArrayList<>(classPaths),
-					new ArrayList<>(classRepositoriesPaths),
-					new ArrayList<>(blackListedClassPaths),
-					extraOptions
-				)
-			) {
-				Map<String, ByteBuffer> compiledFiles = compile(context);
-				String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
-				if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
-					compiledFiles.forEach((className, byteCode) -> {
-						JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
-					});
+	private JavaMemoryCompiler.Compilation.Result compile(Compilation.Unit unit) {
+		ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(unit.sources)));
+		CompilationCache.Entry compilationCacheEntry = getFromCompilationCache(unit);
+		if (compilationCacheEntry != null) {
+			ManagedLoggerRepository.logInfo(getClass()::getName, "... Using the byte codes of a previous compilation");
+			return toResult(unit, compilationCacheEntry.getCompiledFiles(), compilationCacheEntry.getDependencies());
+		}
+		Map<String, ByteBuffer> compiledFiles;
+		Collection<String> dependencies;
+		try (Compilation.Context context = createCompilationContext(unit, unit.toMemorySources())) {
+			compiledFiles = compile(context);
+			dependencies = new HashSet<>(context.classPaths);
+		}
+		putInCompilationCache(unit, compiledFiles, dependencies);
+		return toResult(unit, compiledFiles, dependencies);
+	}
+
+	private Map<Compilation.Unit, Object> compileAll(Collection<Compilation.Unit> units) {
+		Map<Compilation.Unit, Object> outcomes = new HashMap<>();
+		Map<List<Object>, Collection<Compilation.Unit>> unitGroups = new LinkedHashMap<>();
+		for (Compilation.Unit unit : units) {
+			CompilationCache.Entry compilationCacheEntry = getFromCompilationCache(unit);
+			if (compilationCacheEntry != null) {
+				ManagedLoggerRepository.logInfo(getClass()::getName, "... Using the byte codes of a previous compilation for: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(unit.sources)));
+				outcomes.put(unit, toResult(unit, compilationCacheEntry.getCompiledFiles(), compilationCacheEntry.getDependencies()));
+			} else {
+				unitGroups.computeIfAbsent(unit.getSettings(), settings -> new ArrayList<>()).add(unit);
+			}
+		}
+		for (Collection<Compilation.Unit> unitGroup : unitGroups.values()) {
+			if (unitGroup.size() > 1) {
+				try {
+					outcomes.putAll(compileTogether(unitGroup));
+					continue;
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not compile {} units together ({}): each unit will be compiled on its own", unitGroup.size(), exc.getMessage());
 				}
-				Collection<String> classNames = compiledFiles.keySet();
-				ManagedLoggerRepository.logInfo(getClass()::getName,
-					classNames.size() > 1?
-						"Classes {} have been succesfully compiled":
-						"Class {} has been succesfully compiled",
-					classNames.size() > 1?
-						String.join(", ", classNames):
-						classNames.stream().findFirst().orElseGet(() -> "")
-				);
-				return new JavaMemoryCompiler.Compilation.Result(
-					storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null,
-					compiledFiles, new HashSet<>(context.classPaths)
-				);
 			}
+			for (Compilation.Unit unit : unitGroup) {
+				try {
+					outcomes.put(unit, compile(unit));
+				} catch (Throwable exc) {
+					outcomes.put(unit, exc);
+				}
+			}
+		}
+		return outcomes;
+	}
+
+	private Map<Compilation.Unit, JavaMemoryCompiler.Compilation.Result> compileTogether(Collection<Compilation.Unit> units) {
+		Map<JavaFileObject, Compilation.Unit> unitsForSource = new IdentityHashMap<>();
+		Collection<MemorySource> memorySources = new ArrayList<>();
+		Collection<String> sources = new ArrayList<>();
+		for (Compilation.Unit unit : units) {
+			for (MemorySource memorySource : unit.toMemorySources()) {
+				memorySources.add(memorySource);
+				unitsForSource.put(memorySource, unit);
+			}
+			sources.addAll(unit.sources);
+		}
+		ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile {} units together: \n\n{}\n", units.size(), String.join("\n", SourceCodeHandler.addLineCounter(sources)));
+		Map<Compilation.Unit, Map<String, ByteBuffer>> compiledFilesForUnit = new LinkedHashMap<>();
+		units.forEach(unit -> compiledFilesForUnit.put(unit, new LinkedHashMap<>()));
+		Collection<String> dependencies;
+		Compilation.Unit firstUnit = units.iterator().next();
+		try (Compilation.Context context = createCompilationContext(firstUnit, memorySources)) {
+			compile(context).forEach((className, byteCode) -> {
+				//The class files whose source is unknown are assigned to the first unit
+				compiledFilesForUnit.get(
+					Optional.ofNullable(unitsForSource.get(context.compiledFileSources.get(className))).orElse(firstUnit)
+				).put(className, byteCode);
+			});
+			dependencies = new HashSet<>(context.classPaths);
+		}
+		Map<Compilation.Unit, JavaMemoryCompiler.Compilation.Result> results = new LinkedHashMap<>();
+		compiledFilesForUnit.forEach((unit, compiledFiles) -> {
+			putInCompilationCache(unit, compiledFiles, dependencies);
+			results.put(unit, toResult(unit, compiledFiles, new HashSet<>(dependencies)));
 		});
-		return tsk.submit();
+		return results;
+	}
+
+	private Compilation.Context createCompilationContext(Compilation.Unit unit, Collection<MemorySource> memorySources) {
+		return Compilation.Context.create(
+			this,
+			memorySources,
+			new ArrayList<>(unit.classPaths),
+			new ArrayList<>(unit.classRepositories),
+			new ArrayList<>(unit.blackListedClassPaths),
+			unit.extraOptions
+		);
+	}
+
+	private CompilationCache.Entry getFromCompilationCache(Compilation.Unit unit) {
+		CompilationCache compilationCache = this.compilationCache;
+		if (compilationCache == null) {
+			return null;
+		}
+		if (unit.compilationCacheKey == null) {
+			unit.compilationCacheKey = compilationCache.computeKey(
+				unit.sources, unit.classPaths, unit.classRepositories, unit.blackListedClassPaths, unit.extraOptions
+			);
+		}
+		return compilationCache.get(unit.compilationCacheKey);
+	}
+
+	private void putInCompilationCache(Compilation.Unit unit, Map<String, ByteBuffer> compiledFiles, Collection<String> dependencies) {
+		CompilationCache compilationCache = this.compilationCache;
+		if (compilationCache != null && unit.compilationCacheKey != null) {
+			compilationCache.put(unit.compilationCacheKey, compiledFiles, dependencies);
+		}
+	}
+
+	private JavaMemoryCompiler.Compilation.Result toResult(
+		Compilation.Unit unit,
+		Map<String, ByteBuffer> compiledFiles,
+		Collection<String> dependencies
+	) {
+		String storedFilesClassPath = retrieveCompiledClassesStorage(unit.compiledClassesStorage, unit.useTemporaryFolderForStoring);
+		if (!compiledFiles.isEmpty() && unit.compiledClassesStorage != null ) {
+			compiledFiles.forEach((className, byteCode) -> {
+				JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
+			});
+		}
+		Collection<String> classNames = compiledFiles.keySet();
+		ManagedLoggerRepository.logInfo(getClass()::getName,
+			classNames.size() > 1?
+				"Classes {} have been succesfully compiled":
+				"Class {} has been succesfully compiled",
+			classNames.size() > 1?
+				String.join(", ", classNames):
+				classNames.stream().findFirst().orElseGet(() -> "")
+		);
+		return new JavaMemoryCompiler.Compilation.Result(
+			storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null,
+			compiledFiles, dependencies
+		);
 	}
 
 
@@ -211,18 +383,6 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		return storedFilesClassPath;
 	}
 
-	private void sourcesToMemorySources(Collection<String> sources, Collection<MemorySource> memorySources) {
-		for (String source : sources) {
-			String className = SourceCodeHandler.extractClassName(source);
-			try {
-				memorySources.add(new MemorySource(Kind.SOURCE, className, source));
-			} catch (URISyntaxException exc) {
-				throw new JavaMemoryCompiler.Compilation.Exception(Strings.compile("Class name \"{}\" is not valid", className), exc);
-			}
-		}
-
-	}
-
 	private Map<String, ByteBuffer> compile(Compilation.Context context) {
 		if (!context.classPaths.isEmpty()) {
 			ManagedLoggerRepository.logInfo(getClass()::getName, "... Using class paths:\n\t{}",String.join("\n\t", context.classPaths));
@@ -237,9 +397,12 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 			});
 		}
-		DiagnosticListener diagnosticListener = new DiagnosticListener(context);
+		JavaFileManagerPool javaFileManagerPool = this.javaFileManagerPool;
+		JavaFileManagerPool.Key javaFileManagerKey = javaFileManagerPool.computeKey(options);
 		try (MemoryFileManager memoryFileManager = new MemoryFileManager(
-				compiler.getStandardFileManager(diagnosticListener, null, null)
+				javaFileManagerPool.acquire(javaFileManagerKey),
+				context.compressedClassPaths,
+				javaFileManager -> javaFileManagerPool.release(javaFileManagerKey, javaFileManager)
 			)
 		) {
 			CompilationTask task = compiler.getTask(
@@ -260,12 +423,12 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			if (!done) {
 				return compile(context);
 			} else {
-				return memoryFileManager.getCompiledFiles().stream().collect(
-					Collectors.toMap(compiledFile ->
-						compiledFile.getName(), compiledFile ->
-						compiledFile.toByteBuffer()
-					)
-				);
+				Map<String, ByteBuffer> compiledFiles = new LinkedHashMap<>();
+				for (MemoryFileObject compiledFile : memoryFileManager.getCompiledFiles()) {
+					compiledFiles.put(compiledFile.getName(), compiledFile.toByteBuffer());
+					context.compiledFileSources.put(compiledFile.getName(), compiledFile.getSource());
+				}
+				return compiledFiles;
 			}
 		}
 	}
@@ -275,6 +438,12 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		closeResources(() -> compiledClassesRepository == null, task -> {
 			compiledClassesRepository.destroy();
 			compiledClassesRepository = null;
+			if (compilationCache != null) {
+				compilationCache.close();
+				compilationCache = null;
+			}
+			javaFileManagerPool.close();
+			javaFileManagerPool = null;
 			compiler = null;
 			pathHelper = null;
 		});
@@ -396,10 +565,12 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 		private String name;
 		private ByteBuffer content;
+		private FileObject source;
 
-	    MemoryFileObject(String name, Kind kind) {
+	    MemoryFileObject(String name, Kind kind, FileObject source) {
 	        super(URI.create("memory:///" + name.replace('.', '/') + kind.extension), kind);
 	        this.name = name;
+	        this.source = source;
 	    }
 
 	    public String getPath() {
@@ -411,6 +582,10 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	    	return this.name;
 	    }
 
+	    public FileObject getSource() {
+	    	return source;
+	    }
+
 	    public ByteBuffer toByteBuffer() {
 	    	return BufferHandler.shareContent(content);
 	    }
@@ -434,25 +609,123 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		public void close() {
 	    	name = null;
 	    	content = null;
+	    	source = null;
 	    }
 	}
 
+	static class CompressedClassFileObject extends SimpleJavaFileObject {
+
+		private final String binaryName;
+		private final FileSystemItem classFile;
+
+		CompressedClassFileObject(String binaryName, FileSystemItem classFile) {
+			super(URI.create("memory:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+			this.binaryName = binaryName;
+			this.classFile = classFile;
+		}
+
+		@Override
+		public String getName() {
+			return classFile.getAbsolutePath();
+		}
+
+		@Override
+		public InputStream openInputStream() {
+			return classFile.toInputStream();
+		}
+
+	}
+
 	// to make the --release parameter work we to implement the StandardJavaFileManager interface
 	static class MemoryFileManager extends ForwardingJavaFileManager implements Component, StandardJavaFileManager {
+		private final static FileSystemItem.Criteria CLASS_FILE_CRITERIA =
+			FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> fileSystemItem.getName().endsWith(Kind.CLASS.extension));
 
 		private List<MemoryFileObject> compiledFiles;
 		private StandardJavaFileManager javaFileManager;
+		private Collection<FileSystemItem> compressedClassPaths;
+		private Consumer<StandardJavaFileManager> javaFileManagerReleaser;
 
-		MemoryFileManager(StandardJavaFileManager javaFileManager) {
+		MemoryFileManager(
+			StandardJavaFileManager javaFileManager,
+			Collection<FileSystemItem> compressedClassPaths,
+			Consumer<StandardJavaFileManager> javaFileManagerReleaser
+		) {
 	        super(javaFileManager);
 	        this.javaFileManager = javaFileManager;
+	        this.compressedClassPaths = compressedClassPaths;
+	        this.javaFileManagerReleaser = javaFileManagerReleaser;
 	        compiledFiles = new CopyOnWriteArrayList<>();
 	    }
 
+		//The class files of the class paths located inside archives are read from their contents without extracting them
+		@Override
+		public Iterable list(Location location, String packageName, Set kinds, boolean recurse) throws IOException {
+			Iterable<JavaFileObject> javaFileObjects = super.list(location, packageName, kinds, recurse);
+			if (location != StandardLocation.CLASS_PATH || !kinds.contains(Kind.CLASS) || compressedClassPaths.isEmpty()) {
+				return javaFileObjects;
+			}
+			List<JavaFileObject> allJavaFileObjects = new ArrayList<>();
+			javaFileObjects.forEach(allJavaFileObjects::add);
+			String packagePath = packageName.isEmpty() ? "" : "/" + packageName.replace('.', '/');
+			for (FileSystemItem classPath : compressedClassPaths) {
+				String classPathAbsolutePath = classPath.getAbsolutePath();
+				FileSystemItem packageFolder = FileSystemItem.ofPath(classPathAbsolutePath + packagePath);
+				if (!packageFolder.exists() || !packageFolder.isContainer()) {
+					continue;
+				}
+				for (FileSystemItem classFile : recurse ?
+					packageFolder.findInAllChildren(CLASS_FILE_CRITERIA) :
+					packageFolder.findInChildren(CLASS_FILE_CRITERIA)
+				) {
+					String classFileRelativePath = classFile.getAbsolutePath().substring(classPathAbsolutePath.length() + 1);
+					allJavaFileObjects.add(
+						new CompressedClassFileObject(
+							classFileRelativePath.substring(0, classFileRelativePath.length() - Kind.CLASS.extension.length()).replace('/', '.'),
+							classFile
+						)
+					);
+				}
+			}
+			return allJavaFileObjects;
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForInput(Location location, String className, Kind kind) throws IOException {
+			JavaFileObject javaFileObject = (JavaFileObject)super.getJavaFileForInput(location, className, kind);
+			if (javaFileObject != null || location != StandardLocation.CLASS_PATH || kind != Kind.CLASS) {
+				return javaFileObject;
+			}
+			String classFileRelativePath = "/" + className.replace('.', '/') + Kind.CLASS.extension;
+			for (FileSystemItem classPath : compressedClassPaths) {
+				FileSystemItem classFile = FileSystemItem.ofPath(classPath.getAbsolutePath() + classFileRelativePath);
+				if (classFile.exists()) {
+					return new CompressedClassFileObject(className, classFile);
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public String inferBinaryName(Location location, JavaFileObject file) {
+			if (file instanceof CompressedClassFileObject) {
+				return ((CompressedClassFileObject)file).binaryName;
+			}
+			return super.inferBinaryName(location, file);
+		}
+
+		@Override
+		public boolean isSameFile(FileObject fileObject, FileObject otherFileObject) {
+			if (fileObject instanceof CompressedClassFileObject || otherFileObject instanceof CompressedClassFileObject) {
+				return fileObject.toUri().equals(otherFileObject.toUri());
+			}
+			return super.isSameFile(fileObject, otherFileObject);
+		}
+
 		@Override
 	    public MemoryFileObject getJavaFileForOutput
 	            (Location location, String name, Kind kind, FileObject source) {
-	        MemoryFileObject mc = new MemoryFileObject(name, kind);
+	        MemoryFileObject mc = new MemoryFileObject(name, kind, source);
 	        this.compiledFiles.add(mc);
 	        return mc;
 	    }
@@ -467,10 +740,11 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				compiledFile.close()
 			);
 			compiledFiles.clear();
-			Executor.run(() -> {
-				super.close();
-			});
+			//The wrapped file manager is not closed but handed back to the pool
+			javaFileManagerReleaser.accept(javaFileManager);
 			javaFileManager = null;
+			compressedClassPaths = null;
+			javaFileManagerReleaser = null;
 		}
 
 		@Override
@@ -513,12 +787,67 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 	static class Compilation {
 
+		static class Unit {
+			final Collection<String> sources;
+			final Collection<String> classPaths;
+			final Collection<String> classRepositories;
+			final Collection<String> blackListedClassPaths;
+			final String compiledClassesStorage;
+			final boolean useTemporaryFolderForStoring;
+			final Map<String, String> extraOptions;
+			String compilationCacheKey;
+
+			Unit(
+				Collection<String> sources,
+				Collection<String> classPaths,
+				Collection<String> classRepositories,
+				Collection<String> blackListedClassPaths,
+				String compiledClassesStorage,
+				boolean useTemporaryFolderForStoring,
+				Map<String, String> extraOptions
+			) {
+				this.sources = sources;
+				this.classPaths = classPaths;
+				this.classRepositories = classRepositories;
+				this.blackListedClassPaths = blackListedClassPaths;
+				this.compiledClassesStorage = compiledClassesStorage;
+				this.useTemporaryFolderForStoring = useTemporaryFolderForStoring;
+				this.extraOptions = extraOptions;
+			}
+
+			//The units with the same settings can be compiled in the same task
+			List<Object> getSettings() {
+				return Arrays.asList(
+					new ArrayList<>(classPaths),
+					new ArrayList<>(classRepositories),
+					new HashSet<>(blackListedClassPaths),
+					extraOptions != null ? new LinkedHashMap<>(extraOptions) : new LinkedHashMap<>()
+				);
+			}
+
+			Collection<MemorySource> toMemorySources() {
+				Collection<MemorySource> memorySources = new ArrayList<>();
+				for (String source : sources) {
+					String className = SourceCodeHandler.extractClassName(source);
+					try {
+						memorySources.add(new MemorySource(Kind.SOURCE, className, source));
+					} catch (URISyntaxException exc) {
+						throw new JavaMemoryCompiler.Compilation.Exception(Strings.compile("Class name \"{}\" is not valid", className), exc);
+					}
+				}
+				return memorySources;
+			}
+
+		}
+
 		static class Context implements Closeable {
 
 			Collection<String> classPaths;
+			Collection<FileSystemItem> compressedClassPaths;
 			Collection<String> blackListedClassPaths;
 			Map<String, String> options;
 			Collection<MemorySource> sources;
+			Map<String, FileObject> compiledFileSources;
 			private Collection<String> classRepositories;
 			private JavaMemoryCompiler javaMemoryCompiler;
 			private Throwable previousException;
@@ -538,6 +867,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 					options.putAll(extraOptions);
 				}
 				this.classPaths = new HashSet<>();
+				this.compressedClassPaths = new LinkedHashSet<>();
 				this.blackListedClassPaths = new HashSet<>(blackListedClassPaths);
 				this.sources = sources;
 				if (classPaths != null) {
@@ -547,6 +877,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				}
 				this.classRepositories = classRepositories;
 				this.diagnositListenerInterceptedMessages = new HashSet<>();
+				this.compiledFileSources = new HashMap<>();
 			}
 
 			static Context create(
@@ -567,7 +898,13 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 						return;
 					}
 					String classPath = Paths.clean(path);
-					options.put("-classpath", Optional.ofNullable(options.get("-classpath")).orElse("") + classPath + File.pathSeparator);
+					FileSystemItem classPathItem = FileSystemItem.ofPath(classPath);
+					//The class paths located inside archives are served by the MemoryFileManager
+					if (classPathItem.isCompressed()) {
+						compressedClassPaths.add(classPathItem);
+					} else {
+						options.put("-classpath", Optional.ofNullable(options.get("-classpath")).orElse("") + classPath + File.pathSeparator);
+					}
 					classPaths.add(classPath);
 				}
 			}
@@ -583,7 +920,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 							)
 						).withFileFilter(classFile ->
 							Objects.equals(classFile.toJavaClass().getPackageName(), packageName)
-						)
+						).extractCompressedPaths(false)
 					).get().values()
 				);
 				if (classPaths.isEmpty()) {
@@ -594,7 +931,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 								classRepositories
 							).withAdditionalFileFilter(classFile ->
 								Objects.equals(classFile.toJavaClass().getPackageName(), packageName)
-							)
+							).extractCompressedPaths(false)
 						).get().values()
 					);
 				}
@@ -612,7 +949,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 								)
 							).withFileFilter(classFile ->
 								classPredicate.test(classFile.toJavaClass())
-							)
+							).extractCompressedPaths(false)
 						).get().values()
 					);
 					if (classPaths.isEmpty()) {
@@ -623,7 +960,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 									classRepositories
 								).withAdditionalFileFilter(classFile ->
 									classPredicate.test(classFile.toJavaClass())
-								)
+								).extractCompressedPaths(false)
 							).get().values()
 						);
 					}
@@ -644,12 +981,16 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				options = null;
 				classPaths.clear();
 				classPaths = null;
+				compressedClassPaths.clear();
+				compressedClassPaths = null;
 				sources = null;
 				classRepositories.clear();
 				classRepositories = null;
 				javaMemoryCompiler = null;
 				diagnositListenerInterceptedMessages.clear();
 				diagnositListenerInterceptedMessages = null;
+				compiledFileSources.clear();
+				compiledFileSources = null;
 			}
 
 		}
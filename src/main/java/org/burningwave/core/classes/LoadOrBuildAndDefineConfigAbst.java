@@ -251,4 +251,19 @@ class LoadOrBuildAndDefineConfigAbst<L extends LoadOrBuildAndDefineConfigAbst<L>
 	boolean isVirtualizeClassesEnabled() {
 		return virtualizeClasses;
 	}
+
+	//The unit source generators are shared while the collections that are filled by the ClassFactory are copied
+	void copyTo(LoadOrBuildAndDefineConfigAbst<?> destConfig) {
+		destConfig.unitSourceGenerators = this.unitSourceGenerators;
+		destConfig.compilationConfigSupplier = this.compilationConfigSupplier;
+		destConfig.classRepositoriesWhereToSearchNotFoundClassesDuringLoading =
+			this.classRepositoriesWhereToSearchNotFoundClassesDuringLoading != null ?
+				new HashSet<>(this.classRepositoriesWhereToSearchNotFoundClassesDuringLoading) : null;
+		destConfig.additionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading =
+			this.additionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading != null ?
+				new HashSet<>(this.additionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading) : null;
+		destConfig.classLoader = this.classLoader;
+		destConfig.useOneShotJavaCompiler = this.useOneShotJavaCompiler;
+		destConfig.virtualizeClasses = this.virtualizeClasses;
+	}
 }
\ No newline at end of file
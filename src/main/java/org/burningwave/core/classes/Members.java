@@ -259,6 +259,47 @@ public class Members {
 			Driver.setAccessible((AccessibleObject)member, flag);
 		}
 
+		public static class InvocationKey {
+			private final Class<?> targetClass;
+			private final String groupName;
+			private final String memberName;
+			private final Class<?>[] argumentTypes;
+			private final int hashCode;
+
+			InvocationKey(Class<?> targetClass, String groupName, String memberName, Class<?>... argumentTypes) {
+				this.targetClass = targetClass;
+				this.groupName = groupName;
+				this.memberName = memberName;
+				this.argumentTypes = argumentTypes;
+				int hashCode = targetClass.hashCode();
+				hashCode = 31 * hashCode + groupName.hashCode();
+				hashCode = 31 * hashCode + memberName.hashCode();
+				this.hashCode = 31 * hashCode + Arrays.hashCode(argumentTypes);
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+
+			@Override
+			public boolean equals(Object object) {
+				if (this == object) {
+					return true;
+				}
+				if (!(object instanceof InvocationKey)) {
+					return false;
+				}
+				InvocationKey key = (InvocationKey)object;
+				return hashCode == key.hashCode &&
+					targetClass == key.targetClass &&
+					groupName.equals(key.groupName) &&
+					memberName.equals(key.memberName) &&
+					Arrays.equals(argumentTypes, key.argumentTypes);
+			}
+
+		}
+
 		String getCacheKey(Class<?> targetClass, String groupName, Class<?>... arguments) {
 			if (arguments == null) {
 				arguments = new Class<?>[] {null};
@@ -445,6 +445,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		Cache.uniqueKeyForMethods.remove(this, true);
 		Cache.bindedFunctionalInterfaces.remove(this, true);
 		Cache.uniqueKeyForExecutableAndMethodHandle.remove(this, true);
+		Cache.invocationKeyForResources.remove(this);
 	}
 
 	public void register(Object client) {
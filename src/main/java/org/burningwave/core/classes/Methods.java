@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -212,7 +213,12 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 
 	private <T> T invoke(Class<?> targetClass, Object target, String methodName, ThrowingFunction<Method, T, Throwable> methodInvoker, Object... arguments) {
 		return Executor.get(() -> {
-			Method method = findFirstAndMakeItAccessible(targetClass, methodName, Classes.retrieveFrom(arguments));
+			Class<?>[] argumentTypes = Classes.retrieveFrom(arguments);
+			Method method = (Method)Cache.invocationKeyForResources.getOrUploadIfAbsent(
+				Classes.getClassLoader(targetClass),
+				new Members.Handler.InvocationKey(targetClass, "first accessible", methodName, argumentTypes),
+				() -> findFirstAndMakeItAccessible(targetClass, methodName, argumentTypes)
+			);
 			if (method == null) {
 				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
 					new NoSuchMethodException(
@@ -258,6 +264,14 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	}
 
 	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBox(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		return (Box<Method>)Cache.invocationKeyForResources.getOrUploadIfAbsent(
+			Classes.getClassLoader(targetClass),
+			new Members.Handler.InvocationKey(targetClass, "direct handle", methodName, inputParameterTypesOrSubTypes),
+			() -> findDirectHandleBoxByCacheKey(targetClass, methodName, inputParameterTypesOrSubTypes)
+		);
+	}
+
+	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBoxByCacheKey(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
 		String cacheKey = getCacheKey(targetClass, "equals " + methodName, inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Members.Handler.OfExecutable.Box<Method> entry =
@@ -281,6 +295,59 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	}
 
 
+	public Invoker bind(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		return bind(targetClass, "bind", methodName, inputParameterTypesOrSubTypes, method -> {
+			try {
+				return Driver.getConsulter(method.getDeclaringClass()).unreflect(method);
+			} catch (IllegalAccessException exc) {
+				return Driver.throwException(exc);
+			}
+		});
+	}
+
+	//The handle is built from the method resolved by bind, so that the invoker can never pair a method with
+	//the handle of one of its overloads, and it invokes the method without virtual dispatch like invokeDirect
+	public Invoker bindDirect(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
+		return bind(targetClass, "bind direct", methodName, inputParameterTypesOrSubTypes, method -> {
+			try {
+				Class<?> methodDeclaringClass = method.getDeclaringClass();
+				MethodHandles.Lookup consulter = Driver.getConsulter(methodDeclaringClass);
+				return Modifier.isStatic(method.getModifiers()) ?
+					consulter.unreflect(method) :
+					consulter.unreflectSpecial(method, methodDeclaringClass);
+			} catch (IllegalAccessException exc) {
+				return Driver.throwException(exc);
+			}
+		});
+	}
+
+	private Invoker bind(
+		Class<?> targetClass,
+		String groupName,
+		String methodName,
+		Class<?>[] inputParameterTypesOrSubTypes,
+		Function<Method, MethodHandle> methodHandleRetriever
+	) {
+		Class<?>[] argumentTypes = inputParameterTypesOrSubTypes != null ? inputParameterTypesOrSubTypes.clone() : null;
+		return (Invoker)Cache.invocationKeyForResources.getOrUploadIfAbsent(
+			Classes.getClassLoader(targetClass),
+			new Members.Handler.InvocationKey(targetClass, groupName, methodName, argumentTypes),
+			() -> {
+				Method method = findFirstAndMakeItAccessible(targetClass, methodName, argumentTypes);
+				if (method == null) {
+					org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+						new NoSuchMethodException(
+							Strings.compile(
+								"Method {} not found in {} hierarchy", methodName, targetClass.getName()
+							)
+						)
+					);
+				}
+				return new Invoker(method, methodHandleRetriever.apply(method));
+			}
+		);
+	}
+
 	@Override
 	MethodHandle retrieveMethodHandle(MethodHandles.Lookup consulter, Method method) throws java.lang.NoSuchMethodException, IllegalAccessException {
 		Class<?> methodDeclaringClass = method.getDeclaringClass();
@@ -301,6 +368,42 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return method.getName();
 	}
 
+	//Invokes a method resolved once by Methods.bind or Methods.bindDirect: the arguments must match the
+	//parameters of the method, including the array for a varargs parameter, and the target is ignored for
+	//static methods
+	public static class Invoker {
+		private final Method method;
+		private final MethodHandle handle;
+
+		Invoker(Method method, MethodHandle methodHandle) {
+			this.method = method;
+			methodHandle = methodHandle.asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+			}
+			this.handle = methodHandle.asType(methodHandle.type().generic()).asSpreader(
+				Object[].class, method.getParameterCount()
+			);
+		}
+
+		public Method getMethod() {
+			return method;
+		}
+
+		public <T> T invoke(Object target, Object... arguments) {
+			try {
+				return (T)handle.invokeExact(target, arguments);
+			} catch (Throwable exc) {
+				return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+			}
+		}
+
+		public <T> T invokeStatic(Object... arguments) {
+			return invoke(null, arguments);
+		}
+
+	}
+
 	public static class NoSuchMethodException extends RuntimeException {
 
 		private static final long serialVersionUID = -2912826056405333039L;
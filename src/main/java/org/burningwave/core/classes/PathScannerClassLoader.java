@@ -246,6 +246,16 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 	}
 
 
+	//Forgets the loaded paths that contain or are contained in the changed path so that they are scanned again
+	public void invalidateLoadedPaths(String changedPath) {
+		String changedPathAsParent = changedPath + "/";
+		for (String loadedPath : loadedPaths.keySet()) {
+			if (loadedPath.equals(changedPath) || changedPath.startsWith(loadedPath + "/") || loadedPath.startsWith(changedPathAsParent)) {
+				loadedPaths.remove(loadedPath);
+			}
+		}
+	}
+
 	public boolean hasBeenCompletelyLoaded(String path) {
 		Boolean hasBeenCompletelyLoaded = loadedPaths.get(path);
 		if (hasBeenCompletelyLoaded != null && hasBeenCompletelyLoaded) {
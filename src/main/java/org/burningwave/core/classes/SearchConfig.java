@@ -450,12 +450,27 @@ public class SearchConfig implements Closeable {
 	}
 
 	FileSystemItem.Criteria getAllFileFilters(FileSystemItem currentScannedPath){
+		return getAllFileFilters(currentScannedPath, true);
+	}
+
+	FileSystemItem.Criteria getAllFileFilters(FileSystemItem currentScannedPath, boolean filterByPackagePaths){
 		FileSystemItem.Criteria fileFilter = null;
 		if (additionalFileFilterSupplier != null) {
 			fileFilter = fileFilterSupplier.apply(currentScannedPath).and(additionalFileFilterSupplier.apply(currentScannedPath));
 		} else {
 			fileFilter = fileFilterSupplier.apply(currentScannedPath);
 		}
+		Collection<String> packagePaths = filterByPackagePaths ? getPackagePaths() : null;
+		if (packagePaths != null) {
+			//The path is checked before the other filters so that the files placed outside of the packages
+			//admitted by the class criteria are excluded without reading them
+			Collection<String> packagePathsInAbsolutePath = packagePaths.stream().map(
+				packagePath -> "/" + packagePath
+			).collect(Collectors.toList());
+			fileFilter = FileSystemItem.Criteria.forAllFileThat(
+				fileSystemItem -> isInPackages(fileSystemItem.getAbsolutePath(), packagePathsInAbsolutePath)
+			).and(fileFilter);
+		}
 		if (fileFilter.getMinimumCollectionSizeForParallelIterationPredicate() == null) {
 			fileFilter.setMinimumCollectionSizeForParallelIteration(
 				this.minimumCollectionSizeForParallelIterationPredicate
@@ -482,6 +497,22 @@ public class SearchConfig implements Closeable {
 		return fileFiltersExtenallySet;
 	}
 
+	//The paths of the packages outside of which the class criteria cannot match: null if it admits all the packages
+	Collection<String> getPackagePaths() {
+		return classCriteria != null ? classCriteria.getPackagePaths() : null;
+	}
+
+	//The classes can be stored under a nested root (e.g. BOOT-INF/classes) so the package path is searched in
+	//the whole absolute path
+	private static boolean isInPackages(String absolutePath, Collection<String> packagePathsInAbsolutePath) {
+		for (String packagePath : packagePathsInAbsolutePath) {
+			if (absolutePath.contains(packagePath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 
 	boolean isInitialized() {
 		return pathsRetriever != null && searchContext != null;
@@ -36,6 +36,8 @@ import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
@@ -43,6 +45,7 @@ import org.burningwave.core.Context;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.function.ThrowingSupplier;
+import org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration;
 
 class SearchContext<T> implements Closeable {
 
@@ -55,6 +58,9 @@ class SearchContext<T> implements Closeable {
 	QueuedTaskExecutor.Task searchTask;
 	Collection<T> itemsFound;
 	boolean requestToClosePathScannderClassLoaderOnClose;
+	Consumer<? super T> itemConsumer;
+	Object itemConsumerMutex;
+	volatile boolean terminated;
 
 	Collection<String> getSkippedClassNames() {
 		return skippedClassNames;
@@ -73,6 +79,7 @@ class SearchContext<T> implements Closeable {
 		this.pathScannerClassLoader.register(this);
 		this.sharedPathScannerClassLoader.register(this);
 		this.requestToClosePathScannderClassLoaderOnClose = true;
+		this.itemConsumerMutex = new Object();
 	}
 
 	public static <T> SearchContext<T> create(
@@ -119,7 +126,20 @@ class SearchContext<T> implements Closeable {
 		return this.searchTask;
 	}
 
+	void setItemConsumer(Consumer<? super T> itemConsumer) {
+		this.itemConsumer = itemConsumer;
+	}
+
+	boolean isTerminable() {
+		return itemConsumer != null;
+	}
+
+	boolean isTerminated() {
+		return terminated;
+	}
+
 	void addItemFound(String path, String key, T item) {
+		boolean terminate = notifyItemFound(item);
 		retrieveCollectionForPath(
 			itemsFoundMap,
 			ConcurrentHashMap::new, path
@@ -127,6 +147,29 @@ class SearchContext<T> implements Closeable {
 		synchronized(itemsFoundFlatMap) {
 			itemsFoundFlatMap.put(key, item);
 		}
+		if (terminate) {
+			throw TerminateIteration.NOTIFICATION;
+		}
+	}
+
+	//The consumer is called by one thread at a time and never after it has terminated the search
+	boolean notifyItemFound(T item) {
+		Consumer<? super T> itemConsumer = this.itemConsumer;
+		if (itemConsumer == null) {
+			return false;
+		}
+		synchronized (itemConsumerMutex) {
+			if (terminated) {
+				throw TerminateIteration.NOTIFICATION;
+			}
+			try {
+				itemConsumer.accept(item);
+				return false;
+			} catch (TerminateIteration exc) {
+				terminated = true;
+				return true;
+			}
+		}
 	}
 
 	void addAllItemsFound(String path, Map<String, T> items) {
@@ -141,6 +184,24 @@ class SearchContext<T> implements Closeable {
 		}
 	}
 
+	//Removes the items found in the path or in its children
+	void removeItemsFound(String absolutePath) {
+		String absolutePathAsParent = absolutePath + "/";
+		Predicate<String> keyPredicate = key -> key.equals(absolutePath) || key.startsWith(absolutePathAsParent);
+		synchronized(itemsFoundFlatMap) {
+			itemsFoundFlatMap.keySet().removeIf(keyPredicate);
+			for (Map<String, T> items : itemsFoundMap.values()) {
+				items.keySet().removeIf(keyPredicate);
+			}
+		}
+	}
+
+	void resetItemsFound() {
+		synchronized(itemsFoundFlatMap) {
+			itemsFound = null;
+		}
+	}
+
 	 Map<String, T> retrieveCollectionForPath(Map<String, Map<String, T>> allItems, Supplier<Map<String, T>> mapForPathSupplier, String path) {
 		Map<String, T> items = null;
 		if (mapForPathSupplier != null) {
@@ -256,6 +317,22 @@ class SearchContext<T> implements Closeable {
 		);
 	}
 
+	boolean testWithoutLoading(JavaClass javaClass) {
+		return execute(
+			() -> searchConfig.getClassCriteria().testWithoutLoading(javaClass),
+			() -> false,
+			javaClass::getName
+		);
+	}
+
+	ClassCriteria.TestContext test(JavaClass javaClass, Class<?> cls) {
+		return execute(
+			() -> searchConfig.getClassCriteria().test(javaClass, cls),
+			() -> searchConfig.getClassCriteria().testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null),
+			javaClass::getName
+		);
+	}
+
 	@Override
 	public void close() {
 		pathScannerClassLoader.unregister(this, true);
@@ -272,6 +349,7 @@ class SearchContext<T> implements Closeable {
 		skippedClassNames.clear();
 		skippedClassNames = null;
 		searchTask = null;
+		itemConsumer = null;
 	}
 
 
@@ -40,11 +40,14 @@ import java.util.Optional;
 import org.burningwave.core.Closeable;
 import org.burningwave.core.Criteria;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.io.FileSystemItem;
+import org.burningwave.core.io.FileSystemWatcher;
 
 
 public class SearchResult<E> implements Closeable {
 	SearchContext<E> context;
 	ClassPathScanner.Abst<E, ?, ?> classPathScanner;
+	Map<FileSystemWatcher, FileSystemWatcher.Listener> fileSystemWatchers;
 
 	SearchResult(SearchContext<E> context) {
 		this.context = context;
@@ -124,8 +127,35 @@ public class SearchResult<E> implements Closeable {
 		context.setrequestToClosePathScannderClassLoaderOnClose(flag);
 	}
 
+	//Watches the scanned paths and applies to this result the additions, modifications and deletions of the
+	//class files: the watched paths are left registered on the watcher when this result is closed
+	public synchronized SearchResult<E> keepUpdatedBy(FileSystemWatcher fileSystemWatcher) {
+		if (fileSystemWatchers == null) {
+			fileSystemWatchers = new HashMap<>();
+		} else if (fileSystemWatchers.containsKey(fileSystemWatcher)) {
+			return this;
+		}
+		FileSystemWatcher.Listener listener = events -> {
+			synchronized (this) {
+				if (context != null) {
+					classPathScanner.applyChanges(context, events);
+				}
+			}
+		};
+		fileSystemWatchers.put(fileSystemWatcher, listener);
+		fileSystemWatcher.addListener(listener);
+		for (FileSystemItem scannedPath : context.getSearchConfig().getPathsToBeScanned()) {
+			fileSystemWatcher.watch(scannedPath.getAbsolutePath());
+		}
+		return this;
+	}
+
 	@Override
-	public void close() {
+	public synchronized void close() {
+		if (fileSystemWatchers != null) {
+			fileSystemWatchers.forEach(FileSystemWatcher::removeListener);
+			fileSystemWatchers = null;
+		}
 		context.close();
 		context = null;
 		classPathScanner.unregister(this);
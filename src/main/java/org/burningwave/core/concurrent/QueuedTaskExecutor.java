@@ -36,6 +36,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -46,8 +47,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -72,7 +75,8 @@ public class QueuedTaskExecutor implements Closeable {
 	Thread.Supplier threadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	TasksQueue tasksQueue;
+	BackPressurePolicy backPressurePolicy;
 	Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
@@ -93,41 +97,21 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	QueuedTaskExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
+		this(name, threadSupplier, defaultPriority, isDaemon, TasksQueue.DEFAULT_CAPACITY, BackPressurePolicy.BLOCK);
+	}
+
+	QueuedTaskExecutor(
+		String name,
+		Thread.Supplier threadSupplier,
+		int defaultPriority,
+		boolean isDaemon,
+		int queueCapacity,
+		BackPressurePolicy backPressurePolicy
+	) {
 		initializer = () -> {
 			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<TaskAbst<?, ?>>() {
-				private static final long serialVersionUID = -176528742161426076L;
-				int min = 1500;
-				int max = 2000;
-
-				@Override
-				public boolean add(TaskAbst<?, ?> e) {
-					while (size() > max) {
-						synchronized(this) {
-							try {
-								wait();
-							} catch (Throwable exc) {
-								org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
-							}
-						}
-					}
-					return super.add(e);
-				}
-
-				@Override
-				public boolean remove(Object task) {
-					boolean removed;
-					int size;
-					if ((removed = super.remove(task)) && ((size = size()) > min) && (size < max)) {
-						//ManagedLoggerRepository.logInfo(getClass()::getName, "Collection size: {}", size);
-						synchronized(this) {
-							this.notifyAll();
-						}
-					}
-					return removed;
-				}
-
-			};
+			tasksQueue = new TasksQueue(queueCapacity);
+			this.backPressurePolicy = backPressurePolicy;
 
 			tasksInExecution = new ConcurrentHashMap<TaskAbst<?, ?>, TaskAbst<?, ?>>() ;
 			this.resumeCallerMutex = new Object();
@@ -157,17 +141,8 @@ public class QueuedTaskExecutor implements Closeable {
 					continue;
 				}
 				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
+					TaskAbst<?, ?> task;
+					while (!checkAndNotifySuspension() && !terminated && (task = tasksQueue.poll()) != null) {
 						task.setExecutor(threadSupplier.getOrCreateThread()).start();
 					}
 				} else {
@@ -220,8 +195,20 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public static QueuedTaskExecutor create(String executorName, Thread.Supplier threadSupplier, int initialPriority, boolean daemon, boolean undestroyable) {
+		return create(executorName, threadSupplier, initialPriority, daemon, undestroyable, TasksQueue.DEFAULT_CAPACITY, BackPressurePolicy.BLOCK);
+	}
+
+	public static QueuedTaskExecutor create(
+		String executorName,
+		Thread.Supplier threadSupplier,
+		int initialPriority,
+		boolean daemon,
+		boolean undestroyable,
+		int queueCapacity,
+		BackPressurePolicy backPressurePolicy
+	) {
 		if (undestroyable) {
-			return new QueuedTaskExecutor(executorName, threadSupplier, initialPriority, daemon) {
+			return new QueuedTaskExecutor(executorName, threadSupplier, initialPriority, daemon, queueCapacity, backPressurePolicy) {
 				StackTraceElement[] stackTraceOnCreation = Thread.currentThread().getStackTrace();
 				@Override
 				public boolean shutDown(boolean waitForTasksTermination) {
@@ -233,7 +220,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 			};
 		} else {
-			return new QueuedTaskExecutor(executorName, threadSupplier, initialPriority, daemon);
+			return new QueuedTaskExecutor(executorName, threadSupplier, initialPriority, daemon, queueCapacity, backPressurePolicy);
 		}
 	}
 
@@ -298,23 +285,49 @@ public class QueuedTaskExecutor implements Closeable {
 	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck) {
 		Object[] canBeExecutedBag = null;
 		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
+			//Tasks moved between the executors of a group are never held back: for the other ones a slot of the
+			//queue is reserved before adding them so that concurrent producers can't exceed the capacity
+			if (!skipCheck && !tasksQueue.tryReserve() && !applyBackPressurePolicy(task)) {
+				return task;
+			}
+			boolean added = false;
 			try {
 				task.creator = java.lang.Thread.currentThread();
 				Synchronizer.execute(Objects.getId(task.creator), () -> {
 					Collection<TaskAbst<?,?>> childrenTask = taskCreatorThreadsForChildTasks.computeIfAbsent(task.creator, key -> ConcurrentHashMap.newKeySet());
 					childrenTask.add(task);
 				});
-				tasksQueue.add(task);
+				if (skipCheck) {
+					tasksQueue.add(task);
+				} else {
+					tasksQueue.addReserved(task);
+				}
+				added = true;
 				synchronized(executableCollectionFillerMutex) {
 					executableCollectionFillerMutex.notifyAll();
 				}
 			} catch (Throwable exc) {
+				if (!skipCheck && !added) {
+					tasksQueue.release();
+				}
 				ManagedLoggerRepository.logError(getClass()::getName, exc);
 			}
 		}
 		return canBeExecutedBag != null ? (T)canBeExecutedBag[0] : task;
 	}
 
+	<E, T extends TaskAbst<E, T>> boolean applyBackPressurePolicy(T task) {
+		if (backPressurePolicy == BackPressurePolicy.CALLER_RUNS) {
+			task.execute();
+			return false;
+		} else if (backPressurePolicy == BackPressurePolicy.REJECT) {
+			((TaskAbst<?, ?>)task).forceAbort();
+			throw new TaskStateException(task, Strings.compile("has been rejected because the queue of {} is full", name));
+		}
+		tasksQueue.waitForFreeSpaceAndReserve();
+		return true;
+	}
+
 	<E, T extends TaskAbst<E, T>> Object[] canBeExecuted(T task) {
 		Object[] bag = {task, true};
 		if (task.runOnlyOnce) {
@@ -466,7 +479,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	private void terminateChildren(Consumer<TaskAbst<?, ?>> childTerminateOperation, Thread taskThread) {
-		Collection<TaskAbst<?,?>> childTasks = taskCreatorThreadsForChildTasks.get(taskThread);
+		Collection<TaskAbst<?,?>> childTasks = taskCreatorThreadsForChildTasks.get(taskThread.getBackingThread());
 		if (childTasks != null) {
 			for (TaskAbst<?,?> childTask : childTasks) {
 				childTerminateOperation.accept(childTask);
@@ -566,20 +579,13 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
-			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
-			while (taskIterator.hasNext()) {
-				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
+		if (tasksQueue.contains(task)) {
+			for (TaskAbst<?, ?> currentIterated : tasksQueue) {
+				if (currentIterated != task) {
+					task.changePriority(priority);
+				} else {
+					break;
 				}
-				idx++;
 			}
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
@@ -698,6 +704,147 @@ public class QueuedTaskExecutor implements Closeable {
 		name = null;
 	}
 
+	public enum BackPressurePolicy {
+		BLOCK, CALLER_RUNS, REJECT;
+
+		public static BackPressurePolicy forName(String name) {
+			return valueOf(name.trim().toUpperCase().replace("-", "_").replace(" ", "_"));
+		}
+	}
+
+	static class TasksQueue extends AbstractQueue<TaskAbst<?, ?>> {
+		static final int DEFAULT_CAPACITY = 2000;
+
+		private final ConcurrentLinkedQueue<TaskAbst<?, ?>> tasks;
+		private final AtomicInteger size;
+		private final AtomicInteger waitingProducers;
+		private final int capacity;
+		private final int resumeThreshold;
+
+		TasksQueue(int capacity) {
+			this.tasks = new ConcurrentLinkedQueue<>();
+			this.size = new AtomicInteger();
+			this.waitingProducers = new AtomicInteger();
+			this.capacity = capacity;
+			//Blocked producers are woken up only when a quarter of the queue has been consumed
+			this.resumeThreshold = Math.min(capacity - 1, capacity - (capacity / 4));
+		}
+
+		@Override
+		public boolean offer(TaskAbst<?, ?> task) {
+			size.incrementAndGet();
+			tasks.offer(task);
+			return true;
+		}
+
+		//Adds a task for which a slot has already been reserved
+		void addReserved(TaskAbst<?, ?> task) {
+			tasks.offer(task);
+		}
+
+		@Override
+		public TaskAbst<?, ?> poll() {
+			TaskAbst<?, ?> task = tasks.poll();
+			if (task != null) {
+				onRemoved();
+			}
+			return task;
+		}
+
+		@Override
+		public TaskAbst<?, ?> peek() {
+			return tasks.peek();
+		}
+
+		@Override
+		public boolean remove(Object task) {
+			if (tasks.remove(task)) {
+				onRemoved();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public boolean contains(Object task) {
+			return tasks.contains(task);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return tasks.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return size.get();
+		}
+
+		@Override
+		public Iterator<TaskAbst<?, ?>> iterator() {
+			Iterator<TaskAbst<?, ?>> iterator = tasks.iterator();
+			return new Iterator<TaskAbst<?, ?>>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public TaskAbst<?, ?> next() {
+					return iterator.next();
+				}
+
+			};
+		}
+
+		@Override
+		public Spliterator<TaskAbst<?, ?>> spliterator() {
+			return tasks.spliterator();
+		}
+
+		boolean tryReserve() {
+			if (capacity <= 0) {
+				size.incrementAndGet();
+				return true;
+			}
+			for (int currentSize = size.get(); currentSize < capacity; currentSize = size.get()) {
+				if (size.compareAndSet(currentSize, currentSize + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void release() {
+			onRemoved();
+		}
+
+		void waitForFreeSpaceAndReserve() {
+			synchronized(this) {
+				waitingProducers.incrementAndGet();
+				try {
+					while (!tryReserve()) {
+						wait();
+					}
+				} catch (InterruptedException exc) {
+					org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+				} finally {
+					waitingProducers.decrementAndGet();
+				}
+			}
+		}
+
+		private void onRemoved() {
+			if ((size.decrementAndGet() <= resumeThreshold) && (waitingProducers.get() > 0)) {
+				synchronized(this) {
+					notifyAll();
+				}
+			}
+		}
+
+	}
+
 	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> {
 
 		String name;
@@ -788,7 +935,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public boolean isAborted() {
 			Thread executor = this.executor;
-			return aborted && !executed && ((executor == null) || !executor.isAlive());
+			return aborted && !executed && ((executor == null) || !executor.getBackingThread().isAlive());
 		}
 
 		private boolean isExecutorTerminated() {
@@ -797,7 +944,7 @@ public class QueuedTaskExecutor implements Closeable {
 				return(Boolean)executorOrTerminatedExecutorFlag;
 			}
 			if (executorOrTerminatedExecutorFlag != null) {
-				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isAlive();
+				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).getBackingThread().isAlive();
 				if (!isAlive) {
 					return (Boolean)(this.executorOrTerminatedExecutorFlag = !isAlive);
 				}
@@ -897,8 +1044,8 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForStarting0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
-			if (currentThread == this.executor) {
+			Thread executor = this.executor;
+			if (executor != null && executor.isCurrentThread()) {
 				return false;
 			}
 			if (ignoreSubmittedCheck || checkSubmitted()) {
@@ -959,8 +1106,8 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForFinish0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
-			if (currentThread == this.executor) {
+			Thread executor = this.executor;
+			if (executor != null && executor.isCurrentThread()) {
 				return false;
 			}
 			if (ignoreSubmittedCheck || checkSubmitted()) {
@@ -1313,6 +1460,18 @@ public class QueuedTaskExecutor implements Closeable {
 						.on(configuration)
 					)
 				);
+				Object queueCapacityAsObject = IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey("queue.capacity")
+					.on(configuration)
+				);
+				int queueCapacity = queueCapacityAsObject != null ?
+					Objects.toInt(queueCapacityAsObject) : TasksQueue.DEFAULT_CAPACITY;
+				String backPressurePolicyName = IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey("queue.back-pressure-policy")
+					.on(configuration)
+				);
+				BackPressurePolicy backPressurePolicy = backPressurePolicyName != null ?
+					BackPressurePolicy.forName(backPressurePolicyName) : BackPressurePolicy.BLOCK;
 				queuedTasksExecutorGroup.name = name;
 				Map<Integer, QueuedTaskExecutor> queuedTasksExecutors = new HashMap<>();
 				for (int i = 0;  i < java.lang.Thread.MAX_PRIORITY; i++) {
@@ -1355,13 +1514,27 @@ public class QueuedTaskExecutor implements Closeable {
 								isQueuedTasksExecutorDaemonAsObject
 							);
 						}
+						Object queuedTasksExecutorQueueCapacityAsObject =
+							IterableObjectHelper.resolveValue(
+								ResolveConfig.forNamedKey("queued-task-executor[" + i + "].queue.capacity")
+								.on(configuration)
+							);
+						String queuedTasksExecutorBackPressurePolicyName =
+							IterableObjectHelper.resolveStringValue(
+								ResolveConfig.forNamedKey("queued-task-executor[" + i + "].queue.back-pressure-policy")
+								.on(configuration)
+							);
 						queuedTasksExecutors.put(
 							priority,
 							createQueuedTasksExecutor(
 								name + " - " + queuedTasksExecutorName,
 								queuedTasksExecutorThreadSupplier,
 								priority,
-								isQueuedTasksExecutorDaemon
+								isQueuedTasksExecutorDaemon,
+								queuedTasksExecutorQueueCapacityAsObject != null ?
+									Objects.toInt(queuedTasksExecutorQueueCapacityAsObject) : queueCapacity,
+								queuedTasksExecutorBackPressurePolicyName != null ?
+									BackPressurePolicy.forName(queuedTasksExecutorBackPressurePolicyName) : backPressurePolicy
 							)
 						);
 					}
@@ -1539,8 +1712,15 @@ public class QueuedTaskExecutor implements Closeable {
 			return getByPriority(priority).createTask(executable);
 		}
 
-		QueuedTaskExecutor createQueuedTasksExecutor(String executorName, Thread.Supplier threadSupplier, int priority, boolean isDaemon) {
-			return new QueuedTaskExecutor(executorName, threadSupplier, priority, isDaemon) {
+		QueuedTaskExecutor createQueuedTasksExecutor(
+			String executorName,
+			Thread.Supplier threadSupplier,
+			int priority,
+			boolean isDaemon,
+			int queueCapacity,
+			BackPressurePolicy backPressurePolicy
+		) {
+			return new QueuedTaskExecutor(executorName, threadSupplier, priority, isDaemon, queueCapacity, backPressurePolicy) {
 
 				@Override
 				<T> Function<ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable>, QueuedTaskExecutor.ProducerTask<T>> getProducerTaskSupplier() {
@@ -30,6 +30,8 @@ package org.burningwave.core.concurrent;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
+import java.util.List;
+
 public class TaskStateException extends IllegalStateException {
 
 	private static final long serialVersionUID = -6504561450589871045L;
@@ -40,7 +42,7 @@ public class TaskStateException extends IllegalStateException {
 				"{} {} and was created at:{}\nException stacktrace:",
 				task,
 				message,
-				Strings.from(task.getCreatorInfos(), 1)
+				getCreatorInfosAsString(task)
 			),
 			exception
 		);
@@ -52,8 +54,13 @@ public class TaskStateException extends IllegalStateException {
 				"{} {} and was created at:{}\nException stacktrace:",
 				task,
 				message,
-				Strings.from(task.getCreatorInfos(), 1)
+				getCreatorInfosAsString(task)
 			)
 		);
 	}
+
+	private static String getCreatorInfosAsString(QueuedTaskExecutor.TaskAbst<?, ?> task) {
+		List<StackTraceElement> creatorInfos = task.getCreatorInfos();
+		return creatorInfos != null ? Strings.from(creatorInfos, 1) : " (unknown)";
+	}
 }
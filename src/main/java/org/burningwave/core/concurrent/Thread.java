@@ -42,6 +42,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -120,6 +121,18 @@ public abstract class Thread extends java.lang.Thread {
 		return this instanceof Poolable;
 	}
 
+	public boolean isVirtual() {
+		return this instanceof Virtual;
+	}
+
+	java.lang.Thread getBackingThread() {
+		return this;
+	}
+
+	boolean isCurrentThread() {
+		return java.lang.Thread.currentThread() == getBackingThread();
+	}
+
 	@Override
 	public void start() {
 		if (this.originalExecutable == null) {
@@ -161,7 +174,7 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 	public boolean isRunning() {
-		return isAlive() && running;
+		return getBackingThread().isAlive() && running;
 	}
 
 	public boolean isLooping() {
@@ -207,7 +220,8 @@ public abstract class Thread extends java.lang.Thread {
 		shutDown();
 		removePermanently();
 		java.lang.Thread currentThread = java.lang.Thread.currentThread();
-		if (this != currentThread) {
+		boolean isCurrentThread = isCurrentThread();
+		if (!isCurrentThread) {
 			try {
 				operation.accept(this);
 			} catch (Throwable exc) {
@@ -220,7 +234,7 @@ public abstract class Thread extends java.lang.Thread {
 		synchronized(executableWrapper) {
 			executableWrapper.notifyAll();
 		}
-		if (this == currentThread) {
+		if (isCurrentThread) {
 			Thread killer = supplier.getOrCreateThread().setExecutable(thread -> {
 				operation.accept(this);
 			});
@@ -397,6 +411,81 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 
+	private static class Virtual extends Thread {
+		private volatile java.lang.Thread virtualThread;
+
+		private Virtual(Thread.Supplier supplier, long number) {
+			super(supplier, number);
+		}
+
+		@Override
+		void startRunning() {
+			java.lang.Thread virtualThread = supplier.virtualThreadFactory.newThread(this);
+			virtualThread.setName(getName());
+			this.virtualThread = virtualThread;
+			virtualThread.start();
+		}
+
+		@Override
+		public void run() {
+			this.running = true;
+			supplier.runningThreads.put(this, this);
+			try {
+				executableWrapper.get().accept(this);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, exc);
+			}
+			executableWrapper.set(null);
+			originalExecutable = null;
+			removePermanently();
+			synchronized(supplier.poolableSleepingThreads) {
+				supplier.poolableSleepingThreads.notifyAll();
+			}
+			synchronized(executableWrapper) {
+				executableWrapper.notifyAll();
+			}
+			running = false;
+		}
+
+		@Override
+		java.lang.Thread getBackingThread() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread : this;
+		}
+
+		@Override
+		public State getState() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getState() : super.getState();
+		}
+
+		@Override
+		public StackTraceElement[] getStackTrace() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getStackTrace() : super.getStackTrace();
+		}
+
+		@Override
+		public void interrupt() {
+			terminate(thread -> getBackingThread().interrupt(), "interrupt");
+		}
+
+		//Virtual threads cannot be stopped: they are interrupted instead
+		@Override
+		@Deprecated/*(since="12.60.0")*/
+		public void kill() {
+			terminate(thread -> getBackingThread().interrupt(), "stop");
+		}
+
+		@Override
+		void removePermanently () {
+			if (supplier.runningThreads.remove(this) != null) {
+				--supplier.threadCount;
+			}
+		}
+	}
+
+
 	public static class Supplier implements Identifiable {
 		public static abstract class Configuration {
 			public static abstract class Key {
@@ -408,6 +497,7 @@ public abstract class Thread extends java.lang.Thread {
 					"thread-supplier.max-detached-thread-count.elapsed-time-threshold-from-last-increase-for-gradual-decreasing-to-initial-value";
 				public static final String MAX_DETACHED_THREAD_COUNT_INCREASING_STEP = "thread-supplier.max-detached-thread-count.increasing-step";
 				public static final String DEFAULT_THREAD_PRIORITY = "thread-supplier.default-thread-priority";
+				public static final String MODE = "thread-supplier.mode";
 			}
 
 			public final static Map<String, Object> DEFAULT_VALUES;
@@ -450,12 +540,31 @@ public abstract class Thread extends java.lang.Thread {
 					java.lang.Thread.NORM_PRIORITY
 				);
 
+				defaultValues.put(
+					Key.MODE,
+					"platform"
+				);
+
 				DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 			}
 		}
 
+		private final static ThreadFactory VIRTUAL_THREAD_FACTORY;
 		private static long threadNumberSupplier;
 
+		static {
+			ThreadFactory virtualThreadFactory = null;
+			try {
+				//Retrieved reflectively because virtual threads are available only since Java 21
+				Object virtualThreadBuilder = java.lang.Thread.class.getMethod("ofVirtual").invoke(null);
+				virtualThreadFactory = (ThreadFactory)Class.forName("java.lang.Thread$Builder")
+					.getMethod("factory").invoke(virtualThreadBuilder);
+			} catch (Throwable exc) {
+				//Virtual threads not supported by the current runtime
+			}
+			VIRTUAL_THREAD_FACTORY = virtualThreadFactory;
+		}
+
 		private String name;
 		private volatile int threadCount;
 		private volatile int poolableThreadCount;
@@ -479,6 +588,7 @@ public abstract class Thread extends java.lang.Thread {
 		private java.util.function.Supplier<Thread.Poolable> getReversePoolableThreadFunction;
 		private java.util.function.Supplier<Thread.Poolable> getPoolableThreadFunction;
 		private int defaultThreadPriority;
+		private ThreadFactory virtualThreadFactory;
 
 		Supplier (
 			String name,
@@ -588,6 +698,26 @@ public abstract class Thread extends java.lang.Thread {
 			} catch (Throwable exc) {
 				this.defaultThreadPriority = java.lang.Thread.currentThread().getPriority();
 			}
+			String mode = IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.MODE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			);
+			if ("virtual".equalsIgnoreCase(mode.trim())) {
+				if (VIRTUAL_THREAD_FACTORY != null) {
+					this.virtualThreadFactory = VIRTUAL_THREAD_FACTORY;
+				} else {
+					ManagedLoggerRepository.logWarn(
+						getClass()::getName,
+						"Virtual threads are not supported by the current runtime: {} will supply platform threads",
+						name
+					);
+				}
+			} else if (!"platform".equalsIgnoreCase(mode.trim())) {
+				throw new IllegalArgumentException(
+					Strings.compile("Value of '{}' is not correct: it must be 'platform' or 'virtual'", Configuration.Key.MODE)
+				);
+			}
 		}
 
 		public static Supplier create(
@@ -615,6 +745,9 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread getOrCreatePoolableThread() {
+			if (virtualThreadFactory != null) {
+				return createVirtualThread();
+			}
 			Thread thread;
 			while ((thread = getPoolableThreadFunction.get()) == null) {
 				synchronized(poolableSleepingThreads) {
@@ -650,6 +783,9 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		final Thread getOrCreateThread(int initialValue, int tentativeCount) {
+			if (virtualThreadFactory != null) {
+				return createVirtualThread();
+			}
 			Thread thread = getPoolableThreadFunction.get();
 			if (thread != null) {
 				return thread;
@@ -724,6 +860,11 @@ public abstract class Thread extends java.lang.Thread {
 			return new Detached(this, ++threadNumberSupplier);
 		}
 
+		Thread createVirtualThread() {
+			++threadCount;
+			return new Virtual(this, ++threadNumberSupplier);
+		}
+
 		private Integer addForwardPoolableSleepingThread(Thread.Poolable thread) {
 			addPoolableSleepingThreadFunction = addReversePoolableSleepingThreadFunction;
 			for (int index = 0; index < poolableSleepingThreads.length; index++) {
@@ -840,7 +981,7 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread joinThread(Thread thread) {
-			if (java.lang.Thread.currentThread() == thread) {
+			if (thread.isCurrentThread()) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Join ignored: the current thread could not wait itself");
 				return thread;
 			}
@@ -892,8 +1033,12 @@ public abstract class Thread extends java.lang.Thread {
 			return maxDetachedThreadCountIncreasingStep;
 		}
 
+		public boolean isVirtualThreadsModeEnabled() {
+			return virtualThreadFactory != null;
+		}
+
 		public int getCountOfThreadsThatCanBeSupplied() {
-			if (maxDetachedThreadCountIncreasingStep > 0) {
+			if (maxDetachedThreadCountIncreasingStep > 0 || virtualThreadFactory != null) {
 				return Integer.MAX_VALUE - runningThreads.size();
 			}
 			return maxThreadCount - runningThreads.size();
@@ -28,6 +28,7 @@
  */
 package org.burningwave.core.io;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
@@ -35,6 +36,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.Executor;
@@ -85,8 +87,15 @@ public class FileInputStream extends java.io.FileInputStream implements Componen
 
 	public ByteBuffer toByteBuffer() {
 		return Cache.pathForContents.getOrUploadIfAbsent(
-			absolutePath, () ->
-			Streams.toByteBuffer(this)
+			absolutePath, () -> {
+				FileChannel fileChannel = getChannel();
+				long size = Executor.get(fileChannel::size);
+				if (BufferHandler.isMemoryMappingEnabledFor(size)) {
+					return BufferHandler.map(fileChannel);
+				}
+				//The size is known, so the content is read in a buffer allocated once
+				return Streams.toByteBuffer(this, size <= Integer.MAX_VALUE ? (int)size : -1);
+			}
 		);
 	}
 }
\ No newline at end of file
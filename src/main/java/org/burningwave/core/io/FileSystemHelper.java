@@ -55,6 +55,7 @@ import org.burningwave.core.function.Executor;
 
 
 public class FileSystemHelper implements Component {
+	private final static String PERSISTENT_FOLDER_NAME = "persistent";
 	private String name;
 	private File mainTemporaryFolder;
 	private String id;
@@ -125,6 +126,19 @@ public class FileSystemHelper implements Component {
 		return pingFile;
 	}
 
+	//The persistent folders are shared by all the executions and are not deleted by the scavenger
+	public File getOrCreatePersistentFolder(String folderName) {
+		return Executor.get(() -> {
+			File persistentFolder = new File(
+				getOrCreateBurningwaveTemporaryFolder().getAbsolutePath() + "/" + PERSISTENT_FOLDER_NAME + "/" + folderName
+			);
+			if (!persistentFolder.exists()) {
+				persistentFolder.mkdirs();
+			}
+			return persistentFolder;
+		});
+	}
+
 	public File createTemporaryFolder(String folderName) {
 		return Executor.get(() -> {
 			File tempFolder = new File(getOrCreateMainTemporaryFolder().getAbsolutePath() + "/" + folderName);
@@ -272,7 +286,8 @@ public class FileSystemHelper implements Component {
 				for (File fileSystemItem : burningwaveTemporaryFolder.listFiles()) {
 					try {
 						if (!fileSystemItem.getName().equals(fileSystemHelper.getOrCreateMainTemporaryFolder().getName()) &&
-							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName())
+							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName()) &&
+							!fileSystemItem.getName().equals(PERSISTENT_FOLDER_NAME)
 						) {
 							try {
 								try {
@@ -72,6 +72,7 @@ import java.util.regex.Pattern;
 import org.burningwave.core.classes.JavaClass;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration;
 
 @SuppressWarnings("resource")
 public class FileSystemItem implements Comparable<FileSystemItem> {
@@ -311,6 +312,9 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		Predicate<FileSystemItem> filterPredicate = iteratedFileSystemItem -> {
 			try {
 				return nativePredicate.test(new FileSystemItem[] { iteratedFileSystemItem, this });
+			} catch (TerminateIteration exc) {
+				//The filter stops the iteration of the remaining items
+				throw exc;
 			} catch (ArrayIndexOutOfBoundsException | NullPointerException exc) {
 				iteratedFISWithErrors.add(iteratedFileSystemItem);
 				return false;
@@ -548,6 +552,42 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return computeConventionedAbsolutePathAndExecute(isArchive);
 	}
 
+	//Returns false if this item is an archive in which no folder has one of the given relative paths as its path
+	//or as the final part of it and that does not contain other archives: in this case the archive is checked
+	//through its directory tree without loading its children
+	public boolean mayContainFolders(Collection<String> folderRelPaths) {
+		if (isArchive()) {
+			ZipDirectoryIndex directoryIndex = retrieveDirectoryIndex();
+			if (directoryIndex != null) {
+				return directoryIndex.mayContainFolders(folderRelPaths);
+			}
+		}
+		return true;
+	}
+
+	//The directory tree of the cached container is used if present, otherwise the container is created and cached
+	//only for the archives that are not inside other archives: reading them would require loading all the
+	//contents of the archive that contains them
+	private ZipDirectoryIndex retrieveDirectoryIndex() {
+		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(getAbsolutePath());
+		if (zipContainer instanceof ZipMemoryContainer && !((ZipMemoryContainer)zipContainer).isDestroyed) {
+			try {
+				return ((ZipMemoryContainer)zipContainer).getDirectoryIndex();
+			} catch (Throwable exc) {
+				//The cached container has been destroyed in the meantime
+			}
+		}
+		if (isCompressed()) {
+			return null;
+		}
+		try (IterableZipContainer newZipContainer = IterableZipContainer.create(getAbsolutePath(), toByteBuffer())) {
+			if (newZipContainer instanceof ZipMemoryContainer) {
+				return ((ZipMemoryContainer)newZipContainer).getDirectoryIndex();
+			}
+		}
+		return null;
+	}
+
 	public boolean isChildOf(FileSystemItem fileSystemItem) {
 		String otherConventionedAbsolutePath = fileSystemItem.computeConventionedAbsolutePathAndExecute(conventionedAbsolutePath ->
 			conventionedAbsolutePath.toString()
@@ -645,7 +685,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						.create(parentContainer.getAbsolutePath(), parentContainer.toByteBuffer())) {
 					Set<String> folderRelPaths = new HashSet<>();
 					Collection<FileSystemItem> allChildren = newCollectionSupplier.get();
-					zipInputStream.findAllAndConvert(() -> allChildren, zipEntryPredicate, zEntry -> {
+					Function<IterableZipContainer.Entry, FileSystemItem> converter = zEntry -> {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(parentContainer.getAbsolutePath() + "/" + zEntry.getName());
 						fileSystemItem.absolutePath.setValue(
@@ -657,11 +697,26 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 							Optional.ofNullable(fileSystemItem.getAllChildren())
 									.ifPresent(fileSystemItemChildrens -> allChildren.addAll(fileSystemItemChildrens));
 						}
-						if (isJModArchive) {
-							extractAndAddAllFoldersName(folderRelPaths, zEntry.getName());
-						}
 						return fileSystemItem;
-					}, zEntry -> true);
+					};
+					if (zipInputStream instanceof ZipMemoryContainer) {
+						for (ZipDirectoryIndex.Node node : ((ZipMemoryContainer)zipInputStream).getDirectoryIndex().getAllChildren(
+							parentContainer == this ? "" : retrieveRelativePathInParentContainer()
+						)) {
+							if (node.getEntry() != null) {
+								allChildren.add(converter.apply(node.getEntry()));
+							} else if (isJModArchive) {
+								folderRelPaths.add(node.getPath().substring(0, node.getPath().length() - 1));
+							}
+						}
+					} else {
+						zipInputStream.findAllAndConvert(() -> allChildren, zipEntryPredicate, zEntry -> {
+							if (isJModArchive) {
+								extractAndAddAllFoldersName(folderRelPaths, zEntry.getName());
+							}
+							return converter.apply(zEntry);
+						}, zEntry -> true);
+					}
 					for (String folderRelPath : folderRelPaths) {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(zipInputStream.getAbsolutePath() + "/" + folderRelPath);
@@ -701,12 +756,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 				} else if (isFolder()) {
 					Supplier<IterableZipContainer> zipInputStreamSupplier = () -> IterableZipContainer
 							.create(parentContainer.getAbsolutePath(), parentContainer.toByteBuffer());
-					return retrieveChildren(zipInputStreamSupplier,
-							conventionedAbsolutePath.substring(
-								conventionedAbsolutePath.lastIndexOf(IterableZipContainer.PATH_SUFFIX)
-									+ IterableZipContainer.PATH_SUFFIX.length()
-							)
-					);
+					return retrieveChildren(zipInputStreamSupplier, retrieveRelativePathInParentContainer());
 				}
 			} else if (isArchive()) {
 				String zipFilePath = conventionedAbsolutePath.substring(0,
@@ -749,6 +799,8 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	}
 
 	private void removeFromCache(FileSystemItem fileSystemItem, boolean removeFromCache) {
+		//The memory mapped contents are never unmapped explicitly because the zip entries and the bytecodes
+		//read from them are views of the same mapping: the garbage collector unmaps them when no view is left
 		Cache.pathForContents.remove(fileSystemItem.getAbsolutePath(), true);
 		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(fileSystemItem.getAbsolutePath());
 		if (zipContainer != null) {
@@ -807,6 +859,14 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		});
 	}
 
+	//Drops only the cached children lists: the cached contents of the children are left untouched
+	void clearChildren() {
+		Synchronizer.execute(instanceId, () -> {
+			this.allChildren = null;
+			this.children = null;
+		});
+	}
+
 	private void clearJavaClassWrapper(FileSystemItem fileSystemItem) {
 		AtomicReference<JavaClass> javaClassWrapper = fileSystemItem.javaClassWrapper;
 		if (javaClassWrapper != null) {
@@ -824,6 +884,9 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	private Collection<FileSystemItem> retrieveChildren(Supplier<IterableZipContainer> zipInputStreamSupplier,
 			String itemToSearch) {
 		try (IterableZipContainer zipInputStream = zipInputStreamSupplier.get()) {
+			if (zipInputStream instanceof ZipMemoryContainer) {
+				return retrieveChildren((ZipMemoryContainer)zipInputStream, itemToSearch);
+			}
 			final String itemToSearchRegEx = itemToSearch.replace("/", "\\/") + "(.*?)\\/";
 			Pattern itemToSearchRegExPattern = Pattern.compile(itemToSearchRegEx);
 			boolean isJModArchive = Streams.isJModArchive(zipInputStream.toByteBuffer());
@@ -862,6 +925,37 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		}
 	}
 
+	private Collection<FileSystemItem> retrieveChildren(ZipMemoryContainer zipContainer, String itemToSearch) {
+		boolean isJModArchive = Streams.isJModArchive(zipContainer.toByteBuffer());
+		Collection<FileSystemItem> children = newCollectionSupplier.get();
+		for (ZipDirectoryIndex.Node node : zipContainer.getDirectoryIndex().getChildren(itemToSearch)) {
+			IterableZipContainer.Entry zEntry = node.getEntry();
+			FileSystemItem fileSystemItem;
+			if (zEntry != null) {
+				fileSystemItem = FileSystemItem.ofPath(zEntry.getAbsolutePath());
+			} else if (isJModArchive) {
+				fileSystemItem = FileSystemItem.ofPath(zipContainer.getAbsolutePath() + "/" + node.getPath());
+			} else {
+				continue;
+			}
+			if (fileSystemItem.parentContainer == null) {
+				fileSystemItem.parentContainer = FileSystemItem.ofPath(zipContainer.getAbsolutePath());
+			}
+			if (zEntry != null || this.isParentOf(fileSystemItem)) {
+				children.add(fileSystemItem);
+			}
+		}
+		return children;
+	}
+
+	//Returns the path of this item relative to the archive that contains it
+	private String retrieveRelativePathInParentContainer() {
+		String conventionedAbsolutePath = computeConventionedAbsolutePath();
+		return conventionedAbsolutePath.substring(
+			conventionedAbsolutePath.lastIndexOf(IterableZipContainer.PATH_SUFFIX) + IterableZipContainer.PATH_SUFFIX.length()
+		);
+	}
+
 	private String retrieveConventionedAbsolutePath(String realAbsolutePath, String relativePath) {
 		File file = new File(realAbsolutePath);
 		if (file.exists()) {
@@ -925,6 +1019,11 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 					);
 				}
 				iterableZipContainerType = zIS.getClass();
+				if (zIS instanceof ZipMemoryContainer) {
+					return retrieveConventionedRelativePath(
+						(ZipMemoryContainer)zIS, Streams.isJModArchive(zipInputStreamAsBytes), relativePath
+					);
+				}
 				Predicate<IterableZipContainer.Entry> zipEntryPredicate = zEntry -> {
 					return zEntry.getName().equals(relativePath) || zEntry.getName().equals(relativePath + "/");
 				};
@@ -985,6 +1084,27 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		}
 	}
 
+	//Looks up the deepest stored entry among the relative path and its parents
+	private String retrieveConventionedRelativePath(ZipMemoryContainer zipContainer, boolean isJModArchive, String relativePath) {
+		ZipDirectoryIndex directoryIndex = zipContainer.getDirectoryIndex();
+		String path = relativePath;
+		while (path != null) {
+			ZipDirectoryIndex.Node node = directoryIndex.get(path);
+			if (node != null && node.getEntry() != null) {
+				return retrieveConventionedRelativePath(this, zipContainer, node.getEntry(), relativePath);
+			}
+			int lastIndexOfSlash = path.lastIndexOf("/");
+			path = lastIndexOfSlash != -1 ? path.substring(0, lastIndexOfSlash) : null;
+		}
+		if (isJModArchive && directoryIndex.get(relativePath) != null) {
+			// in case of JMod files folder
+			return retrieveConventionedRelativePath(this, zipContainer, null, relativePath);
+		}
+		return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+			new FileSystemItemNotFoundException(Strings.compile("Absolute path \"{}\" not exists", absolutePath.getKey()))
+		);
+	}
+
 	private synchronized String retrieveConventionedRelativePath(FileSystemItem fileSystemItem, IterableZipContainer iZC,
 			IterableZipContainer.Entry zipEntry, String relativePath1) {
 		if (zipEntry != null) {
@@ -1463,6 +1583,8 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						childAndThis[0].reloadContent(true);
 						return filterPredicate.test(childAndThis);
 					}
+				} catch (TerminateIteration exc) {
+					throw exc;
 				} catch (Throwable exc) {
 					if (exceptionHandler != null) {
 						return exceptionHandler.apply(exc, childAndThis);
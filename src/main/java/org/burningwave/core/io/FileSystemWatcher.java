@@ -0,0 +1,449 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.ManagedLogger;
+
+
+//Detects the changes of the watched folders through the WatchService of the file system and the changes
+//of the watched archives, or of every watched path when no WatchService is available, by polling their
+//last modified times. Before notifying the listeners the cached FileSystemItems and contents of the
+//changed paths are invalidated
+public class FileSystemWatcher implements ManagedLogger, Closeable {
+	private String name;
+	private long pollingInterval;
+	private WatchService watchService;
+	private Map<WatchKey, Folder> watchedFolders;
+	private Map<String, Map<String, Long>> polledPaths;
+	private Collection<String> watchedPaths;
+	private Collection<Listener> listeners;
+
+	private FileSystemWatcher(String name, long pollingInterval, boolean useWatchService) {
+		this.name = name;
+		this.pollingInterval = pollingInterval;
+		this.watchedFolders = new ConcurrentHashMap<>();
+		this.polledPaths = new ConcurrentHashMap<>();
+		this.watchedPaths = ConcurrentHashMap.newKeySet();
+		this.listeners = new CopyOnWriteArrayList<>();
+		if (useWatchService) {
+			try {
+				this.watchService = FileSystems.getDefault().newWatchService();
+			} catch (IOException | UnsupportedOperationException exc) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "WatchService not available: changes will be detected by polling the last modified times");
+			}
+		}
+	}
+
+	public static FileSystemWatcher create(String name, long pollingInterval) {
+		return new FileSystemWatcher(name, pollingInterval, true);
+	}
+
+	public static FileSystemWatcher createPolling(String name, long pollingInterval) {
+		return new FileSystemWatcher(name, pollingInterval, false);
+	}
+
+	public FileSystemWatcher watch(String absolutePath) {
+		String watchedPath = Paths.toNormalizedCleanedAbsolutePath(absolutePath);
+		synchronized (watchedPaths) {
+			if (!watchedPaths.add(watchedPath)) {
+				return this;
+			}
+			File file = toPhysicalFile(watchedPath);
+			if (watchService != null && file.isDirectory()) {
+				try {
+					register(watchedPath, file.toPath(), null);
+				} catch (IOException exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not register {} on WatchService: its changes will be detected by polling", watchedPath);
+					polledPaths.put(watchedPath, takeSnapshot(file));
+				}
+			} else {
+				polledPaths.put(watchedPath, takeSnapshot(file));
+			}
+		}
+		return this;
+	}
+
+	public FileSystemWatcher unwatch(String absolutePath) {
+		String watchedPath = Paths.toNormalizedCleanedAbsolutePath(absolutePath);
+		synchronized (watchedPaths) {
+			if (watchedPaths.remove(watchedPath)) {
+				polledPaths.remove(watchedPath);
+				Iterator<Map.Entry<WatchKey, Folder>> watchedFoldersIterator = watchedFolders.entrySet().iterator();
+				while (watchedFoldersIterator.hasNext()) {
+					Map.Entry<WatchKey, Folder> watchedFolder = watchedFoldersIterator.next();
+					if (watchedFolder.getValue().watchedPath.equals(watchedPath)) {
+						watchedFolder.getKey().cancel();
+						watchedFoldersIterator.remove();
+					}
+				}
+			}
+		}
+		return this;
+	}
+
+	public boolean isWatching(String absolutePath) {
+		return watchedPaths.contains(Paths.toNormalizedCleanedAbsolutePath(absolutePath));
+	}
+
+	public boolean addListener(Listener listener) {
+		return listeners.add(listener);
+	}
+
+	public boolean removeListener(Listener listener) {
+		return listeners.remove(listener);
+	}
+
+	public boolean isAlive() {
+		return ThreadHolder.isAlive(name);
+	}
+
+	public FileSystemWatcher start() {
+		ThreadHolder.startLooping(name, true, Thread.MIN_PRIORITY, thread -> {
+			checkForChanges();
+		});
+		return this;
+	}
+
+	public void stop() {
+		ThreadHolder.stop(name);
+	}
+
+	//Waits up to the polling interval for the changes and notifies them to the listeners
+	public void checkForChanges() {
+		Map<String, Event> events = new LinkedHashMap<>();
+		WatchService watchService = this.watchService;
+		if (watchService != null && !watchedFolders.isEmpty()) {
+			collectWatchedEvents(watchService, events);
+		} else {
+			org.burningwave.core.concurrent.Thread.waitFor(pollingInterval);
+		}
+		collectPolledEvents(events);
+		if (!events.isEmpty()) {
+			notifyChanges(Collections.unmodifiableCollection(events.values()));
+		}
+	}
+
+	private void collectWatchedEvents(WatchService watchService, Map<String, Event> events) {
+		try {
+			WatchKey watchKey = watchService.poll(pollingInterval, TimeUnit.MILLISECONDS);
+			while (watchKey != null) {
+				Folder folder = watchedFolders.get(watchKey);
+				if (folder != null) {
+					for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+						collect(folder, watchEvent, events);
+					}
+				}
+				if (!watchKey.reset()) {
+					watchedFolders.remove(watchKey);
+				}
+				watchKey = watchService.poll();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException exc) {
+			//The watcher is stopping
+		}
+	}
+
+	private void collect(Folder folder, WatchEvent<?> watchEvent, Map<String, Event> events) {
+		if (watchEvent.kind() == StandardWatchEventKinds.OVERFLOW) {
+			//Some events have been lost: the whole folder is notified as modified
+			add(events, new Event(Event.Kind.MODIFIED, toAbsolutePath(folder.path), folder.watchedPath));
+			return;
+		}
+		Path path = folder.path.resolve((Path)watchEvent.context());
+		String absolutePath = toAbsolutePath(path);
+		if (watchEvent.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+			add(events, new Event(Event.Kind.ADDED, absolutePath, folder.watchedPath));
+			if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+				try {
+					register(folder.watchedPath, path, events);
+				} catch (IOException exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not register {} on WatchService", absolutePath);
+				}
+			}
+		} else if (watchEvent.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+			add(events, new Event(Event.Kind.DELETED, absolutePath, folder.watchedPath));
+		} else if (!Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+			//The modifications of a folder are the changes of its children that are notified separately
+			add(events, new Event(Event.Kind.MODIFIED, absolutePath, folder.watchedPath));
+		}
+	}
+
+	private void collectPolledEvents(Map<String, Event> events) {
+		for (Map.Entry<String, Map<String, Long>> polledPath : polledPaths.entrySet()) {
+			String watchedPath = polledPath.getKey();
+			Map<String, Long> oldSnapshot = polledPath.getValue();
+			Map<String, Long> newSnapshot = takeSnapshot(toPhysicalFile(watchedPath));
+			if (newSnapshot.equals(oldSnapshot)) {
+				continue;
+			}
+			for (Map.Entry<String, Long> pathAndLastModified : newSnapshot.entrySet()) {
+				Long oldLastModified = oldSnapshot.get(pathAndLastModified.getKey());
+				if (oldLastModified == null) {
+					add(events, new Event(Event.Kind.ADDED, pathAndLastModified.getKey(), watchedPath));
+				} else if (!oldLastModified.equals(pathAndLastModified.getValue())) {
+					add(events, new Event(Event.Kind.MODIFIED, pathAndLastModified.getKey(), watchedPath));
+				}
+			}
+			for (String path : oldSnapshot.keySet()) {
+				if (!newSnapshot.containsKey(path)) {
+					add(events, new Event(Event.Kind.DELETED, path, watchedPath));
+				}
+			}
+			polledPaths.replace(watchedPath, oldSnapshot, newSnapshot);
+		}
+	}
+
+	//Merges the events of the same path collected in a single check
+	private void add(Map<String, Event> events, Event event) {
+		Event previousEvent = events.get(event.absolutePath);
+		if (previousEvent == null) {
+			events.put(event.absolutePath, event);
+		} else if (previousEvent.kind == Event.Kind.ADDED) {
+			if (event.kind == Event.Kind.DELETED) {
+				events.remove(event.absolutePath);
+			}
+		} else if (previousEvent.kind == Event.Kind.DELETED && event.kind == Event.Kind.ADDED) {
+			events.put(event.absolutePath, new Event(Event.Kind.MODIFIED, event.absolutePath, event.watchedPath));
+		} else {
+			events.put(event.absolutePath, event);
+		}
+	}
+
+	private void register(String watchedPath, Path folder, Map<String, Event> events) throws IOException {
+		Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attributes) throws IOException {
+				watchedFolders.put(
+					path.register(
+						watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE,
+						StandardWatchEventKinds.ENTRY_MODIFY
+					),
+					new Folder(watchedPath, path)
+				);
+				if (events != null && !path.equals(folder)) {
+					add(events, new Event(Event.Kind.ADDED, toAbsolutePath(path), watchedPath));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+				//The files created before the registration of a new folder are not notified by the WatchService
+				if (events != null) {
+					add(events, new Event(Event.Kind.ADDED, toAbsolutePath(path), watchedPath));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path path, IOException exc) {
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+	private Map<String, Long> takeSnapshot(File file) {
+		Map<String, Long> snapshot = new HashMap<>();
+		if (file.isFile()) {
+			snapshot.put(toAbsolutePath(file.toPath()), file.lastModified());
+		} else if (file.isDirectory()) {
+			try (Stream<Path> paths = Files.walk(file.toPath())) {
+				paths.filter(Files::isRegularFile).forEach(path ->
+					snapshot.put(toAbsolutePath(path), path.toFile().lastModified())
+				);
+			} catch (IOException | java.io.UncheckedIOException exc) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not scan {}: {}", file.getAbsolutePath(), exc.getMessage());
+			}
+		}
+		return snapshot;
+	}
+
+	//The paths inside the archives are watched through the archive that contains them
+	private File toPhysicalFile(String absolutePath) {
+		File file = new File(absolutePath);
+		File container = file;
+		while (!container.exists()) {
+			container = container.getParentFile();
+			if (container == null) {
+				return file;
+			}
+		}
+		return container.isFile() ? container : file;
+	}
+
+	private String toAbsolutePath(Path path) {
+		return Paths.toNormalizedCleanedAbsolutePath(path.toAbsolutePath().toString());
+	}
+
+	void notifyChanges(Collection<Event> events) {
+		for (Event event : events) {
+			invalidate(event);
+		}
+		for (Listener listener : listeners) {
+			try {
+				listener.processChanges(events);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while notifying the changes to {}", exc, listener);
+			}
+		}
+	}
+
+	//Only the changed item and the children lists of its parents are invalidated
+	private void invalidate(Event event) {
+		String absolutePath = event.absolutePath;
+		FileSystemItem fileSystemItem = Cache.pathForFileSystemItems.get(absolutePath);
+		if (fileSystemItem != null) {
+			if (event.kind == Event.Kind.DELETED) {
+				fileSystemItem.destroy();
+			} else {
+				fileSystemItem.reset();
+			}
+		} else {
+			Cache.pathForContents.remove(absolutePath, true);
+		}
+		if (event.kind != Event.Kind.MODIFIED) {
+			int separatorIndex = absolutePath.lastIndexOf("/");
+			while (separatorIndex > 0) {
+				absolutePath = absolutePath.substring(0, separatorIndex);
+				FileSystemItem parent = Cache.pathForFileSystemItems.get(absolutePath);
+				if (parent != null) {
+					parent.clearChildren();
+				}
+				separatorIndex = absolutePath.lastIndexOf("/");
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		closeResources(() ->
+				listeners == null,
+			task -> {
+				stop();
+				WatchService watchService = this.watchService;
+				if (watchService != null) {
+					watchService.close();
+				}
+				watchedFolders.clear();
+				polledPaths.clear();
+				watchedPaths.clear();
+				listeners.clear();
+				listeners = null;
+			}
+		);
+	}
+
+	private static class Folder {
+		private final String watchedPath;
+		private final Path path;
+
+		private Folder(String watchedPath, Path path) {
+			this.watchedPath = watchedPath;
+			this.path = path;
+		}
+
+	}
+
+	public static class Event {
+		public static enum Kind {
+			ADDED, MODIFIED, DELETED
+		}
+
+		private final Kind kind;
+		private final String absolutePath;
+		private final String watchedPath;
+
+		Event(Kind kind, String absolutePath, String watchedPath) {
+			this.kind = kind;
+			this.absolutePath = absolutePath;
+			this.watchedPath = watchedPath;
+		}
+
+		public Kind getKind() {
+			return kind;
+		}
+
+		public String getAbsolutePath() {
+			return absolutePath;
+		}
+
+		public String getWatchedPath() {
+			return watchedPath;
+		}
+
+		@Override
+		public String toString() {
+			return kind + " " + absolutePath;
+		}
+
+	}
+
+	@FunctionalInterface
+	public static interface Listener {
+
+		public void processChanges(Collection<Event> events);
+
+	}
+
+}
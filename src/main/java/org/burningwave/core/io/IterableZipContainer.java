@@ -68,16 +68,45 @@ public interface IterableZipContainer extends Closeable {
 		return create(absolutePath, FileSystemItem.ofPath(absolutePath).toByteBuffer());
 	}
 
-	@SuppressWarnings("resource")
 	public static IterableZipContainer create(String absolutePath, ByteBuffer bytes) {
-		if (Streams.isJModArchive(bytes)) {
-			return createZipFile(absolutePath, bytes);
-		} else if (Streams.isArchive(bytes)) {
-			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+		if (Streams.isArchive(bytes)) {
+			return createIndexed(absolutePath, bytes);
 		}
 		return null;
 	}
 
+	/* The archives are read in memory through their central directory and, if it could not be read, through
+	 * a java.util.zip.ZipFile for the jmod files or a java.util.zip.ZipInputStream for the other archives. The
+	 * cached container is reused only if it has been read from the same content */
+	@SuppressWarnings("resource")
+	static IterableZipContainer createIndexed(String absolutePath, ByteBuffer bytes) {
+		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(absolutePath);
+		if (zipContainer instanceof ZipMemoryContainer && ((ZipMemoryContainer)zipContainer).hasContent(bytes)) {
+			try {
+				return zipContainer.duplicate();
+			} catch (Throwable exc) {
+				//The cached container has been destroyed in the meantime
+			}
+		}
+		zipContainer = ZipMemoryContainer.create(absolutePath, bytes);
+		if (zipContainer != null) {
+			IterableZipContainer newZipContainer = zipContainer;
+			Synchronizer.execute(IterableZipContainer.classId + "_" + absolutePath, () -> {
+				IterableZipContainer oldZipContainer = Cache.pathForIterableZipContainers.get(absolutePath);
+				if (oldZipContainer instanceof ZipMemoryContainer && !((ZipMemoryContainer)oldZipContainer).hasContent(bytes)) {
+					((ZipMemoryContainer)oldZipContainer).markAsStale();
+					Cache.pathForIterableZipContainers.upload(absolutePath, () -> newZipContainer, true);
+				} else if (!(oldZipContainer instanceof ZipMemoryContainer) || ((ZipMemoryContainer)oldZipContainer).isDestroyed) {
+					Cache.pathForIterableZipContainers.upload(absolutePath, () -> newZipContainer, true);
+				}
+			});
+			return zipContainer.duplicate();
+		} else if (Streams.isJModArchive(bytes)) {
+			return createZipFile(absolutePath, bytes);
+		}
+		return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+	}
+
 	static IterableZipContainer createZipFile(String absolutePath, ByteBuffer bytes) {
 		final ZipFile zipFile = (ZipFile)Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
 			absolutePath, () -> new ZipFile(absolutePath, bytes)
@@ -109,10 +138,8 @@ public interface IterableZipContainer extends Closeable {
 			} else {
 				iS = new ByteBufferInputStream(Streams.toByteBuffer(inputStream));
 			}
-			if (Streams.isJModArchive(iS.toByteBuffer())) {
-				return createZipFile(absolutePath, iS.toByteBuffer());
-			} else if (Streams.isArchive(iS.toByteBuffer())) {
-				return new ZipInputStream(absolutePath, new ByteBufferInputStream(iS.toByteBuffer()));
+			if (Streams.isArchive(iS.toByteBuffer())) {
+				return createIndexed(absolutePath, iS.toByteBuffer());
 			}
 		} finally {
 			try {
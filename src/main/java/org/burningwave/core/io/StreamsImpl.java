@@ -128,6 +128,9 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 			copy(inputStream, outputStream);
 			return outputStream.toByteBuffer();
 		}*/
+		if (streamSize < 0) {
+			return toByteBufferOfUnknownSize(inputStream);
+		}
 		try {
 			byte[] heapBuffer = BufferHandler.newByteArrayWithDefaultSize();
 			int bytesRead;
@@ -141,6 +144,34 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 		}
 	}
 
+	//The content is read in a pooled buffer that is doubled when full and it is finally copied in a buffer of the
+	//exact size, so that the intermediate buffers are reused by the next readings instead of being discarded
+	private ByteBuffer toByteBufferOfUnknownSize(InputStream inputStream) {
+		ByteBuffer pooledBuffer = BufferHandler.acquire(BufferHandler.getDefaultBufferSize());
+		try {
+			byte[] heapBuffer = BufferHandler.newByteArrayWithDefaultSize();
+			int bytesRead;
+			while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
+				if (BufferHandler.remaining(pooledBuffer) < bytesRead) {
+					ByteBuffer expandedPooledBuffer = BufferHandler.acquire(
+						Math.max(BufferHandler.capacity(pooledBuffer) * 2, BufferHandler.position(pooledBuffer) + bytesRead)
+					);
+					expandedPooledBuffer.put(BufferHandler.flip(pooledBuffer));
+					BufferHandler.release(pooledBuffer);
+					pooledBuffer = expandedPooledBuffer;
+				}
+				pooledBuffer.put(heapBuffer, 0, bytesRead);
+			}
+			ByteBuffer byteBuffer = BufferHandler.allocate(BufferHandler.position(pooledBuffer));
+			byteBuffer.put(BufferHandler.flip(pooledBuffer));
+			return BufferHandler.flip(byteBuffer);
+		} catch (Throwable exc) {
+			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+		} finally {
+			BufferHandler.release(pooledBuffer);
+		}
+	}
+
 	@Override
 	public ByteBuffer toByteBuffer(InputStream inputStream) {
 		return toByteBuffer(inputStream, -1);
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* Directory tree of an archive built once from the names of its entries: the children of a folder, its
+ * whole subtree and the entry stored for a path are returned without scanning all the entries. The folders
+ * that are not stored in the archive (e.g. the ones of the jmod files) are indexed as nodes without entry */
+class ZipDirectoryIndex {
+	private final Node root;
+	private final Map<String, Node> nodes;
+
+	private ZipDirectoryIndex() {
+		root = new Node("", null);
+		nodes = new HashMap<>();
+		nodes.put("", root);
+	}
+
+	static ZipDirectoryIndex create(Collection<? extends IterableZipContainer.Entry> entries) {
+		ZipDirectoryIndex index = new ZipDirectoryIndex();
+		for (IterableZipContainer.Entry entry : entries) {
+			String path = toPath(entry.getName());
+			if (!path.isEmpty()) {
+				index.getOrCreate(path).entry = entry;
+			}
+		}
+		return index;
+	}
+
+	private Node getOrCreate(String path) {
+		Node node = nodes.get(path);
+		if (node == null) {
+			int lastIndexOfSlash = path.lastIndexOf("/");
+			Node parent = lastIndexOfSlash > 0 ? getOrCreate(path.substring(0, lastIndexOfSlash)) : root;
+			node = new Node(path, parent);
+			parent.addChild(node);
+			nodes.put(path, node);
+		}
+		return node;
+	}
+
+	//Accepts the paths with or without the trailing slash
+	Node get(String path) {
+		return nodes.get(toPath(path));
+	}
+
+	Collection<Node> getChildren(String folderPath) {
+		Node folder = get(folderPath);
+		return folder != null ? folder.getChildren() : Collections.emptyList();
+	}
+
+	Collection<Node> getAllChildren(String folderPath) {
+		Node folder = get(folderPath);
+		if (folder == null) {
+			return Collections.emptyList();
+		}
+		List<Node> allChildren = new ArrayList<>();
+		folder.collectAllChildren(allChildren);
+		return allChildren;
+	}
+
+	//Returns false if no folder has one of the given paths as its path or as the final part of it (e.g. the
+	//folders placed under BOOT-INF/classes) and if no entry is an archive, whose content is not indexed
+	boolean mayContainFolders(Collection<String> folderPaths) {
+		Collection<String> paths = new ArrayList<>();
+		for (String folderPath : folderPaths) {
+			paths.add(toPath(folderPath));
+		}
+		for (Node node : nodes.values()) {
+			if (node.isFolder()) {
+				for (String path : paths) {
+					if (node.path.endsWith(path) &&
+						(node.path.length() == path.length() || node.path.charAt(node.path.length() - path.length() - 1) == '/')
+					) {
+						return true;
+					}
+				}
+			} else if (isArchiveName(node.path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isArchiveName(String path) {
+		return path.endsWith(".zip") || path.endsWith(".jar") || path.endsWith(".war")
+			|| path.endsWith(".ear") || path.endsWith(".jmod");
+	}
+
+	private static String toPath(String name) {
+		return name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+	}
+
+	static class Node {
+		private final String path;
+		private final Node parent;
+		private IterableZipContainer.Entry entry;
+		private Map<String, Node> children;
+
+		private Node(String path, Node parent) {
+			this.path = path;
+			this.parent = parent;
+		}
+
+		private void addChild(Node child) {
+			if (children == null) {
+				children = new LinkedHashMap<>();
+			}
+			children.put(child.path, child);
+		}
+
+		private void collectAllChildren(List<Node> allChildren) {
+			if (children != null) {
+				for (Node child : children.values()) {
+					allChildren.add(child);
+					child.collectAllChildren(allChildren);
+				}
+			}
+		}
+
+		//The path of the node relative to the archive, with the trailing slash for the folders
+		String getPath() {
+			return isFolder() ? path + "/" : path;
+		}
+
+		Node getParent() {
+			return parent;
+		}
+
+		//Returns null if the node is a folder not stored in the archive
+		IterableZipContainer.Entry getEntry() {
+			return entry;
+		}
+
+		boolean isFolder() {
+			return children != null || entry == null || entry.isDirectory();
+		}
+
+		Collection<Node> getChildren() {
+			return children != null ? Collections.unmodifiableCollection(children.values()) : Collections.emptyList();
+		}
+	}
+}
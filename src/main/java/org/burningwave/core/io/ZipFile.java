@@ -98,7 +98,8 @@ class ZipFile implements IterableZipContainer, Memorizer {
 		try (
 			InputStream zipEntryIS = retrieveFile(absolutePath, content).getInputStream(zipEntry);
 		){
-			 return Streams.toByteBuffer(zipEntryIS);
+			long size = zipEntry.getSize();
+			return Streams.toByteBuffer(zipEntryIS, size <= Integer.MAX_VALUE ? (int)size : -1);
 		} catch (Throwable exc) {
 			if (recursive) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Exception occurred while building zip entry {} of {}: {}", zipEntry.getName(), absolutePath, exc.getMessage());
@@ -0,0 +1,560 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/* Reads the central directory of an archive directly from its content, without copying it or storing it on
+ * the file system: the archive can be indexed even if it is nested in another archive, the stored entries
+ * are returned as slices of the content and the deflated ones are inflated on demand */
+@SuppressWarnings("unchecked")
+class ZipMemoryContainer implements IterableZipContainer {
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private final static int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private final static int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+	private final static int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private final static int LOCAL_FILE_HEADER_SIZE = 30;
+	private final static int ZIP64_EXTENDED_INFORMATION_EXTRA_FIELD_ID = 0x0001;
+	private final static int MAX_COMMENT_SIZE = 0xFFFF;
+
+	String absolutePath;
+	String conventionedAbsolutePath;
+	IterableZipContainer parent;
+	IterableZipContainer.Entry currentZipEntry;
+	Iterator<Entry> entriesIterator;
+	List<Entry> entries;
+	Boolean isDestroyed;
+	boolean isClosed;
+	volatile boolean isStale;
+	Supplier<ByteBuffer> contentSupplier;
+	int contentSize;
+	int centralDirectoryPosition;
+	long centralDirectoryChecksum;
+	//Shared with the duplicates so that the directory tree is built only once for each cached archive
+	AtomicReference<ZipDirectoryIndex> directoryIndex;
+	//Counts the containers that share the entries: the cached one until it is destroyed and the duplicates until
+	//they are closed. The entries are destroyed only when the last of them releases them
+	AtomicInteger references;
+
+	private ZipMemoryContainer(String absolutePath, ByteBuffer content) {
+		isDestroyed = Boolean.FALSE;
+		this.absolutePath = Paths.clean(absolutePath);
+		this.contentSupplier = () -> content;
+		this.directoryIndex = new AtomicReference<>();
+		this.references = new AtomicInteger(1);
+	}
+
+	private ZipMemoryContainer(ZipMemoryContainer zipMemoryContainer) {
+		isDestroyed = Boolean.FALSE;
+		this.absolutePath = zipMemoryContainer.absolutePath;
+		this.entries = zipMemoryContainer.entries;
+		this.entriesIterator = entries.iterator();
+		this.contentSupplier = zipMemoryContainer.contentSupplier;
+		this.contentSize = zipMemoryContainer.contentSize;
+		this.centralDirectoryPosition = zipMemoryContainer.centralDirectoryPosition;
+		this.centralDirectoryChecksum = zipMemoryContainer.centralDirectoryChecksum;
+		this.directoryIndex = zipMemoryContainer.directoryIndex;
+		this.references = zipMemoryContainer.references;
+	}
+
+	//Returns null if the central directory of the archive could not be found
+	static ZipMemoryContainer create(String absolutePath, ByteBuffer content) {
+		ZipMemoryContainer zipContainer = new ZipMemoryContainer(absolutePath, content);
+		try {
+			ByteBuffer sharedContent = BufferHandler.shareContent(content).slice().order(ByteOrder.LITTLE_ENDIAN);
+			List<Entry> entries = zipContainer.readCentralDirectory(sharedContent);
+			if (entries == null) {
+				return null;
+			}
+			zipContainer.contentSize = sharedContent.limit();
+			zipContainer.centralDirectoryChecksum = computeChecksum(sharedContent, zipContainer.centralDirectoryPosition);
+			zipContainer.entries = Collections.unmodifiableList(entries);
+			zipContainer.entriesIterator = zipContainer.entries.iterator();
+			return zipContainer;
+		} catch (IndexOutOfBoundsException | IllegalArgumentException | ZipException exc) {
+			ManagedLoggerRepository.logWarn(ZipMemoryContainer.class::getName, "Could not read the central directory of {}: {}", absolutePath, exc.getMessage());
+			return null;
+		}
+	}
+
+	private List<Entry> readCentralDirectory(ByteBuffer content) throws ZipException {
+		int endOfCentralDirectoryPosition = findEndOfCentralDirectory(content);
+		if (endOfCentralDirectoryPosition < 0) {
+			return null;
+		}
+		long entryCount = content.getShort(endOfCentralDirectoryPosition + 10) & 0xFFFF;
+		long centralDirectorySize = content.getInt(endOfCentralDirectoryPosition + 12) & 0xFFFFFFFFL;
+		long centralDirectoryOffset = content.getInt(endOfCentralDirectoryPosition + 16) & 0xFFFFFFFFL;
+		long centralDirectoryEnd = endOfCentralDirectoryPosition;
+		int zip64LocatorPosition = endOfCentralDirectoryPosition - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+		if (zip64LocatorPosition >= 0 && content.getInt(zip64LocatorPosition) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+			int zip64EndOfCentralDirectoryPosition = findZip64EndOfCentralDirectory(
+				content, zip64LocatorPosition, content.getLong(zip64LocatorPosition + 8)
+			);
+			if (zip64EndOfCentralDirectoryPosition >= 0) {
+				entryCount = content.getLong(zip64EndOfCentralDirectoryPosition + 32);
+				centralDirectorySize = content.getLong(zip64EndOfCentralDirectoryPosition + 40);
+				centralDirectoryOffset = content.getLong(zip64EndOfCentralDirectoryPosition + 48);
+				centralDirectoryEnd = zip64EndOfCentralDirectoryPosition;
+			}
+		}
+		int centralDirectoryPosition = this.centralDirectoryPosition = toInt(centralDirectoryEnd - centralDirectorySize);
+		//Difference between the real positions and the offsets declared in the archive
+		long baseOffset = centralDirectoryPosition - centralDirectoryOffset;
+		if (baseOffset < 0) {
+			throw new ZipException("Invalid central directory offset");
+		}
+		List<Entry> entries = new ArrayList<>(toInt(Math.min(entryCount, content.limit() / CENTRAL_DIRECTORY_HEADER_SIZE)));
+		int position = centralDirectoryPosition;
+		for (long entryIndex = 0; entryIndex < entryCount; ++entryIndex) {
+			if (content.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid central directory header at position " + position);
+			}
+			int compressionMethod = content.getShort(position + 10) & 0xFFFF;
+			long compressedSize = content.getInt(position + 20) & 0xFFFFFFFFL;
+			long size = content.getInt(position + 24) & 0xFFFFFFFFL;
+			int nameLength = content.getShort(position + 28) & 0xFFFF;
+			int extraFieldLength = content.getShort(position + 30) & 0xFFFF;
+			int commentLength = content.getShort(position + 32) & 0xFFFF;
+			long localHeaderOffset = content.getInt(position + 42) & 0xFFFFFFFFL;
+			byte[] name = new byte[nameLength];
+			BufferHandler.position(content.duplicate(), position + CENTRAL_DIRECTORY_HEADER_SIZE).get(name);
+			if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+				int extraFieldPosition = position + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength;
+				int extraFieldEnd = extraFieldPosition + extraFieldLength;
+				while (extraFieldPosition + 4 <= extraFieldEnd) {
+					int fieldId = content.getShort(extraFieldPosition) & 0xFFFF;
+					int fieldSize = content.getShort(extraFieldPosition + 2) & 0xFFFF;
+					if (fieldId == ZIP64_EXTENDED_INFORMATION_EXTRA_FIELD_ID) {
+						int fieldPosition = extraFieldPosition + 4;
+						if (size == 0xFFFFFFFFL) {
+							size = content.getLong(fieldPosition);
+							fieldPosition += 8;
+						}
+						if (compressedSize == 0xFFFFFFFFL) {
+							compressedSize = content.getLong(fieldPosition);
+							fieldPosition += 8;
+						}
+						if (localHeaderOffset == 0xFFFFFFFFL) {
+							localHeaderOffset = content.getLong(fieldPosition);
+						}
+						break;
+					}
+					extraFieldPosition += 4 + fieldSize;
+				}
+			}
+			entries.add(
+				new Entry(
+					this,
+					new String(name, StandardCharsets.UTF_8),
+					compressionMethod,
+					toInt(baseOffset + localHeaderOffset),
+					toInt(compressedSize),
+					toInt(size),
+					content
+				)
+			);
+			position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraFieldLength + commentLength;
+		}
+		return entries;
+	}
+
+	private int findEndOfCentralDirectory(ByteBuffer content) {
+		int lastPosition = content.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+		int firstPosition = Math.max(0, lastPosition - MAX_COMMENT_SIZE);
+		for (int position = lastPosition; position >= firstPosition; --position) {
+			if (content.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+				position + END_OF_CENTRAL_DIRECTORY_SIZE + (content.getShort(position + 20) & 0xFFFF) == content.limit()
+			) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	private int findZip64EndOfCentralDirectory(ByteBuffer content, int zip64LocatorPosition, long declaredOffset) {
+		//The record usually precedes its locator: it is searched backwards because the declared offset is not
+		//reliable if the archive is preceded by other data (e.g. the header of the jmod files)
+		for (int position = zip64LocatorPosition - 56; position >= 0; --position) {
+			if (content.getInt(position) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+				position + 12 + content.getLong(position + 4) == zip64LocatorPosition
+			) {
+				return position;
+			}
+			if (zip64LocatorPosition - position > MAX_COMMENT_SIZE) {
+				break;
+			}
+		}
+		return declaredOffset <= Integer.MAX_VALUE && content.getInt((int)declaredOffset) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE ?
+			(int)declaredOffset : -1;
+	}
+
+	private static int toInt(long value) {
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Value " + value + " exceeds the addressable size of a ByteBuffer");
+		}
+		return (int)value;
+	}
+
+	private static long computeChecksum(ByteBuffer content, int position) {
+		CRC32 checksum = new CRC32();
+		checksum.update(BufferHandler.position(content.duplicate(), position));
+		return checksum.getValue();
+	}
+
+	//The central directory contains the sizes and the CRCs of all the entries, so it is enough to compare it to
+	//know whether the content is the one from which this container has been read
+	boolean hasContent(ByteBuffer content) {
+		if (contentSupplier.get() == content) {
+			return true;
+		}
+		ByteBuffer sharedContent = BufferHandler.shareContent(content).slice();
+		return sharedContent.limit() == contentSize &&
+			computeChecksum(sharedContent, centralDirectoryPosition) == centralDirectoryChecksum;
+	}
+
+	//Called when the archive has changed: the contents of the entries cached by path are removed and the entries
+	//still used by the duplicates stop caching them, so that they are not mixed with the ones of the new content
+	void markAsStale() {
+		isStale = true;
+		for (Entry entry : entries) {
+			String entryAbsolutePath = entry.getAbsolutePath();
+			if (entryAbsolutePath != null) {
+				Cache.pathForContents.remove(entryAbsolutePath, false);
+			}
+		}
+	}
+
+	@Override
+	public IterableZipContainer duplicate() {
+		int referencesCount;
+		do {
+			referencesCount = references.get();
+			if (referencesCount == 0) {
+				throw new IllegalStateException("The entries of " + absolutePath + " have been destroyed");
+			}
+		} while (!references.compareAndSet(referencesCount, referencesCount + 1));
+		return new ZipMemoryContainer(this);
+	}
+
+	ZipDirectoryIndex getDirectoryIndex() {
+		ZipDirectoryIndex directoryIndex = this.directoryIndex.get();
+		if (directoryIndex == null) {
+			synchronized (this.directoryIndex) {
+				if ((directoryIndex = this.directoryIndex.get()) == null) {
+					if (references.get() == 0) {
+						throw new IllegalStateException("The entries of " + absolutePath + " have been destroyed");
+					}
+					this.directoryIndex.set(directoryIndex = ZipDirectoryIndex.create(entries));
+				}
+			}
+		}
+		return directoryIndex;
+	}
+
+	@Override
+	public String getAbsolutePath() {
+		return absolutePath;
+	}
+
+	@Override
+	public String getConventionedAbsolutePath() {
+		if (conventionedAbsolutePath == null) {
+			synchronized (this) {
+				if (parent != null) {
+					conventionedAbsolutePath = parent.getConventionedAbsolutePath() + absolutePath.replace(parent.getAbsolutePath() + "/", "");
+				} else {
+					FileSystemItem zipFis = FileSystemItem.ofPath(absolutePath);
+					if (zipFis.getParentContainer().isArchive()) {
+						parent = IterableZipContainer.create(zipFis.getParentContainer().getAbsolutePath());
+						return getConventionedAbsolutePath();
+					} else {
+						conventionedAbsolutePath = absolutePath;
+					}
+				}
+				conventionedAbsolutePath += IterableZipContainer.PATH_SUFFIX;
+			}
+		}
+		return conventionedAbsolutePath;
+	}
+
+	@Override
+	public IterableZipContainer getParent() {
+		if (conventionedAbsolutePath == null) {
+			getConventionedAbsolutePath();
+		}
+		return parent;
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer() {
+		return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), contentSupplier);
+	}
+
+	@Override
+	public synchronized <Z extends IterableZipContainer.Entry> Z getNextEntry() {
+		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+	}
+
+	@Override
+	public synchronized Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		Entry zipEntry = (Entry)(currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+		if (zipEntry != null && loadZipEntryData.test(zipEntry)) {
+			zipEntry.toByteBuffer();
+		}
+		return zipEntry;
+	}
+
+	@Override
+	public IterableZipContainer.Entry getCurrentZipEntry() {
+		return currentZipEntry;
+	}
+
+	@Override
+	public Function<IterableZipContainer.Entry, IterableZipContainer.Entry> getEntrySupplier() {
+		return (entry) -> entry;
+	}
+
+	@Override
+	public synchronized void closeEntry() {
+		currentZipEntry = null;
+	}
+
+	//Releases the entries shared with the other containers: the fields shared with them are kept because the
+	//entries refer to the cached container
+	@Override
+	public void close() {
+		boolean release = false;
+		synchronized (this) {
+			closeEntry();
+			this.entriesIterator = null;
+			if (!isClosed) {
+				release = isClosed = true;
+			}
+		}
+		if (release && references.decrementAndGet() == 0) {
+			synchronized (directoryIndex) {
+				directoryIndex.set(null);
+			}
+			for (Entry entry : entries) {
+				entry.destroy();
+			}
+		}
+	}
+
+	@Override
+	public void destroy(boolean removeFromCache) {
+		boolean destroy = false;
+		synchronized (this) {
+			if (!isDestroyed) {
+				destroy = isDestroyed = Boolean.TRUE;
+			}
+		}
+		if (destroy) {
+			IterableZipContainer.super.destroy(removeFromCache);
+			close();
+		}
+	}
+
+	public static class Entry implements IterableZipContainer.Entry {
+		private ZipMemoryContainer zipMemoryContainer;
+		private String cleanedName;
+		private String name;
+		private String absolutePath;
+		private Supplier<ByteBuffer> zipEntryContentSupplier;
+		private Boolean archive;
+
+		Entry(
+			ZipMemoryContainer zipMemoryContainer,
+			String entryName,
+			int compressionMethod,
+			int localHeaderPosition,
+			int compressedSize,
+			int size,
+			ByteBuffer archiveContent
+		) {
+			this.zipMemoryContainer = zipMemoryContainer;
+			this.name = entryName;
+			this.absolutePath = Paths.clean(zipMemoryContainer.getAbsolutePath() + "/" + entryName);
+			this.zipEntryContentSupplier = () -> {
+				try {
+					return readContent(archiveContent, compressionMethod, localHeaderPosition, compressedSize, size);
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logError(getClass()::getName, "Could not load content of {} of {}", exc, entryName, zipMemoryContainer.getAbsolutePath());
+					return null;
+				}
+			};
+		}
+
+		private static ByteBuffer readContent(
+			ByteBuffer archiveContent,
+			int compressionMethod,
+			int localHeaderPosition,
+			int compressedSize,
+			int size
+		) throws ZipException {
+			if (archiveContent.getInt(localHeaderPosition) != LOCAL_FILE_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid local file header at position " + localHeaderPosition);
+			}
+			int dataPosition = localHeaderPosition + LOCAL_FILE_HEADER_SIZE +
+				(archiveContent.getShort(localHeaderPosition + 26) & 0xFFFF) +
+				(archiveContent.getShort(localHeaderPosition + 28) & 0xFFFF);
+			ByteBuffer compressedContent = BufferHandler.limit(
+				BufferHandler.position(archiveContent.duplicate(), dataPosition), dataPosition + compressedSize
+			).slice();
+			if (compressionMethod == ZipEntry.STORED) {
+				return compressedContent;
+			} else if (compressionMethod != ZipEntry.DEFLATED) {
+				throw new ZipException("Unsupported compression method " + compressionMethod);
+			}
+			byte[] input;
+			int inputOffset;
+			if (compressedContent.hasArray()) {
+				input = compressedContent.array();
+				inputOffset = compressedContent.arrayOffset();
+			} else {
+				input = new byte[compressedSize];
+				inputOffset = 0;
+				compressedContent.get(input);
+			}
+			byte[] output = new byte[size];
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(input, inputOffset, compressedSize);
+				int inflatedBytes = 0;
+				while (inflatedBytes < size) {
+					int bytesRead = inflater.inflate(output, inflatedBytes, size - inflatedBytes);
+					if (bytesRead == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					inflatedBytes += bytesRead;
+				}
+				if (inflatedBytes != size) {
+					throw new ZipException("Invalid content size: expected " + size + " bytes, found " + inflatedBytes);
+				}
+			} catch (java.util.zip.DataFormatException exc) {
+				throw new ZipException(exc.getMessage());
+			} finally {
+				inflater.end();
+			}
+			return ByteBuffer.wrap(output);
+		}
+
+		@Override
+		public boolean isArchive() {
+			if (archive != null) {
+				return archive;
+			}
+			ByteBuffer content = toByteBuffer();
+			return archive = content != null ? Streams.isArchive(content) : false;
+		}
+
+		@Override
+		public IterableZipContainer getParentContainer() {
+			return zipMemoryContainer;
+		}
+
+		@Override
+		public String getCleanedName() {
+			if (cleanedName != null) {
+				return cleanedName;
+			}
+			String cleanedName = name;
+			if (!cleanedName.startsWith("/")) {
+				this.cleanedName = cleanedName;
+			} else {
+				if (!cleanedName.equals("/")) {
+					this.cleanedName =  cleanedName.substring(1, cleanedName.length());
+				} else {
+					this.cleanedName = "";
+				}
+			}
+			return this.cleanedName;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getAbsolutePath() {
+			return absolutePath;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return name.endsWith("/");
+		}
+
+		@Override
+		public ByteBuffer toByteBuffer() {
+			ZipMemoryContainer zipMemoryContainer = this.zipMemoryContainer;
+			if (zipMemoryContainer != null && zipMemoryContainer.isStale) {
+				return zipEntryContentSupplier.get();
+			}
+			return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), zipEntryContentSupplier);
+		}
+
+		public void destroy() {
+			this.absolutePath = null;
+			this.name = null;
+			this.archive = null;
+			this.cleanedName = null;
+			this.zipEntryContentSupplier = null;
+			this.zipMemoryContainer = null;
+		}
+	}
+}
@@ -34,13 +34,20 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -172,6 +179,19 @@ public interface IterableObjectHelper {
 
 	public <I, IC> QueuedTaskExecutor.Task createIterateTask(IterationConfig<I, IC, ?> config);
 
+	public void iterate(PrimitiveIterationConfig.OfInts config);
+
+	public void iterate(PrimitiveIterationConfig.OfLongs config);
+
+	public void iterate(PrimitiveIterationConfig.OfDoubles config);
+
+	//The reducer must be associative because the partial results of the threads are combined in no particular order
+	public int reduce(PrimitiveIterationConfig.OfInts config, int identity, IntBinaryOperator reducer);
+
+	public long reduce(PrimitiveIterationConfig.OfLongs config, long identity, LongBinaryOperator reducer);
+
+	public double reduce(PrimitiveIterationConfig.OfDoubles config, double identity, DoubleBinaryOperator reducer);
+
 	public boolean containsValue(Map<?, ?> map, String key, Object object);
 
 	public <K, V> void refresh(Map<K, V> source, Map<K, V> newValues);
@@ -220,6 +240,131 @@ public interface IterableObjectHelper {
 	}
 
 
+	public static class IterationStatistics {
+		final Collection<Worker> workers;
+		final ThreadLocal<Worker> currentWorker;
+		final long startTime;
+		long elapsedTime;
+
+		IterationStatistics() {
+			this.workers = new ConcurrentLinkedQueue<>();
+			this.currentWorker = new ThreadLocal<>();
+			this.startTime = System.nanoTime();
+		}
+
+		Worker startWorker() {
+			Worker worker = new Worker(java.lang.Thread.currentThread().getName());
+			workers.add(worker);
+			currentWorker.set(worker);
+			return worker;
+		}
+
+		void stopWorker(Worker worker) {
+			worker.busyTime = System.nanoTime() - worker.startTime;
+			currentWorker.remove();
+		}
+
+		Worker getCurrentWorker() {
+			return currentWorker.get();
+		}
+
+		<I, OC> BiConsumer<I, Consumer<Consumer<OC>>> countProcessedItems(BiConsumer<I, Consumer<Consumer<OC>>> action) {
+			return (item, outputItemsHandler) -> {
+				try {
+					action.accept(item, outputItemsHandler);
+				} finally {
+					Worker worker = currentWorker.get();
+					if (worker != null) {
+						++worker.processedItemCount;
+					}
+				}
+			};
+		}
+
+		IterationStatistics stop() {
+			elapsedTime = System.nanoTime() - startTime;
+			return this;
+		}
+
+		public Collection<Worker> getWorkers() {
+			return workers;
+		}
+
+		//Nanoseconds elapsed from the start of the iteration to the end of the last worker
+		public long getElapsedTime() {
+			return elapsedTime;
+		}
+
+		//Ratio between the sum of the busy times of the workers and the time they were available for the iteration
+		public double getUtilization() {
+			if (workers.isEmpty() || elapsedTime <= 0) {
+				return 0;
+			}
+			long totalBusyTime = 0;
+			for (Worker worker : workers) {
+				totalBusyTime += worker.busyTime;
+			}
+			return Math.min(1, (double)totalBusyTime / (workers.size() * elapsedTime));
+		}
+
+		public double getUtilization(Worker worker) {
+			return elapsedTime > 0 ? Math.min(1, (double)worker.busyTime / elapsedTime) : 0;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder description = new StringBuilder(
+				String.format(
+					"Iteration executed by %d workers in %.3f ms (utilization: %.1f%%)",
+					workers.size(), elapsedTime / 1_000_000D, getUtilization() * 100
+				)
+			);
+			for (Worker worker : workers) {
+				description.append(
+					String.format(
+						"\n\t%s: %d items in %d chunks, busy for %.3f ms (utilization: %.1f%%)",
+						worker.threadName, worker.processedItemCount, worker.chunkCount,
+						worker.busyTime / 1_000_000D, getUtilization(worker) * 100
+					)
+				);
+			}
+			return description.toString();
+		}
+
+		public static class Worker {
+			final String threadName;
+			final long startTime;
+			long busyTime;
+			long processedItemCount;
+			int chunkCount;
+
+			Worker(String threadName) {
+				this.threadName = threadName;
+				this.startTime = System.nanoTime();
+			}
+
+			public String getThreadName() {
+				return threadName;
+			}
+
+			//Nanoseconds spent by the worker in the iteration
+			public long getBusyTime() {
+				return busyTime;
+			}
+
+			public long getProcessedItemCount() {
+				return processedItemCount;
+			}
+
+			//Chunks of items claimed by the worker: it is always zero if the iteration is evenly split
+			public int getChunkCount() {
+				return chunkCount;
+			}
+
+		}
+
+	}
+
 	public static interface IterationConfig<I, IC, C extends IterationConfig<I, IC, C>> {
 
 
@@ -317,6 +462,12 @@ public interface IterableObjectHelper {
 
 		public C threadBased();
 
+		public C evenlySplit();
+
+		public C adaptiveChunked();
+
+		public C withStatisticsHandler(Consumer<IterationStatistics> statisticsHandler);
+
 		public static class WithOutputOfMap<I, IC, K, O, OM> extends IterableObjectHelperImpl.Iterator.Config.WithOutput<I, IC, WithOutputOfMap<I, IC, K, O, OM>> {
 
 			WithOutputOfMap(IterableObjectHelperImpl.Iterator.Config<I, IC> configuration) {
@@ -346,6 +497,102 @@ public interface IterableObjectHelper {
 	}
 
 
+	public static class PrimitiveIterationConfig<IC, A, C extends PrimitiveIterationConfig<IC, A, C>> {
+		final IC items;
+		A action;
+		Predicate<IC> predicateForParallelIteration;
+		Integer priority;
+		boolean adaptiveChunked;
+		Consumer<IterationStatistics> statisticsHandler;
+		Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> iteratorSupplier;
+
+		PrimitiveIterationConfig(IC items) {
+			if (items == null) {
+				throw new IllegalArgumentException("Input array could not be null");
+			}
+			this.items = items;
+			this.iteratorSupplier = IterableObjectHelperImpl.Iterator.Config.taskBasedIteratorSupplier;
+		}
+
+		public static OfInts of(int[] input) {
+			return new OfInts(input);
+		}
+
+		public static OfLongs of(long[] input) {
+			return new OfLongs(input);
+		}
+
+		public static OfDoubles of(double[] input) {
+			return new OfDoubles(input);
+		}
+
+		public C withAction(A action) {
+			this.action = action;
+			return (C)this;
+		}
+
+		public C parallelIf(Predicate<IC> predicate) {
+			this.predicateForParallelIteration = predicate;
+			return (C)this;
+		}
+
+		public C withPriority(Integer priority) {
+			this.priority = priority;
+			return (C)this;
+		}
+
+		public C taskBased() {
+			this.iteratorSupplier = IterableObjectHelperImpl.Iterator.Config.taskBasedIteratorSupplier;
+			return (C)this;
+		}
+
+		public C threadBased() {
+			this.iteratorSupplier = IterableObjectHelperImpl.Iterator.Config.threadBasedIteratorSupplier;
+			return (C)this;
+		}
+
+		public C evenlySplit() {
+			this.adaptiveChunked = false;
+			return (C)this;
+		}
+
+		public C adaptiveChunked() {
+			this.adaptiveChunked = true;
+			return (C)this;
+		}
+
+		public C withStatisticsHandler(Consumer<IterationStatistics> statisticsHandler) {
+			this.statisticsHandler = statisticsHandler;
+			return (C)this;
+		}
+
+		public static class OfInts extends PrimitiveIterationConfig<int[], IntConsumer, OfInts> {
+
+			OfInts(int[] items) {
+				super(items);
+			}
+
+		}
+
+		public static class OfLongs extends PrimitiveIterationConfig<long[], LongConsumer, OfLongs> {
+
+			OfLongs(long[] items) {
+				super(items);
+			}
+
+		}
+
+		public static class OfDoubles extends PrimitiveIterationConfig<double[], DoubleConsumer, OfDoubles> {
+
+			OfDoubles(double[] items) {
+				super(items);
+			}
+
+		}
+
+	}
+
+
 	public static class ResolveConfig<T, K> {
 
 		Map<?,?> map;
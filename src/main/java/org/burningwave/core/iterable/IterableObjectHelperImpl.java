@@ -29,6 +29,7 @@
 package org.burningwave.core.iterable;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
@@ -38,6 +39,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupp
 
 import java.io.File;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,11 +48,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -68,14 +80,19 @@ import org.burningwave.core.iterable.Properties.Event;
 
 @SuppressWarnings("unchecked")
 public class IterableObjectHelperImpl implements IterableObjectHelper, Properties.Listener, Identifiable {
+	private static final Object SYSTEM_PROPERTIES_DEPENDENCY = new Object();
+	private static final int MAX_TEMPLATE_COUNT = 4096;
+
 	Predicate<Object> defaultMinimumCollectionSizeForParallelIterationPredicate;
 	private String defaultValuesSeparator;
 	private Integer maxThreadCountsForParallelIteration;
 	//Deferred initialized
 	private Supplier<Class<?>[]> parallelCollectionClassesSupplier;
 	private Class<?>[] parallelCollectionClasses;
+	private Map<String, Template> templates;
 
 	IterableObjectHelperImpl(Map<?, ?> config) {
+		this.templates = new ConcurrentHashMap<>();
 		this.defaultValuesSeparator = resolveStringValue(
 			ResolveConfig.ForNamedKey.forNamedKey(
 				Configuration.Key.DEFAULT_VALUES_SEPERATOR
@@ -425,72 +442,117 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		String defaultValueSeparator,
 		boolean deleteUnresolvedPlaceHolder,
 		Map<?,?> defaultValues
+	) {
+		//The values resolved on Properties are memoized: the ones resolved with default values that can change
+		//without notifying it to the memo are not
+		if (!(map instanceof Properties) || !ResolvedValues.canBeMemoized(defaultValues)) {
+			return resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, null);
+		}
+		Properties properties = (Properties)map;
+		ResolvedValues resolvedValues = properties.getResolvedValues();
+		ResolvedValues.Key resolvedValueKey = new ResolvedValues.Key(
+			key, valuesSeparator,
+			valuesSeparator != null ? valuesSeparator : defaultValueSeparator != null ? defaultValueSeparator : defaultValuesSeparator,
+			deleteUnresolvedPlaceHolder, defaultValues
+		);
+		ResolvedValues.Value resolvedValue = resolvedValues.get(properties, resolvedValueKey);
+		if (resolvedValue == null) {
+			Map<Object, Object> dependencies = new HashMap<>();
+			Object value = resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies);
+			if (dependencies.containsKey(SYSTEM_PROPERTIES_DEPENDENCY)) {
+				return (T)value;
+			}
+			resolvedValues.put(resolvedValueKey, resolvedValue = new ResolvedValues.Value(value, dependencies));
+		}
+		Object value = resolvedValue.get();
+		if (value instanceof IterableObjectHelperImpl.ArrayList) {
+			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
+			values.addAll((Collection<?>)value);
+			return (T)values;
+		}
+		return (T)value;
+	}
+
+	private <T> T resolve(
+		Map<?,?> map,
+		Object key,
+		String valuesSeparator,
+		String defaultValueSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?,?> defaultValues,
+		Map<Object, Object> dependencies
 	) {
 		String valuesSeparatorForSplitting = valuesSeparator != null ? valuesSeparator : defaultValueSeparator != null ? defaultValueSeparator : defaultValuesSeparator;
 		T value = (T) map.get(key);
+		if (dependencies != null) {
+			dependencies.put(key, value);
+		}
 		if (value == null && defaultValues != null) {
-			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null);
+			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null, null);
 		}
 		if (value != null && value instanceof String) {
 			String stringValue = (String)value;
 			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
 			if (!Strings.isEmpty(stringValue)) {
-				Map<Integer, List<String>> subProperties = Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, stringValue);
-				if (!subProperties.isEmpty()) {
-					for (Map.Entry<Integer, List<String>> entry : subProperties.entrySet()) {
-						for (String placeHolder : entry.getValue()) {
-							Object valueObjects = null;
-							if (!placeHolder.startsWith("system.properties:")) {
-								valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues);
-							} else {
-								valueObjects = StaticComponentContainer.SystemProperties.get(placeHolder.split(":")[1]);
-								if (valuesSeparatorForSplitting != null) {
-									valueObjects = ((String)valueObjects).replace(
-											File.pathSeparator, valuesSeparatorForSplitting
-									);
-								}
-							}
-							if (valueObjects == null) {
-								if (deleteUnresolvedPlaceHolder) {
-									stringValue = stringValue.replaceAll("[^{" + valuesSeparatorForSplitting + "}]*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting, "");
-								}
-								continue;
+				Template template = getTemplate(stringValue);
+				if (template.placeHolders.length > 0) {
+					for (String placeHolder : template.placeHolders) {
+						Object valueObjects = null;
+						if (!placeHolder.startsWith("system.properties:")) {
+							valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies);
+						} else {
+							if (dependencies != null) {
+								dependencies.put(SYSTEM_PROPERTIES_DEPENDENCY, null);
 							}
-							Collection<Object> replacements = new ArrayList<>();
-							if (valueObjects instanceof IterableObjectHelperImpl.ArrayList) {
-								replacements.addAll((Collection<?>)valueObjects);
-							} else {
-								replacements.add(valueObjects);
+							valueObjects = StaticComponentContainer.SystemProperties.get(placeHolder.split(":")[1]);
+							if (valuesSeparatorForSplitting != null) {
+								valueObjects = ((String)valueObjects).replace(
+										File.pathSeparator, valuesSeparatorForSplitting
+								);
 							}
-							String regExpPattern = null;
-							if (stringValue.contains(valuesSeparatorForSplitting)) {
-								regExpPattern = "(.*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting +")";
-							} else {
-								regExpPattern = "(.*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?)";
+						}
+						if (valueObjects == null) {
+							if (deleteUnresolvedPlaceHolder) {
+								stringValue = template.getPattern(
+									"[^{" + valuesSeparatorForSplitting + "}]*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting
+								).matcher(stringValue).replaceAll("");
 							}
-							Map<Integer, List<String>> placeHolderedValues = Strings.extractAllGroups(
-								Pattern.compile(regExpPattern), stringValue
-							);
-							for (Map.Entry<Integer, List<String>> placeHolderedValuesEntry : placeHolderedValues.entrySet()) {
-								for (String placeHolderedValue : placeHolderedValuesEntry.getValue()) {
-									String newReplacement = "";
-									for (Object valueObject : replacements) {
-										if (valueObject instanceof String) {
-											String replacement = (String)valueObject;
-											if (valuesSeparator != null) {
-												for (String replacementUnit : replacement.split(valuesSeparator)) {
-													newReplacement += placeHolderedValue.replace("${" + placeHolder + "}", replacementUnit);
-													newReplacement += newReplacement.endsWith(valuesSeparator) ? "" : valuesSeparator;
-												}
-											} else {
-												newReplacement += placeHolderedValue.replace("${" + placeHolder + "}", replacement);
+							continue;
+						}
+						Collection<Object> replacements = new ArrayList<>();
+						if (valueObjects instanceof IterableObjectHelperImpl.ArrayList) {
+							replacements.addAll((Collection<?>)valueObjects);
+						} else {
+							replacements.add(valueObjects);
+						}
+						String regExpPattern = null;
+						if (stringValue.contains(valuesSeparatorForSplitting)) {
+							regExpPattern = "(.*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting +")";
+						} else {
+							regExpPattern = "(.*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?)";
+						}
+						Map<Integer, List<String>> placeHolderedValues = Strings.extractAllGroups(
+							template.getPattern(regExpPattern), stringValue
+						);
+						for (Map.Entry<Integer, List<String>> placeHolderedValuesEntry : placeHolderedValues.entrySet()) {
+							for (String placeHolderedValue : placeHolderedValuesEntry.getValue()) {
+								String newReplacement = "";
+								for (Object valueObject : replacements) {
+									if (valueObject instanceof String) {
+										String replacement = (String)valueObject;
+										if (valuesSeparator != null) {
+											for (String replacementUnit : replacement.split(valuesSeparator)) {
+												newReplacement += placeHolderedValue.replace("${" + placeHolder + "}", replacementUnit);
+												newReplacement += newReplacement.endsWith(valuesSeparator) ? "" : valuesSeparator;
 											}
 										} else {
-											values.add(valueObject);
+											newReplacement += placeHolderedValue.replace("${" + placeHolder + "}", replacement);
 										}
+									} else {
+										values.add(valueObject);
 									}
-									stringValue = stringValue.replace(placeHolderedValue, newReplacement);
 								}
+								stringValue = stringValue.replace(placeHolderedValue, newReplacement);
 							}
 						}
 					}
@@ -520,6 +582,21 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	}
 
+	private Template getTemplate(String value) {
+		Template template = templates.get(value);
+		if (template == null) {
+			if (templates.size() >= MAX_TEMPLATE_COUNT) {
+				templates.clear();
+			}
+			template = new Template(value);
+			Template previousTemplate = templates.putIfAbsent(value, template);
+			if (previousTemplate != null) {
+				template = previousTemplate;
+			}
+		}
+		return template;
+	}
+
 	@Override
 	public Collection<String> getAllPlaceHolders(Map<?, ?> map) {
 		return getAllPlaceHolders(map, object -> true);
@@ -636,40 +713,162 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 	public <I, IC, K, O, OM> OM iterateAndGet(
 		IterableObjectHelper.IterationConfig.WithOutputOfMap<I, IC, K, O, OM> configuration
 	) {
-		Iterator.Config<I, IC> config = configuration.getWrappedConfiguration();
-		return config.iteratorSupplier.apply(this).iterate(
-			(IC)config.items,
-			config.predicateForParallelIteration,
-			(OM)config.output,
-			(BiConsumer<I, Consumer<Consumer<OM>>>)config.action,
-			config.priority
-		);
+		return iterate(configuration.getWrappedConfiguration(), (OM)configuration.getWrappedConfiguration().output);
 	}
 
 	@Override
 	public <I, IC, O, OC> OC iterateAndGet(
 		IterableObjectHelper.IterationConfig.WithOutputOfCollection<I, IC, O, OC> configuration
 	) {
-		Iterator.Config<I, IC> config = configuration.getWrappedConfiguration();
-		return config.iteratorSupplier.apply(this).iterate(
-			(IC)config.items,
-			config.predicateForParallelIteration,
-			(OC)config.output,
-			(BiConsumer<I, Consumer<Consumer<OC>>>)config.action,
-			config.priority
-		);
+		return iterate(configuration.getWrappedConfiguration(), (OC)configuration.getWrappedConfiguration().output);
 	}
 
 	@Override
 	public <I, IC> void iterate(IterationConfig<I, IC, ?> configuration) {
-		Iterator.Config<I, IC> config = (Iterator.Config<I, IC>)configuration;
-		config.iteratorSupplier.apply(this).iterate(
+		iterate((Iterator.Config<I, IC>)configuration, (Collection<?>)null);
+	}
+
+	private <I, IC, OC> OC iterate(Iterator.Config<I, IC> config, OC output) {
+		BiConsumer<I, Consumer<Consumer<OC>>> action = (BiConsumer<I, Consumer<Consumer<OC>>>)config.action;
+		IterableObjectHelper.IterationStatistics statistics = null;
+		if (config.statisticsHandler != null) {
+			statistics = new IterableObjectHelper.IterationStatistics();
+			action = statistics.countProcessedItems(action);
+		}
+		output = config.iteratorSupplier.apply(this).iterate(
 			(IC)config.items,
 			config.predicateForParallelIteration,
-			null,
-			(BiConsumer<I, Consumer<Consumer<Collection<?>>>>)config.action,
-			config.priority
+			output,
+			action,
+			config.priority,
+			config.adaptiveChunked,
+			statistics
 		);
+		if (statistics != null) {
+			config.statisticsHandler.accept(statistics.stop());
+		}
+		return output;
+	}
+
+	@Override
+	public void iterate(PrimitiveIterationConfig.OfInts config) {
+		int[] items = config.items;
+		IntConsumer action = config.action;
+		iterate(config, items.length, getCountOfTasksThatCanBeCreated(config), (workerIndex, fromIndex, toIndex) -> {
+			for (int index = fromIndex; index < toIndex; ++index) {
+				action.accept(items[index]);
+			}
+		});
+	}
+
+	@Override
+	public void iterate(PrimitiveIterationConfig.OfLongs config) {
+		long[] items = config.items;
+		LongConsumer action = config.action;
+		iterate(config, items.length, getCountOfTasksThatCanBeCreated(config), (workerIndex, fromIndex, toIndex) -> {
+			for (int index = fromIndex; index < toIndex; ++index) {
+				action.accept(items[index]);
+			}
+		});
+	}
+
+	@Override
+	public void iterate(PrimitiveIterationConfig.OfDoubles config) {
+		double[] items = config.items;
+		DoubleConsumer action = config.action;
+		iterate(config, items.length, getCountOfTasksThatCanBeCreated(config), (workerIndex, fromIndex, toIndex) -> {
+			for (int index = fromIndex; index < toIndex; ++index) {
+				action.accept(items[index]);
+			}
+		});
+	}
+
+	@Override
+	public int reduce(PrimitiveIterationConfig.OfInts config, int identity, IntBinaryOperator reducer) {
+		int[] items = config.items;
+		int taskCount = getCountOfTasksThatCanBeCreated(config);
+		int[] partialResults = new int[taskCount];
+		Arrays.fill(partialResults, identity);
+		iterate(config, items.length, taskCount, (workerIndex, fromIndex, toIndex) -> {
+			int partialResult = partialResults[workerIndex];
+			for (int index = fromIndex; index < toIndex; ++index) {
+				partialResult = reducer.applyAsInt(partialResult, items[index]);
+			}
+			partialResults[workerIndex] = partialResult;
+		});
+		int result = identity;
+		for (int partialResult : partialResults) {
+			result = reducer.applyAsInt(result, partialResult);
+		}
+		return result;
+	}
+
+	@Override
+	public long reduce(PrimitiveIterationConfig.OfLongs config, long identity, LongBinaryOperator reducer) {
+		long[] items = config.items;
+		int taskCount = getCountOfTasksThatCanBeCreated(config);
+		long[] partialResults = new long[taskCount];
+		Arrays.fill(partialResults, identity);
+		iterate(config, items.length, taskCount, (workerIndex, fromIndex, toIndex) -> {
+			long partialResult = partialResults[workerIndex];
+			for (int index = fromIndex; index < toIndex; ++index) {
+				partialResult = reducer.applyAsLong(partialResult, items[index]);
+			}
+			partialResults[workerIndex] = partialResult;
+		});
+		long result = identity;
+		for (long partialResult : partialResults) {
+			result = reducer.applyAsLong(result, partialResult);
+		}
+		return result;
+	}
+
+	@Override
+	public double reduce(PrimitiveIterationConfig.OfDoubles config, double identity, DoubleBinaryOperator reducer) {
+		double[] items = config.items;
+		int taskCount = getCountOfTasksThatCanBeCreated(config);
+		double[] partialResults = new double[taskCount];
+		Arrays.fill(partialResults, identity);
+		iterate(config, items.length, taskCount, (workerIndex, fromIndex, toIndex) -> {
+			double partialResult = partialResults[workerIndex];
+			for (int index = fromIndex; index < toIndex; ++index) {
+				partialResult = reducer.applyAsDouble(partialResult, items[index]);
+			}
+			partialResults[workerIndex] = partialResult;
+		});
+		double result = identity;
+		for (double partialResult : partialResults) {
+			result = reducer.applyAsDouble(result, partialResult);
+		}
+		return result;
+	}
+
+	private void iterate(
+		PrimitiveIterationConfig<?, ?, ?> config,
+		int itemsCount,
+		int taskCount,
+		Iterator.IndexRangeConsumer indexRangeConsumer
+	) {
+		IterableObjectHelper.IterationStatistics statistics =
+			config.statisticsHandler != null ? new IterableObjectHelper.IterationStatistics() : null;
+		config.iteratorSupplier.apply(this).iterateIndexRanges(
+			itemsCount,
+			taskCount,
+			config.adaptiveChunked,
+			config.priority,
+			statistics,
+			indexRangeConsumer
+		);
+		if (statistics != null) {
+			config.statisticsHandler.accept(statistics.stop());
+		}
+	}
+
+	private <IC> int getCountOfTasksThatCanBeCreated(PrimitiveIterationConfig<IC, ?, ?> config) {
+		Predicate<IC> predicateForParallelIteration = config.predicateForParallelIteration != null ?
+			config.predicateForParallelIteration :
+			defaultMinimumCollectionSizeForParallelIterationPredicate::test;
+		return Math.max(1, getCountOfTasksThatCanBeCreated(config.items, predicateForParallelIteration));
 	}
 
 	<I, D> int getCountOfTasksThatCanBeCreated(D items, Predicate<D> predicate) {
@@ -768,8 +967,35 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	}
 
+	//A value parsed once: the names of the place holders that it contains and the patterns, compiled on first
+	//use, that are applied to it to replace or to delete them
+	private static class Template {
+		private final String[] placeHolders;
+		private final Map<String, Pattern> patterns;
+
+		Template(String value) {
+			List<String> placeHolders = new java.util.ArrayList<>();
+			for (List<String> placeHoldersFound : Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, value).values()) {
+				placeHolders.addAll(placeHoldersFound);
+			}
+			this.placeHolders = placeHolders.toArray(new String[placeHolders.size()]);
+			this.patterns = new ConcurrentHashMap<>();
+		}
+
+		Pattern getPattern(String regExpPattern) {
+			Pattern pattern = patterns.get(regExpPattern);
+			if (pattern == null) {
+				pattern = Pattern.compile(regExpPattern);
+				patterns.put(regExpPattern, pattern);
+			}
+			return pattern;
+		}
+
+	}
+
 	static abstract class Iterator {
 		static final Object NO_ITEMS;
+		static final int INDEX_RANGE_BLOCK_SIZE = 4096;
 
 		final IterableObjectHelperImpl iterableObjectHelper;
 
@@ -786,7 +1012,9 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			Predicate<IC> predicateForParallelIteration,
 			OC output,
 			BiConsumer<I, Consumer<Consumer<OC>>> action,
-			Integer priority
+			Integer priority,
+			boolean adaptiveChunked,
+			IterableObjectHelper.IterationStatistics statistics
 		);
 
 
@@ -806,6 +1034,242 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			return outputItemsHandler;
 		}
 
+		<T> ThrowingConsumer<T, ? extends Throwable> measure(
+			ThrowingConsumer<T, ? extends Throwable> iterator,
+			IterableObjectHelper.IterationStatistics statistics
+		) {
+			if (statistics == null) {
+				return iterator;
+			}
+			return executor -> {
+				IterableObjectHelper.IterationStatistics.Worker worker = statistics.startWorker();
+				try {
+					iterator.accept(executor);
+				} finally {
+					statistics.stopWorker(worker);
+				}
+			};
+		}
+
+		/* Builds an iterator that can be shared among all the workers: each worker claims a chunk of items at
+		 * a time and the size of the chunk decreases as the remaining items decrease, so the workers that
+		 * complete their chunks earlier take over the tail of the iteration instead of waiting for the others */
+		<I, IC, OC, T> ThrowingConsumer<T, ? extends Throwable> buildAdaptiveChunksIterator(
+			IC items,
+			int workerCount,
+			BiConsumer<I, Consumer<Consumer<OC>>> action,
+			Consumer<Consumer<OC>> outputItemsHandler,
+			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
+			IterableObjectHelper.IterationStatistics statistics
+		) {
+			if (items instanceof Collection && !(items instanceof List && items instanceof RandomAccess)) {
+				Collection<I> itemCollection = (Collection<I>)items;
+				java.util.Iterator<I> itemIterator = itemCollection.iterator();
+				AtomicInteger remainedItemsCounter = new AtomicInteger(itemCollection.size());
+				return executor -> {
+					IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.getCurrentWorker() : null;
+					try {
+						while (terminateIterationNotification.get() == null) {
+							Object[] chunk;
+							int chunkSize = 0;
+							synchronized (itemIterator) {
+								chunk = new Object[computeChunkSize(remainedItemsCounter.get(), workerCount)];
+								while (chunkSize < chunk.length && itemIterator.hasNext()) {
+									chunk[chunkSize++] = itemIterator.next();
+								}
+								remainedItemsCounter.addAndGet(-chunkSize);
+							}
+							if (chunkSize == 0) {
+								break;
+							}
+							if (worker != null) {
+								++worker.chunkCount;
+							}
+							for (int index = 0; index < chunkSize && terminateIterationNotification.get() == null; ++index) {
+								action.accept((I)chunk[index], outputItemsHandler);
+							}
+						}
+					} catch (IterableObjectHelper.TerminateIteration exc) {
+						checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+					} catch (Throwable exc) {
+						terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
+						throw exc;
+					}
+				};
+			}
+			IntFunction<I> itemRetriever;
+			int itemsCount;
+			if (items instanceof List) {
+				List<I> itemList = (List<I>)items;
+				itemRetriever = itemList::get;
+				itemsCount = itemList.size();
+			} else if (items.getClass().getComponentType().isPrimitive()) {
+				Function<Integer, ?> valueRetriever = Classes.buildArrayValueRetriever(items);
+				itemRetriever = index -> (I)valueRetriever.apply(index);
+				itemsCount = Array.getLength(items);
+			} else {
+				I[] itemArray = (I[])items;
+				itemRetriever = index -> itemArray[index];
+				itemsCount = itemArray.length;
+			}
+			AtomicInteger nextItemIndex = new AtomicInteger();
+			return executor -> {
+				IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.getCurrentWorker() : null;
+				try {
+					while (terminateIterationNotification.get() == null) {
+						int firstItemIndex = nextItemIndex.get();
+						if (firstItemIndex >= itemsCount) {
+							break;
+						}
+						int lastItemIndex = firstItemIndex + computeChunkSize(itemsCount - firstItemIndex, workerCount);
+						if (!nextItemIndex.compareAndSet(firstItemIndex, lastItemIndex)) {
+							continue;
+						}
+						if (worker != null) {
+							++worker.chunkCount;
+						}
+						for (
+							int itemIndex = firstItemIndex;
+							itemIndex < lastItemIndex && terminateIterationNotification.get() == null;
+							++itemIndex
+						) {
+							action.accept(itemRetriever.apply(itemIndex), outputItemsHandler);
+						}
+					}
+				} catch (IterableObjectHelper.TerminateIteration exc) {
+					checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+				} catch (Throwable exc) {
+					terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
+					throw exc;
+				}
+			};
+		}
+
+		void iterateIndexRanges(
+			int itemsCount,
+			int taskCount,
+			boolean adaptiveChunked,
+			Integer priority,
+			IterableObjectHelper.IterationStatistics statistics,
+			IndexRangeConsumer indexRangeConsumer
+		) {
+			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			int initialThreadPriority = currentThread.getPriority();
+			if (priority == null) {
+				priority = initialThreadPriority;
+			} else if (initialThreadPriority != priority) {
+				currentThread.setPriority(priority);
+			}
+			try {
+				if (taskCount > 1) {
+					iterateIndexRangesInParallel(
+						itemsCount, taskCount, adaptiveChunked ? new AtomicInteger() : null, priority, statistics, indexRangeConsumer
+					);
+					return;
+				}
+				IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.startWorker() : null;
+				try {
+					indexRangeConsumer.accept(0, 0, itemsCount);
+					if (worker != null) {
+						worker.processedItemCount += itemsCount;
+					}
+				} catch (IterableObjectHelper.TerminateIteration exc) {
+
+				} finally {
+					if (worker != null) {
+						statistics.stopWorker(worker);
+					}
+				}
+			} finally {
+				if (initialThreadPriority != priority) {
+					currentThread.setPriority(initialThreadPriority);
+				}
+			}
+		}
+
+		abstract void iterateIndexRangesInParallel(
+			int itemsCount,
+			int taskCount,
+			AtomicInteger nextItemIndex,
+			int priority,
+			IterableObjectHelper.IterationStatistics statistics,
+			IndexRangeConsumer indexRangeConsumer
+		);
+
+		/* If nextItemIndex is null the items are evenly split among the workers, otherwise each worker claims
+		 * chunks of adaptive size from it: in both cases the ranges are consumed in blocks of limited size so
+		 * that a request of termination of the iteration is detected quickly by all the workers */
+		<T> ThrowingConsumer<T, ? extends Throwable> buildIndexRangesIterator(
+			int workerIndex,
+			int workerCount,
+			int itemsCount,
+			AtomicInteger nextItemIndex,
+			IndexRangeConsumer indexRangeConsumer,
+			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
+			IterableObjectHelper.IterationStatistics statistics
+		) {
+			return executor -> {
+				IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.getCurrentWorker() : null;
+				try {
+					if (nextItemIndex != null) {
+						while (terminateIterationNotification.get() == null) {
+							int firstItemIndex = nextItemIndex.get();
+							if (firstItemIndex >= itemsCount) {
+								break;
+							}
+							int lastItemIndex = firstItemIndex + computeChunkSize(itemsCount - firstItemIndex, workerCount);
+							if (!nextItemIndex.compareAndSet(firstItemIndex, lastItemIndex)) {
+								continue;
+							}
+							if (worker != null) {
+								++worker.chunkCount;
+							}
+							consumeIndexRange(workerIndex, firstItemIndex, lastItemIndex, indexRangeConsumer, terminateIterationNotification, worker);
+						}
+					} else {
+						consumeIndexRange(
+							workerIndex,
+							(int)((long)itemsCount * workerIndex / workerCount),
+							(int)((long)itemsCount * (workerIndex + 1) / workerCount),
+							indexRangeConsumer,
+							terminateIterationNotification,
+							worker
+						);
+					}
+				} catch (IterableObjectHelper.TerminateIteration exc) {
+					checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+				} catch (Throwable exc) {
+					terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
+					throw exc;
+				}
+			};
+		}
+
+		private void consumeIndexRange(
+			int workerIndex,
+			int firstItemIndex,
+			int lastItemIndex,
+			IndexRangeConsumer indexRangeConsumer,
+			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
+			IterableObjectHelper.IterationStatistics.Worker worker
+		) {
+			for (
+				int fromIndex = firstItemIndex, toIndex;
+				fromIndex < lastItemIndex && terminateIterationNotification.get() == null;
+				fromIndex = toIndex
+			) {
+				toIndex = Math.min(lastItemIndex, fromIndex + INDEX_RANGE_BLOCK_SIZE);
+				indexRangeConsumer.accept(workerIndex, fromIndex, toIndex);
+				if (worker != null) {
+					worker.processedItemCount += toIndex - fromIndex;
+				}
+			}
+		}
+
+		int computeChunkSize(int remainedItemsCount, int workerCount) {
+			return Math.max(1, remainedItemsCount / (workerCount << 1));
+		}
+
 		void checkAndNotifyTerminationOfIteration(
 			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
 			IterableObjectHelper.TerminateIteration exc
@@ -815,9 +1279,16 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			}
 		}
 
+		@FunctionalInterface
+		static interface IndexRangeConsumer {
+
+			void accept(int workerIndex, int fromIndex, int toIndex);
+
+		}
+
 		static class Config<I, IC> implements IterableObjectHelper.IterationConfig<I, IC, Config<I, IC>>{
-			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> taskBasedIteratorSupplier;
-			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> threadBasedIteratorSupplier;
+			final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> taskBasedIteratorSupplier;
+			final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> threadBasedIteratorSupplier;
 
 
 			static {
@@ -830,6 +1301,8 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			Object output;
 			Predicate<IC> predicateForParallelIteration;
 			Integer priority;
+			boolean adaptiveChunked;
+			Consumer<IterableObjectHelper.IterationStatistics> statisticsHandler;
 			Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> iteratorSupplier;
 
 			public Config(
@@ -883,6 +1356,24 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 				return this;
 			}
 
+			@Override
+			public Config<I, IC> evenlySplit() {
+				this.adaptiveChunked = false;
+				return this;
+			}
+
+			@Override
+			public Config<I, IC> adaptiveChunked() {
+				this.adaptiveChunked = true;
+				return this;
+			}
+
+			@Override
+			public Config<I, IC> withStatisticsHandler(Consumer<IterableObjectHelper.IterationStatistics> statisticsHandler) {
+				this.statisticsHandler = statisticsHandler;
+				return this;
+			}
+
 			@Override
 			public <O, OC extends Collection<O>> WithOutputOfCollection<I, IC, O, OC> withOutput(OC output) {
 				return new WithOutputOfCollection<>(setOutput(output));
@@ -936,6 +1427,24 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 					return (CWO)this;
 				}
 
+				@Override
+				public CWO evenlySplit() {
+					wrappedConfiguration.evenlySplit();
+					return (CWO)this;
+				}
+
+				@Override
+				public CWO adaptiveChunked() {
+					wrappedConfiguration.adaptiveChunked();
+					return (CWO)this;
+				}
+
+				@Override
+				public CWO withStatisticsHandler(Consumer<IterableObjectHelper.IterationStatistics> statisticsHandler) {
+					wrappedConfiguration.withStatisticsHandler(statisticsHandler);
+					return (CWO)this;
+				}
+
 				@Override
 				public CWO withPriority(Integer priority) {
 					wrappedConfiguration.withPriority(priority);
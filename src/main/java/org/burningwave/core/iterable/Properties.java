@@ -54,6 +54,7 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 
 	private Set<Listener> listeners;
 	private String defaultValuesSeparator;
+	private transient ResolvedValues resolvedValues;
 
 	public Properties() {
 		super();
@@ -75,6 +76,17 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 		return listeners;
 	}
 
+	ResolvedValues getResolvedValues() {
+		if (resolvedValues == null) {
+			synchronized (this) {
+				if (resolvedValues == null) {
+					resolvedValues = new ResolvedValues().listenTo(this);
+				}
+			}
+		}
+		return resolvedValues;
+	}
+
 	public Properties load(Supplier<InputStream> inputStreamSupplier) {
 		Streams.feelPropertiesMap(inputStreamSupplier, this);
 		return this;
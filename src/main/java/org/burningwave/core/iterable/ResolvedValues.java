@@ -0,0 +1,172 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.iterable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+//The values resolved on a Properties: every value keeps the raw values of the keys that have been read to
+//resolve it, so that a change notified through the Properties.Listener removes only the values depending on
+//the changed key. The raw values are compared again before a value is returned, so the changes that are not
+//notified (e.g. Properties.putAll or Properties.clear) are also detected. The memo is bounded: when it is
+//full it is emptied and filled again by the next resolutions
+class ResolvedValues implements Properties.Listener {
+	private final static int MAXIMUM_SIZE = 2048;
+	//The default values are compared by identity: only the maps that cannot be modified through them, like the
+	//DEFAULT_VALUES of the components, can be memoized
+	private final static Collection<Class<?>> UNMODIFIABLE_MAP_CLASSES = Arrays.asList(
+		Collections.unmodifiableMap(new HashMap<>()).getClass(),
+		Collections.unmodifiableSortedMap(new TreeMap<>()).getClass(),
+		Collections.emptyMap().getClass(),
+		Collections.singletonMap(null, null).getClass()
+	);
+
+	private final Map<Key, Value> values;
+	private final Map<Object, Set<Key>> dependents;
+
+	ResolvedValues() {
+		values = new ConcurrentHashMap<>();
+		dependents = new ConcurrentHashMap<>();
+	}
+
+	Value get(Properties properties, Key key) {
+		Value value = values.get(key);
+		if (value != null && value.isValidFor(properties)) {
+			return value;
+		}
+		return null;
+	}
+
+	static boolean canBeMemoized(Map<?, ?> defaultValues) {
+		return defaultValues == null || UNMODIFIABLE_MAP_CLASSES.contains(defaultValues.getClass());
+	}
+
+	void put(Key key, Value value) {
+		if (values.size() >= MAXIMUM_SIZE) {
+			values.clear();
+			dependents.clear();
+		}
+		for (Object dependency : value.dependencies.keySet()) {
+			dependents.computeIfAbsent(dependency, dep -> ConcurrentHashMap.newKeySet()).add(key);
+		}
+		values.put(key, value);
+	}
+
+	@Override
+	public <K, V> void processChangeNotification(Properties properties, Properties.Event event, K key, V newValue, V previousValue) {
+		Set<Key> keys = dependents.remove(key);
+		if (keys != null) {
+			for (Key resolvedValueKey : keys) {
+				values.remove(resolvedValueKey);
+			}
+		}
+	}
+
+	static class Key {
+		private final Object key;
+		private final String valuesSeparator;
+		private final String valuesSeparatorForSplitting;
+		private final boolean deleteUnresolvedPlaceHolder;
+		private final Map<?, ?> defaultValues;
+		private final int hashCode;
+
+		Key(
+			Object key,
+			String valuesSeparator,
+			String valuesSeparatorForSplitting,
+			boolean deleteUnresolvedPlaceHolder,
+			Map<?, ?> defaultValues
+		) {
+			this.key = key;
+			this.valuesSeparator = valuesSeparator;
+			this.valuesSeparatorForSplitting = valuesSeparatorForSplitting;
+			this.deleteUnresolvedPlaceHolder = deleteUnresolvedPlaceHolder;
+			this.defaultValues = defaultValues;
+			int hashCode = key.hashCode();
+			hashCode = 31 * hashCode + java.util.Objects.hashCode(valuesSeparator);
+			hashCode = 31 * hashCode + java.util.Objects.hashCode(valuesSeparatorForSplitting);
+			hashCode = 31 * hashCode + Boolean.hashCode(deleteUnresolvedPlaceHolder);
+			this.hashCode = 31 * hashCode + System.identityHashCode(defaultValues);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key other = (Key)object;
+			return hashCode == other.hashCode &&
+				deleteUnresolvedPlaceHolder == other.deleteUnresolvedPlaceHolder &&
+				defaultValues == other.defaultValues &&
+				key.equals(other.key) &&
+				java.util.Objects.equals(valuesSeparator, other.valuesSeparator) &&
+				java.util.Objects.equals(valuesSeparatorForSplitting, other.valuesSeparatorForSplitting);
+		}
+
+	}
+
+	static class Value {
+		private final Object value;
+		private final Map<Object, Object> dependencies;
+
+		Value(Object value, Map<Object, Object> dependencies) {
+			this.value = value;
+			this.dependencies = dependencies;
+		}
+
+		Object get() {
+			return value;
+		}
+
+		private boolean isValidFor(Properties properties) {
+			for (Map.Entry<Object, Object> dependency : dependencies.entrySet()) {
+				if (properties.get(dependency.getKey()) != dependency.getValue()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -33,11 +33,13 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -60,7 +62,9 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 		Predicate<IC> predicateForParallelIteration,
 		OC output,
 		BiConsumer<I, Consumer<Consumer<OC>>> action,
-		Integer priority
+		Integer priority,
+		boolean adaptiveChunked,
+		IterableObjectHelper.IterationStatistics statistics
 	) {
 		if (items == IterableObjectHelperImpl.Iterator.NO_ITEMS) {
 			return output;
@@ -82,8 +86,20 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 				// Used for break the iteration
 				AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
 				Collection<QueuedTaskExecutor.Task> tasks = ConcurrentHashMap.newKeySet();
+				/* Iterate by claiming chunks of adaptive size */
+				if (adaptiveChunked) {
+					ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator = buildAdaptiveChunksIterator(
+						items, taskCountThatCanBeCreated, action, outputItemsHandler, terminateIterationNotification, statistics
+					);
+					for (int taskIndex = 0; taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; taskIndex++) {
+						if (taskIndex < (taskCountThatCanBeCreated - 1)) {
+							tasks.add(submit(iterator, priority, statistics));
+						} else {
+							consume(iterator, statistics);
+						}
+					}
 				/* Iterate List */
-				if (items instanceof List) {
+				} else if (items instanceof List) {
 					List<I> itemList = (List<I>)items;
 					final int splittedIteratorSize = itemList.size() / taskCountThatCanBeCreated;
 					for (
@@ -114,14 +130,9 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 							}
 						};
 						if (currentIndex < (taskCountThatCanBeCreated - 1)) {
-							tasks.add(
-								BackgroundExecutor.createTask(
-									iterator,
-									priority
-								).submit()
-							);
+							tasks.add(submit(iterator, priority, statistics));
 						} else {
-							consume(iterator);
+							consume(iterator, statistics);
 						}
 					}
 				/* Iterate any Collection except List */
@@ -152,11 +163,9 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 					};
 					for (int taskIndex = 0; taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; taskIndex++) {
 						if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-							tasks.add(
-								BackgroundExecutor.createTask(iterator, priority).submit()
-							);
+							tasks.add(submit(iterator, priority, statistics));
 						} else {
-							consume(iterator);
+							consume(iterator, statistics);
 						}
 					}
 				} else {
@@ -195,14 +204,9 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								tasks.add(
-									BackgroundExecutor.createTask(
-										iterator,
-										priority
-									).submit()
-								);
+								tasks.add(submit(iterator, priority, statistics));
 							} else {
-								consume(iterator);
+								consume(iterator, statistics);
 							}
 						}
 					/* Iterate array of objects */
@@ -237,14 +241,9 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								tasks.add(
-									BackgroundExecutor.createTask(
-										iterator,
-										priority
-									).submit()
-								);
+								tasks.add(submit(iterator, priority, statistics));
 							} else {
-								consume(iterator);
+								consume(iterator, statistics);
 							}
 						}
 					}
@@ -260,6 +259,7 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 						outputCollectionConsumer.accept(output);
 					}
 				: null;
+			IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.startWorker() : null;
 			try {
 				if (items instanceof Collection) {
 					for (I item : (Collection<I>)items) {
@@ -279,6 +279,10 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 				}
 			} catch (IterableObjectHelper.TerminateIteration t) {
 
+			} finally {
+				if (worker != null) {
+					statistics.stopWorker(worker);
+				}
 			}
 		} finally {
 			if (initialThreadPriority != priority) {
@@ -288,9 +292,43 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 		return output;
 	}
 
-	void consume(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator) {
+	@Override
+	void iterateIndexRangesInParallel(
+		int itemsCount,
+		int taskCount,
+		AtomicInteger nextItemIndex,
+		int priority,
+		IterableObjectHelper.IterationStatistics statistics,
+		IndexRangeConsumer indexRangeConsumer
+	) {
+		AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
+		Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>(taskCount - 1);
+		for (int taskIndex = 0; taskIndex < taskCount && terminateIterationNotification.get() == null; taskIndex++) {
+			ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator = buildIndexRangesIterator(
+				taskIndex, taskCount, itemsCount, nextItemIndex, indexRangeConsumer, terminateIterationNotification, statistics
+			);
+			if (taskIndex < (taskCount - 1)) {
+				tasks.add(submit(iterator, priority, statistics));
+			} else {
+				consume(iterator, statistics);
+			}
+		}
+		for (QueuedTaskExecutor.Task task : tasks) {
+			task.join();
+		}
+	}
+
+	QueuedTaskExecutor.Task submit(
+		ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator,
+		Integer priority,
+		IterableObjectHelper.IterationStatistics statistics
+	) {
+		return BackgroundExecutor.createTask(measure(iterator, statistics), priority).submit();
+	}
+
+	void consume(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator, IterableObjectHelper.IterationStatistics statistics) {
 		try {
-			iterator.accept(null);
+			measure(iterator, statistics).accept(null);
 		} catch (Throwable exc) {
 			ManagedLoggerRepository.logError(getClass()::getName, exc);
 		}
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -62,7 +63,9 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 		Predicate<IC> predicateForParallelIteration,
 		OC output,
 		BiConsumer<I, Consumer<Consumer<OC>>> action,
-		Integer priority
+		Integer priority,
+		boolean adaptiveChunked,
+		IterableObjectHelper.IterationStatistics statistics
 	) {
 		if (items == IterableObjectHelperImpl.Iterator.NO_ITEMS) {
 			return output;
@@ -84,8 +87,20 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 				// Used for break the iteration
 				AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
 				Map<Thread, Thread> threads = new ConcurrentHashMap<>();
+				/* Iterate by claiming chunks of adaptive size */
+				if (adaptiveChunked) {
+					ThrowingConsumer<Thread, ? extends Throwable> iterator = buildAdaptiveChunksIterator(
+						items, taskCountThatCanBeCreated, action, outputItemsHandler, terminateIterationNotification, statistics
+					);
+					for (int taskIndex = 0; taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; taskIndex++) {
+						if (taskIndex < (taskCountThatCanBeCreated - 1)) {
+							createAndStartThread(threads, iterator, priority, statistics);
+						} else {
+							consume(iterator, statistics);
+						}
+					}
 				/* Iterate List */
-				if (items instanceof List) {
+				} else if (items instanceof List) {
 					List<I> itemList = (List<I>)items;
 					final int splittedIteratorSize = itemList.size() / taskCountThatCanBeCreated;
 					for (
@@ -111,14 +126,12 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 							} catch (Throwable exc) {
 								terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 								throw exc;
-							} finally {
-								removeThread(threads, thread);
 							}
 						};
 						if (currentIndex < (taskCountThatCanBeCreated - 1)) {
-							createAndStartThread(threads, iterator, priority);
+							createAndStartThread(threads, iterator, priority, statistics);
 						} else {
-							consume(iterator);
+							consume(iterator, statistics);
 						}
 					}
 				/* Iterate any Collection except List */
@@ -143,15 +156,13 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 						} catch (Throwable exc) {
 							terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 							throw exc;
-						} finally {
-							removeThread(threads, thread);
 						}
 					};
 					for (int taskIndex = 0; taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; taskIndex++) {
 						if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-							createAndStartThread(threads, iterator, priority);
+							createAndStartThread(threads, iterator, priority, statistics);
 						} else {
-							consume(iterator);
+							consume(iterator, statistics);
 						}
 					}
 				} else {
@@ -185,14 +196,12 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 								} catch (Throwable exc) {
 									terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 									throw exc;
-								} finally {
-									removeThread(threads, thread);
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								createAndStartThread(threads, iterator, priority);
+								createAndStartThread(threads, iterator, priority, statistics);
 							} else {
-								consume(iterator);
+								consume(iterator, statistics);
 							}
 						}
 					/* Iterate array of objects */
@@ -222,29 +231,17 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 								} catch (Throwable exc) {
 									terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 									throw exc;
-								} finally {
-									removeThread(threads, thread);
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								createAndStartThread(threads, iterator, priority);
+								createAndStartThread(threads, iterator, priority, statistics);
 							} else {
-								consume(iterator);
-							}
-						}
-					}
-				}
-				if (!threads.isEmpty()) {
-					synchronized(threads) {
-						if (!threads.isEmpty()) {
-							try {
-								threads.wait();
-							} catch (InterruptedException exc) {
-								org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+								consume(iterator, statistics);
 							}
 						}
 					}
 				}
+				waitFor(threads);
 				return output;
 			}
 			Consumer<Consumer<OC>> outputItemsHandler =
@@ -253,6 +250,7 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 						outputCollectionConsumer.accept(output);
 					}
 				: null;
+			IterableObjectHelper.IterationStatistics.Worker worker = statistics != null ? statistics.startWorker() : null;
 			try {
 				if (items instanceof Collection) {
 					for (I item : (Collection<I>)items) {
@@ -272,6 +270,10 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 				}
 			} catch (IterableObjectHelper.TerminateIteration t) {
 
+			} finally {
+				if (worker != null) {
+					statistics.stopWorker(worker);
+				}
 			}
 		} finally {
 			if (initialThreadPriority != priority) {
@@ -281,8 +283,58 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 		return output;
 	}
 
-	private Thread createAndStartThread(Map<Thread, Thread> threads, ThrowingConsumer<Thread, ? extends Throwable> iterator, int priority) {
-		Thread thread = ThreadSupplier.getOrCreateThread().setExecutable(iterator);
+	@Override
+	void iterateIndexRangesInParallel(
+		int itemsCount,
+		int taskCount,
+		AtomicInteger nextItemIndex,
+		int priority,
+		IterableObjectHelper.IterationStatistics statistics,
+		IndexRangeConsumer indexRangeConsumer
+	) {
+		AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
+		Map<Thread, Thread> threads = new ConcurrentHashMap<>();
+		for (int taskIndex = 0; taskIndex < taskCount && terminateIterationNotification.get() == null; taskIndex++) {
+			ThrowingConsumer<Thread, ? extends Throwable> iterator = buildIndexRangesIterator(
+				taskIndex, taskCount, itemsCount, nextItemIndex, indexRangeConsumer, terminateIterationNotification, statistics
+			);
+			if (taskIndex < (taskCount - 1)) {
+				createAndStartThread(threads, iterator, priority, statistics);
+			} else {
+				consume(iterator, statistics);
+			}
+		}
+		waitFor(threads);
+	}
+
+	private void waitFor(Map<Thread, Thread> threads) {
+		if (!threads.isEmpty()) {
+			synchronized(threads) {
+				if (!threads.isEmpty()) {
+					try {
+						threads.wait();
+					} catch (InterruptedException exc) {
+						org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+					}
+				}
+			}
+		}
+	}
+
+	private Thread createAndStartThread(
+		Map<Thread, Thread> threads,
+		ThrowingConsumer<Thread, ? extends Throwable> iterator,
+		int priority,
+		IterableObjectHelper.IterationStatistics statistics
+	) {
+		ThrowingConsumer<Thread, ? extends Throwable> measuredIterator = measure(iterator, statistics);
+		Thread thread = ThreadSupplier.getOrCreateThread().setExecutable(executor -> {
+			try {
+				measuredIterator.accept(executor);
+			} finally {
+				removeThread(threads, executor);
+			}
+		});
 		thread.setPriority(priority);
 		threads.put(thread, thread);
 		thread.start();
@@ -300,9 +352,9 @@ class ThreadBasedIterator extends IterableObjectHelperImpl.Iterator {
 		}
 	}
 
-	private void consume(ThrowingConsumer<Thread, ? extends Throwable> iterator) {
+	private void consume(ThrowingConsumer<Thread, ? extends Throwable> iterator, IterableObjectHelper.IterationStatistics statistics) {
 		try {
-			iterator.accept(null);
+			measure(iterator, statistics).accept(null);
 		} catch (Throwable exc) {
 			ManagedLoggerRepository.logError(getClass()::getName, exc);
 		}
@@ -35,14 +35,19 @@ import static org.burningwave.core.assembler.StaticComponentContainer.IterableOb
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -61,6 +66,10 @@ public class BufferHandler implements Component {
 
 			static final String BUFFER_SIZE = "buffer-handler.default-buffer-size";
 			static final String BUFFER_ALLOCATION_MODE = "buffer-handler.default-allocation-mode";
+			static final String FILE_READ_MODE = "buffer-handler.file-read-mode";
+			static final String MEMORY_MAPPING_THRESHOLD = "buffer-handler.memory-mapping-threshold";
+			static final String POOL_MAX_BUFFER_SIZE = "buffer-handler.pool.max-buffer-size";
+			static final String POOL_MAX_IDLE_SIZE = "buffer-handler.pool.max-idle-size";
 
 		}
 
@@ -74,6 +83,10 @@ public class BufferHandler implements Component {
 				Key.BUFFER_ALLOCATION_MODE,
 				"ByteBuffer::allocateDirect"
 			);
+			defaultValues.put(Key.FILE_READ_MODE, "copy");
+			defaultValues.put(Key.MEMORY_MAPPING_THRESHOLD, "16MB");
+			defaultValues.put(Key.POOL_MAX_BUFFER_SIZE, "16MB");
+			defaultValues.put(Key.POOL_MAX_IDLE_SIZE, "32MB");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -82,15 +95,23 @@ public class BufferHandler implements Component {
 	Field directAllocatedByteBufferAddressField;
 	int defaultBufferSize;
 	Function<Integer, ByteBuffer> defaultByteBufferAllocator;
-    final static float reallocationFactor = 1.1f;
+	boolean memoryMappingEnabled;
+	long memoryMappingThreshold;
+	ByteBufferPool pool;
+	//The buffers created by the map method, referenced weakly and compared by identity
+	Collection<WeakReference<MappedByteBuffer>> memoryMappedBuffers;
+    final static float reallocationFactor = 2f;
 
 	public BufferHandler(Map<?, ?> config) {
+		memoryMappedBuffers = new ArrayList<>();
 		init(config);
 	}
 
 	void init(Map<?, ?> config) {
 		setDefaultByteBufferSize(config);
 		setDefaultByteBufferAllocationMode(config);
+		setFileReadMode(config);
+		setPool(config);
 		checkAndListenTo(config);
 		Class<?> directByteBufferClass = ByteBuffer.allocateDirect(0).getClass();
 		mainCycle:
@@ -111,19 +132,7 @@ public class BufferHandler implements Component {
 			.on(config)
 			.withDefaultValues(Configuration.DEFAULT_VALUES)
 		);
-		try {
-			this.defaultBufferSize = Integer.valueOf(defaultBufferSize);
-		} catch (Throwable exc) {
-			String unit = defaultBufferSize.substring(defaultBufferSize.length()-2);
-			String value = defaultBufferSize.substring(0, defaultBufferSize.length()-2);
-			if (unit.equalsIgnoreCase("KB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024)).intValue();
-			} else if (unit.equalsIgnoreCase("MB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).intValue();
-			} else {
-				this.defaultBufferSize = Integer.valueOf(value);
-			}
-		}
+		this.defaultBufferSize = (int)toBytes(defaultBufferSize);
 		ManagedLoggerRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
 	}
 
@@ -142,6 +151,78 @@ public class BufferHandler implements Component {
 		}
 	}
 
+	private void setFileReadMode(Map<?, ?> config) {
+		String fileReadMode = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(Configuration.Key.FILE_READ_MODE)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		);
+		String memoryMappingThreshold = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(Configuration.Key.MEMORY_MAPPING_THRESHOLD)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		);
+		this.memoryMappingThreshold = toBytes(memoryMappingThreshold);
+		this.memoryMappingEnabled = fileReadMode.equalsIgnoreCase("memory-mapped");
+		if (memoryMappingEnabled) {
+			ManagedLoggerRepository.logInfo(
+				getClass()::getName, "file read mode: memory-mapped for files larger than {} bytes", this.memoryMappingThreshold
+			);
+		} else {
+			ManagedLoggerRepository.logInfo(getClass()::getName, "file read mode: copy");
+		}
+	}
+
+	private void setPool(Map<?, ?> config) {
+		long maxBufferSize = toBytes(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.POOL_MAX_BUFFER_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		long maxIdleSize = toBytes(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.POOL_MAX_IDLE_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		boolean direct = allocate(0).isDirect();
+		ByteBufferPool previousPool = this.pool;
+		this.pool = new ByteBufferPool(
+			direct ? this::allocateDirect : this::allocateInHeap,
+			direct ? buffer -> destroy(buffer, false) : buffer -> {},
+			direct,
+			(int)Math.min(maxBufferSize, 1 << 30),
+			maxIdleSize
+		);
+		if (previousPool != null) {
+			previousPool.clear();
+		}
+		ManagedLoggerRepository.logInfo(
+			getClass()::getName, "buffer pool: buffers up to {} bytes, max idle size {} bytes", maxBufferSize, maxIdleSize
+		);
+	}
+
+	private long toBytes(String size) {
+		try {
+			return Long.valueOf(size);
+		} catch (Throwable exc) {
+			String unit = size.substring(size.length()-2);
+			String value = size.substring(0, size.length()-2);
+			if (unit.equalsIgnoreCase("KB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024)).longValue();
+			} else if (unit.equalsIgnoreCase("MB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).longValue();
+			} else if (unit.equalsIgnoreCase("GB")) {
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+			} else {
+				return Long.valueOf(value);
+			}
+		}
+	}
+
 	@Override
 	public <K, V> void processChangeNotification(Properties config, Event event, K key, V newValue, V previousValue) {
 		if (event.name().equals(Event.PUT.name())) {
@@ -151,6 +232,15 @@ public class BufferHandler implements Component {
 					setDefaultByteBufferSize(config);
 				} else if (keyAsString.equals(Configuration.Key.BUFFER_ALLOCATION_MODE)) {
 					setDefaultByteBufferAllocationMode(config);
+					setPool(config);
+				} else if (keyAsString.equals(Configuration.Key.POOL_MAX_BUFFER_SIZE) ||
+					keyAsString.equals(Configuration.Key.POOL_MAX_IDLE_SIZE)
+				) {
+					setPool(config);
+				} else if (keyAsString.equals(Configuration.Key.FILE_READ_MODE) ||
+					keyAsString.equals(Configuration.Key.MEMORY_MAPPING_THRESHOLD)
+				) {
+					setFileReadMode(config);
 				}
 			}
 		}
@@ -176,6 +266,71 @@ public class BufferHandler implements Component {
 		return ByteBuffer.allocateDirect(capacity);
 	}
 
+	//Returns a buffer, allocated with the default allocation mode, whose capacity is at least equal to the
+	//requested one: the caller becomes its exclusive owner until it is handed back through the release method
+	public ByteBuffer acquire(int capacity) {
+		return pool.acquire(capacity);
+	}
+
+	//The buffer must not be used after its release: if the pool does not take it back and it is direct its
+	//memory is freed immediately
+	public void release(ByteBuffer buffer) {
+		if (!pool.release(buffer) && buffer.isDirect()) {
+			destroy(buffer, false);
+		}
+	}
+
+	public ByteBufferPool.Statistics getPoolStatistics() {
+		return pool.getStatistics();
+	}
+
+	public boolean isMemoryMappingEnabledFor(long size) {
+		return memoryMappingEnabled && size > memoryMappingThreshold && size <= Integer.MAX_VALUE;
+	}
+
+	public MappedByteBuffer map(FileChannel fileChannel) {
+		MappedByteBuffer buffer;
+		try {
+			buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+		} catch (IOException exc) {
+			return Driver.throwException(exc);
+		}
+		synchronized (memoryMappedBuffers) {
+			memoryMappedBuffers.add(new WeakReference<>(buffer));
+		}
+		return buffer;
+	}
+
+	//Returns true if the buffer has been created by the map method or if it is a view of one of them: the views
+	//are recognized through the buffers to which they are attached
+	public <T extends Buffer> boolean isMemoryMapped(T buffer) {
+		if (!buffer.isDirect()) {
+			return false;
+		}
+		synchronized (memoryMappedBuffers) {
+			if (memoryMappedBuffers.isEmpty()) {
+				return false;
+			}
+		}
+		Collection<T> linkedBuffers = getAllLinkedBuffers(buffer);
+		synchronized (memoryMappedBuffers) {
+			Iterator<WeakReference<MappedByteBuffer>> memoryMappedBuffersIterator = memoryMappedBuffers.iterator();
+			while (memoryMappedBuffersIterator.hasNext()) {
+				MappedByteBuffer memoryMappedBuffer = memoryMappedBuffersIterator.next().get();
+				if (memoryMappedBuffer == null) {
+					memoryMappedBuffersIterator.remove();
+					continue;
+				}
+				for (T linkedBuffer : linkedBuffers) {
+					if (linkedBuffer == memoryMappedBuffer) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	public ByteBuffer duplicate(ByteBuffer buffer) {
 		return buffer.duplicate();
 	}
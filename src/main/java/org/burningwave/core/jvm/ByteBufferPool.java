@@ -0,0 +1,371 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2023 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.jvm;
+
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+//Reuses the buffers whose size is a power of two between 1KB and the max buffer size: every thread keeps at most one
+//idle buffer of each size class up to 64KB and the other idle buffers are shared through a global arena whose size
+//is limited by the max idle size. The released buffers that exceed this limit are destroyed immediately. The buffers
+//reserved by the pool are tracked by identity through weak references, so that only the ones handed out are taken
+//back and the ones lost by their owners are subtracted from the accounting when they are collected
+public class ByteBufferPool {
+	private static final int MIN_SIZE_CLASS_SHIFT = 10;
+	private static final int MAX_THREAD_CACHED_SIZE_CLASS = 6;
+
+	private final Function<Integer, ByteBuffer> allocator;
+	private final Consumer<ByteBuffer> destroyer;
+	private final boolean direct;
+	private final long maxIdleSize;
+	private final ConcurrentLinkedDeque<ByteBuffer>[] arena;
+	private final ThreadLocal<AtomicReferenceArray<ByteBuffer>> threadCaches;
+	private final Collection<WeakReference<AtomicReferenceArray<ByteBuffer>>> allThreadCaches;
+	private final Map<PooledBuffer, PooledBuffer> pooledBuffers;
+	private final ReferenceQueue<ByteBuffer> collectedBuffers;
+	private final AtomicLong reservedBytes;
+	private final AtomicLong inUseBytes;
+	private final AtomicLong idleBytes;
+	private final AtomicLong hitCount;
+	private final AtomicLong missCount;
+	private final AtomicLong peakReservedBytes;
+	private final AtomicLong peakInUseBytes;
+
+	@SuppressWarnings("unchecked")
+	ByteBufferPool(Function<Integer, ByteBuffer> allocator, Consumer<ByteBuffer> destroyer, boolean direct, int maxBufferSize, long maxIdleSize) {
+		this.allocator = allocator;
+		this.destroyer = destroyer;
+		this.direct = direct;
+		this.maxIdleSize = maxIdleSize;
+		int sizeClassCount = 0;
+		while (sizeClassCount < 31 - MIN_SIZE_CLASS_SHIFT && (1 << (sizeClassCount + MIN_SIZE_CLASS_SHIFT)) <= maxBufferSize) {
+			sizeClassCount++;
+		}
+		this.arena = new ConcurrentLinkedDeque[sizeClassCount];
+		for (int index = 0; index < sizeClassCount; index++) {
+			arena[index] = new ConcurrentLinkedDeque<>();
+		}
+		int threadCacheSize = Math.min(sizeClassCount, MAX_THREAD_CACHED_SIZE_CLASS + 1);
+		this.allThreadCaches = new ConcurrentLinkedQueue<>();
+		this.threadCaches = ThreadLocal.withInitial(() -> {
+			AtomicReferenceArray<ByteBuffer> threadCache = new AtomicReferenceArray<>(threadCacheSize);
+			allThreadCaches.removeIf(threadCacheReference -> threadCacheReference.get() == null);
+			allThreadCaches.add(new WeakReference<>(threadCache));
+			return threadCache;
+		});
+		this.pooledBuffers = new ConcurrentHashMap<>();
+		this.collectedBuffers = new ReferenceQueue<>();
+		this.reservedBytes = new AtomicLong();
+		this.inUseBytes = new AtomicLong();
+		this.idleBytes = new AtomicLong();
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+		this.peakReservedBytes = new AtomicLong();
+		this.peakInUseBytes = new AtomicLong();
+	}
+
+	public static int toSizeClassCapacity(int capacity) {
+		if (capacity <= 1 << MIN_SIZE_CLASS_SHIFT) {
+			return 1 << MIN_SIZE_CLASS_SHIFT;
+		}
+		int highestOneBit = Integer.highestOneBit(capacity - 1);
+		return highestOneBit < 1 << 30 ? highestOneBit << 1 : Integer.MAX_VALUE;
+	}
+
+	private int getSizeClass(int capacity) {
+		int sizeClass = capacity <= 1 << MIN_SIZE_CLASS_SHIFT ?
+			0 :
+			32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_SIZE_CLASS_SHIFT;
+		return sizeClass < arena.length ? sizeClass : -1;
+	}
+
+	//The returned buffer has a capacity at least equal to the requested one and, if it is not bigger than
+	//the max buffer size, it should be handed back through the release method when it is no longer used
+	public ByteBuffer acquire(int capacity) {
+		int sizeClass = getSizeClass(capacity);
+		if (sizeClass < 0) {
+			missCount.incrementAndGet();
+			return allocator.apply(capacity);
+		}
+		removeCollectedBuffers();
+		int sizeClassCapacity = 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT);
+		ByteBuffer buffer = null;
+		if (sizeClass <= MAX_THREAD_CACHED_SIZE_CLASS) {
+			buffer = threadCaches.get().getAndSet(sizeClass, null);
+		}
+		if (buffer == null) {
+			buffer = arena[sizeClass].pollFirst();
+		}
+		if (buffer != null) {
+			hitCount.incrementAndGet();
+			idleBytes.addAndGet(-sizeClassCapacity);
+			pooledBuffers.get(new PooledBuffer(buffer, null)).inUse.set(true);
+		} else {
+			missCount.incrementAndGet();
+			buffer = allocator.apply(sizeClassCapacity);
+			PooledBuffer pooledBuffer = new PooledBuffer(buffer, collectedBuffers);
+			pooledBuffers.put(pooledBuffer, pooledBuffer);
+			updatePeak(peakReservedBytes, reservedBytes.addAndGet(sizeClassCapacity));
+		}
+		updatePeak(peakInUseBytes, inUseBytes.addAndGet(sizeClassCapacity));
+		return buffer;
+	}
+
+	//Returns false if the buffer has not been taken back by the pool because it has not been handed out by the
+	//pool: in this case the buffer is left untouched. A buffer already released is ignored
+	public boolean release(ByteBuffer buffer) {
+		int capacity = buffer.capacity();
+		int sizeClass = getSizeClass(capacity);
+		if (sizeClass < 0 || capacity != 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT)) {
+			return false;
+		}
+		PooledBuffer pooledBuffer = pooledBuffers.get(new PooledBuffer(buffer, null));
+		if (pooledBuffer == null) {
+			return false;
+		}
+		if (!pooledBuffer.inUse.compareAndSet(true, false)) {
+			return true;
+		}
+		inUseBytes.addAndGet(-capacity);
+		buffer.clear();
+		if (sizeClass <= MAX_THREAD_CACHED_SIZE_CLASS) {
+			AtomicReferenceArray<ByteBuffer> threadCache = threadCaches.get();
+			if (threadCache.get(sizeClass) == null) {
+				idleBytes.addAndGet(capacity);
+				if (threadCache.compareAndSet(sizeClass, null, buffer)) {
+					return true;
+				}
+				idleBytes.addAndGet(-capacity);
+			}
+		}
+		if (idleBytes.addAndGet(capacity) <= maxIdleSize) {
+			arena[sizeClass].offerFirst(buffer);
+		} else {
+			pooledBuffers.remove(pooledBuffer);
+			idleBytes.addAndGet(-capacity);
+			reservedBytes.addAndGet(-capacity);
+			destroyer.accept(buffer);
+		}
+		return true;
+	}
+
+	//The memory of the collected buffers, never released by their owners or left in the caches of terminated
+	//threads, is no longer reserved by the pool
+	private void removeCollectedBuffers() {
+		Reference<? extends ByteBuffer> collectedBuffer;
+		while ((collectedBuffer = collectedBuffers.poll()) != null) {
+			PooledBuffer pooledBuffer = (PooledBuffer)collectedBuffer;
+			if (pooledBuffers.remove(pooledBuffer) != null) {
+				(pooledBuffer.inUse.get() ? inUseBytes : idleBytes).addAndGet(-pooledBuffer.capacity);
+				reservedBytes.addAndGet(-pooledBuffer.capacity);
+			}
+		}
+	}
+
+	private void updatePeak(AtomicLong peak, long value) {
+		long currentPeak;
+		while (value > (currentPeak = peak.get()) && !peak.compareAndSet(currentPeak, value)) {}
+	}
+
+	public Statistics getStatistics() {
+		return new Statistics(
+			direct,
+			reservedBytes.get(),
+			inUseBytes.get(),
+			idleBytes.get(),
+			hitCount.get(),
+			missCount.get(),
+			peakReservedBytes.get(),
+			peakInUseBytes.get()
+		);
+	}
+
+	//Destroys the idle buffers of the thread caches and of the global arena: the buffers in use are left to their
+	//owners
+	void clear() {
+		for (Iterator<WeakReference<AtomicReferenceArray<ByteBuffer>>> iterator = allThreadCaches.iterator(); iterator.hasNext();) {
+			AtomicReferenceArray<ByteBuffer> threadCache = iterator.next().get();
+			if (threadCache == null) {
+				iterator.remove();
+				continue;
+			}
+			for (int sizeClass = 0; sizeClass < threadCache.length(); sizeClass++) {
+				ByteBuffer buffer = threadCache.getAndSet(sizeClass, null);
+				if (buffer != null) {
+					destroyIdle(buffer);
+				}
+			}
+		}
+		for (ConcurrentLinkedDeque<ByteBuffer> buffers : arena) {
+			ByteBuffer buffer;
+			while ((buffer = buffers.pollFirst()) != null) {
+				destroyIdle(buffer);
+			}
+		}
+	}
+
+	private void destroyIdle(ByteBuffer buffer) {
+		pooledBuffers.remove(new PooledBuffer(buffer, null));
+		idleBytes.addAndGet(-buffer.capacity());
+		reservedBytes.addAndGet(-buffer.capacity());
+		destroyer.accept(buffer);
+	}
+
+	//Compares the buffers by identity, because the equals method of the buffers compares their contents
+	private static class PooledBuffer extends WeakReference<ByteBuffer> {
+		private final int hashCode;
+		private final int capacity;
+		private final AtomicBoolean inUse;
+
+		private PooledBuffer(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue) {
+			super(buffer, queue);
+			this.hashCode = System.identityHashCode(buffer);
+			this.capacity = buffer.capacity();
+			this.inUse = new AtomicBoolean(true);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof PooledBuffer)) {
+				return false;
+			}
+			ByteBuffer buffer = get();
+			return buffer != null && buffer == ((PooledBuffer)object).get();
+		}
+	}
+
+	public static class Statistics {
+		private final boolean direct;
+		private final long reservedBytes;
+		private final long inUseBytes;
+		private final long idleBytes;
+		private final long hitCount;
+		private final long missCount;
+		private final long peakReservedBytes;
+		private final long peakInUseBytes;
+
+		Statistics(
+			boolean direct,
+			long reservedBytes,
+			long inUseBytes,
+			long idleBytes,
+			long hitCount,
+			long missCount,
+			long peakReservedBytes,
+			long peakInUseBytes
+		) {
+			this.direct = direct;
+			this.reservedBytes = reservedBytes;
+			this.inUseBytes = inUseBytes;
+			this.idleBytes = idleBytes;
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.peakReservedBytes = peakReservedBytes;
+			this.peakInUseBytes = peakInUseBytes;
+		}
+
+		public boolean isOffHeap() {
+			return direct;
+		}
+
+		public long getReservedBytes() {
+			return reservedBytes;
+		}
+
+		public long getInUseBytes() {
+			return inUseBytes;
+		}
+
+		public long getIdleBytes() {
+			return idleBytes;
+		}
+
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		public long getMissCount() {
+			return missCount;
+		}
+
+		public double getHitRate() {
+			long requestCount = hitCount + missCount;
+			return requestCount > 0 ? (double)hitCount / requestCount : 0;
+		}
+
+		//The high water marks of the off heap memory reserved and used by the pool: both are 0 if the pool
+		//allocates heap buffers
+		public long getOffHeapPeakReservedBytes() {
+			return direct ? peakReservedBytes : 0;
+		}
+
+		public long getOffHeapPeakInUseBytes() {
+			return direct ? peakInUseBytes : 0;
+		}
+
+		public long getPeakReservedBytes() {
+			return peakReservedBytes;
+		}
+
+		public long getPeakInUseBytes() {
+			return peakInUseBytes;
+		}
+
+		@Override
+		public String toString() {
+			return "reserved bytes: " + reservedBytes + ", in use bytes: " + inUseBytes + ", idle bytes: " + idleBytes +
+				", hit rate: " + getHitRate() + ", peak reserved bytes: " + peakReservedBytes + ", peak in use bytes: " + peakInUseBytes +
+				(direct ? " (off heap)" : " (heap)");
+		}
+
+	}
+
+}
@@ -13,6 +13,7 @@ import org.junit.runner.RunWith;
 	BackgroundExecutorTest.class,
 	ByteBufferHandlerTest.class,
 	ByteCodeHunterTest.class,
+	CacheTest.class,
     ClassesTest.class,
     ClassFactoryTest.class,
     ComponentContainerTest.class,
@@ -27,6 +28,7 @@ import org.junit.runner.RunWith;
     FunctionalInterfaceFactoryTest.class,
     IterableObjectHelperTest.class,
     IterableZipContainerTest.class,
+    JavaMemoryCompilerTest.class,
     ManagedLoggerRepositoryTest.class,
     MembersTest.class,
     MemoryClassLoaderTest.class,
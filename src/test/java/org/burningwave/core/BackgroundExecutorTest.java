@@ -3,17 +3,22 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.concurrent.TaskStateException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -127,4 +132,92 @@ public class BackgroundExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void backPressureCallerRunsTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Caller runs test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false,
+				1, QueuedTaskExecutor.BackPressurePolicy.CALLER_RUNS
+			);
+			try {
+				queuedTaskExecutor.suspend(true, true);
+				QueuedTaskExecutor.Task queuedTask = queuedTaskExecutor.createTask(() -> {}).submit();
+				AtomicReference<Thread> executorWrapper = new AtomicReference<>();
+				queuedTaskExecutor.createTask(() ->
+					executorWrapper.set(Thread.currentThread())
+				).submit();
+				assertTrue(executorWrapper.get() == Thread.currentThread());
+				queuedTaskExecutor.resumeFromSuspension();
+				assertTrue(queuedTask.waitForFinish().wasExecuted());
+			} finally {
+				queuedTaskExecutor.resumeFromSuspension();
+				queuedTaskExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void backPressureRejectTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Reject test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false,
+				1, QueuedTaskExecutor.BackPressurePolicy.REJECT
+			);
+			try {
+				queuedTaskExecutor.suspend(true, true);
+				queuedTaskExecutor.createTask(() -> {}).submit();
+				QueuedTaskExecutor.Task rejectedTask = queuedTaskExecutor.createTask(() -> {});
+				boolean rejected = false;
+				try {
+					rejectedTask.submit();
+				} catch (TaskStateException exc) {
+					rejected = true;
+				}
+				assertTrue(rejected && rejectedTask.isAborted());
+			} finally {
+				queuedTaskExecutor.resumeFromSuspension();
+				queuedTaskExecutor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void throughputTestOne() {
+		testDoesNotThrow(() -> {
+			int tasksPerRun = 64_000;
+			for (int producersCount : new int[] {1, 8, 64}) {
+				int tasksPerProducer = tasksPerRun / producersCount;
+				AtomicInteger executedTasksCount = new AtomicInteger();
+				CountDownLatch executedTasks = new CountDownLatch(tasksPerProducer * producersCount);
+				Collection<Thread> producers = new LinkedHashSet<>();
+				long startTime = System.nanoTime();
+				for (int i = 0; i < producersCount; i++) {
+					Thread producer = new Thread(() -> {
+						for (int j = 0; j < tasksPerProducer; j++) {
+							BackgroundExecutor.createTask(task -> {
+								executedTasksCount.incrementAndGet();
+								executedTasks.countDown();
+							}, Thread.NORM_PRIORITY).submit();
+						}
+					});
+					producers.add(producer);
+					producer.start();
+				}
+				for (Thread producer : producers) {
+					producer.join();
+				}
+				assertTrue(executedTasks.await(60, TimeUnit.SECONDS));
+				long elapsedTime = System.nanoTime() - startTime;
+				assertEquals(tasksPerProducer * producersCount, executedTasksCount.get());
+				ManagedLoggerRepository.logInfo(
+					getClass()::getName,
+					"{} producers: {} tasks executed at {} tasks/sec",
+					producersCount,
+					executedTasksCount.get(),
+					(long)(executedTasksCount.get() / (elapsedTime / 1_000_000_000D))
+				);
+			}
+		});
+	}
+
 }
@@ -1,8 +1,23 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.burningwave.core.jvm.BufferHandler.Deallocator;
+import org.burningwave.core.jvm.ByteBufferPool;
 import org.junit.jupiter.api.Test;
 
 public class ByteBufferHandlerTest extends BaseTest {
@@ -33,4 +48,96 @@ public class ByteBufferHandlerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void mapAndDestroyTest() {
+		testNotNull(() -> {
+			File file = Files.createTempFile("buffer-handler", ".bin").toFile();
+			file.deleteOnExit();
+			Files.write(file.toPath(), new byte[] {1, 2, 3, 4});
+			ByteBuffer content;
+			try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r"); FileChannel fileChannel = randomAccessFile.getChannel()) {
+				content = BufferHandler.shareContent(BufferHandler.map(fileChannel));
+			}
+			if (!BufferHandler.isMemoryMapped(content) || !BufferHandler.isMemoryMapped(content.slice()) ||
+				BufferHandler.isMemoryMapped(BufferHandler.allocateDirect(1)) ||
+				BufferHandler.toByteArray(content)[3] != 4 || !BufferHandler.destroy(content, true)
+			) {
+				return null;
+			}
+			return BufferHandler.getCleaner(content, true).cleaningHasBeenPerformed() ? content : null;
+		});
+	}
+
+	@Test
+	public void acquireAndReleaseTest() {
+		testNotNull(() -> {
+			ByteBuffer buffer = BufferHandler.acquire(3000);
+			assertEquals(4096, buffer.capacity());
+			buffer.put((byte)1);
+			long hitCount = BufferHandler.getPoolStatistics().getHitCount();
+			BufferHandler.release(buffer);
+			ByteBuffer reusedBuffer = BufferHandler.acquire(4096);
+			assertSame(buffer, reusedBuffer);
+			assertEquals(0, reusedBuffer.position());
+			assertEquals(hitCount + 1, BufferHandler.getPoolStatistics().getHitCount());
+			BufferHandler.release(reusedBuffer);
+			return BufferHandler.getPoolStatistics();
+		});
+	}
+
+	@Test
+	public void releaseOfNotAcquiredBufferTest() {
+		testNotNull(() -> {
+			ByteBuffer buffer = BufferHandler.acquire(4096);
+			BufferHandler.release(buffer);
+			long inUseBytes = BufferHandler.getPoolStatistics().getInUseBytes();
+			BufferHandler.release(buffer);
+			BufferHandler.release(BufferHandler.allocate(4096));
+			assertEquals(inUseBytes, BufferHandler.getPoolStatistics().getInUseBytes());
+			ByteBuffer reusedBuffer = BufferHandler.acquire(4096);
+			ByteBuffer otherBuffer = BufferHandler.acquire(4096);
+			assertSame(buffer, reusedBuffer);
+			assertNotSame(buffer, otherBuffer);
+			BufferHandler.release(otherBuffer);
+			BufferHandler.release(reusedBuffer);
+			return BufferHandler.getPoolStatistics();
+		});
+	}
+
+	@Test
+	public void clearPoolTest() {
+		testNotNull(() -> {
+			AtomicReference<ByteBuffer> bufferWrapper = new AtomicReference<>();
+			//The buffer is released by a new thread so that it is kept by the empty cache of that thread
+			Thread thread = new Thread(() -> {
+				bufferWrapper.set(BufferHandler.acquire(4096));
+				BufferHandler.release(bufferWrapper.get());
+			});
+			thread.start();
+			thread.join();
+			ByteBuffer buffer = bufferWrapper.get();
+			Object maxIdleSize = GlobalProperties.get("buffer-handler.pool.max-idle-size");
+			GlobalProperties.put("buffer-handler.pool.max-idle-size", "16MB");
+			GlobalProperties.put("buffer-handler.pool.max-idle-size", maxIdleSize != null ? maxIdleSize : "32MB");
+			return !buffer.isDirect() || BufferHandler.getCleaner(buffer, true).cleaningHasBeenPerformed() ? buffer : null;
+		});
+	}
+
+	@Test
+	public void toByteBufferOfUnknownSizeTest() {
+		testNotNull(() -> {
+			byte[] bytes = new byte[3 * 1024 * 1024 + 7];
+			for (int index = 0; index < bytes.length; index++) {
+				bytes[index] = (byte)index;
+			}
+			ByteBuffer content = Streams.toByteBuffer(new ByteArrayInputStream(bytes));
+			assertEquals(bytes.length, content.limit());
+			assertArrayEquals(bytes, BufferHandler.toByteArray(content));
+			ByteBufferPool.Statistics statistics = BufferHandler.getPoolStatistics();
+			content = Streams.toByteBuffer(new ByteArrayInputStream(bytes));
+			assertArrayEquals(bytes, BufferHandler.toByteArray(content));
+			return BufferHandler.getPoolStatistics().getHitCount() > statistics.getHitCount() ? statistics : null;
+		});
+	}
+
 }
@@ -1,14 +1,28 @@
 package org.burningwave.core;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ByteCodeHunter;
 import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassPathScanner;
+import org.burningwave.core.classes.JavaClass;
 import org.burningwave.core.classes.SearchConfig;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.service.Service;
@@ -211,4 +225,115 @@ public class ByteCodeHunterTest extends BaseTest {
 		);
 		org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository.logDebug(getClass()::getName, "Items total size: " + bytesWrapper.get() + " bytes");
 	}
+
+	@Test
+	public void findAllByJavaClassCriteriaTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getByteCodeHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getPaths((path) -> path.endsWith("target/classes"))
+				).by(
+					ClassCriteria.create().byJavaClass(
+						JavaClass.Criteria.create().packageName(packageName ->
+							"org.burningwave.core.classes".equals(packageName)
+						).and().method(method ->
+							method.getName().equals("findBy")
+						)
+					)
+				)
+			),
+			(result) -> result.getClasses()
+		);
+	}
+
+	@Test
+	public void findAllByJavaClassCriteriaWithClassPathIndexTestOne() {
+		ComponentContainer componentContainer = (ComponentContainer)getComponentSupplier();
+		componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "true");
+		try {
+			for (int i = 0; i < 2; i++) {
+				testNotEmpty(
+					() -> componentContainer.getByteCodeHunter().findBy(
+						SearchConfig.forPaths(
+							componentContainer.getPathHelper().getPaths(path -> path.endsWith("target/classes"))
+						).by(
+							ClassCriteria.create().byJavaClass(
+								JavaClass.Criteria.create().interfaceName(
+									"org.burningwave.core.Component"::equals
+								)
+							)
+						)
+					),
+					(result) -> result.getClasses()
+				);
+			}
+		} finally {
+			componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "false");
+		}
+	}
+
+	@Test
+	public void findAllWithClassPathIndexAfterChangesTestOne() throws Exception {
+		ComponentContainer componentContainer = (ComponentContainer)getComponentSupplier();
+		String path = componentContainer.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang");
+		File folder = FileSystemHelper.createTemporaryFolder("ByteCodeHunterTest-class-path-index");
+		FileSystemItem.ofPath(path).copyAllChildrenTo(folder.getAbsolutePath());
+		File classFile = new File(folder, "org/apache/commons/lang/BitField.class");
+		byte[] byteCode = Files.readAllBytes(classFile.toPath());
+		componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "true");
+		try {
+			testNotEmpty(() -> {
+				int classesCount = findAllIn(componentContainer, folder).size();
+				assertEquals(classesCount, findAllIn(componentContainer, folder).size());
+				Files.delete(classFile.toPath());
+				assertEquals(classesCount - 1, findAllIn(componentContainer, folder).size());
+				Files.write(classFile.toPath(), byteCode);
+				Collection<JavaClass> classes = findAllIn(componentContainer, folder);
+				assertEquals(classesCount, classes.size());
+				return classes;
+			});
+		} finally {
+			componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "false");
+		}
+	}
+
+	@Test
+	public void findAllWithClassPathIndexAfterDeletionTestOne() throws Exception {
+		ComponentContainer componentContainer = (ComponentContainer)getComponentSupplier();
+		String path = componentContainer.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang");
+		File deletedFolder = FileSystemHelper.createTemporaryFolder("ByteCodeHunterTest-class-path-index-deleted");
+		File folder = FileSystemHelper.createTemporaryFolder("ByteCodeHunterTest-class-path-index-kept");
+		FileSystemItem.ofPath(path).copyAllChildrenTo(deletedFolder.getAbsolutePath());
+		FileSystemItem.ofPath(path).copyAllChildrenTo(folder.getAbsolutePath());
+		File indexFile = new File(
+			FileSystemHelper.getOrCreateBurningwaveTemporaryFolder(),
+			ByteCodeHunter.Configuration.Key.NAME_IN_CONFIG_PROPERTIES + ".class-path-index"
+		);
+		String deletedFolderPath = FileSystemItem.ofPath(deletedFolder.getAbsolutePath()).getAbsolutePath();
+		componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "true");
+		try {
+			testNotEmpty(() -> {
+				//The deleted folder must not be added to the default path scanner class loader
+				componentContainer.getByteCodeHunter().findBy(
+					SearchConfig.forPaths(deletedFolder.getAbsolutePath()).useDefaultPathScannerClassLoader(false)
+				).close();
+				assertTrue(new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8).contains(deletedFolderPath));
+				FileSystemHelper.delete(deletedFolder);
+				Collection<JavaClass> classes = findAllIn(componentContainer, folder);
+				assertFalse(new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8).contains(deletedFolderPath));
+				return classes;
+			});
+		} finally {
+			componentContainer.setConfigProperty(ClassPathScanner.Configuration.Key.CLASS_PATH_INDEX_ENABLED, "false");
+		}
+	}
+
+	private Collection<JavaClass> findAllIn(ComponentContainer componentContainer, File folder) {
+		try (ByteCodeHunter.SearchResult result = componentContainer.getByteCodeHunter().findBy(
+			SearchConfig.forPaths(folder.getAbsolutePath())
+		)) {
+			return new ArrayList<>(result.getClasses());
+		}
+	}
 }
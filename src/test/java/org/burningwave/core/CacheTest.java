@@ -0,0 +1,145 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheTest extends BaseTest {
+
+	@Test
+	public void lruEvictionTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.path-for-contents.max-entries", "10");
+			config.put("cache.path-for-contents.eviction-policy", "lru");
+			Cache cache = Cache.create(config);
+			for (int i = 0; i < 20; i++) {
+				cache.pathForContents.getOrUploadIfAbsent("/folder/file" + i, () -> ByteBuffer.allocate(8));
+			}
+			assertTrue(cache.pathForContents.getLoadedResourcesCount() <= 10);
+			assertTrue(cache.pathForContents.getEvictionCount() >= 10);
+			assertNull(cache.pathForContents.get("/folder/file0"));
+		});
+	}
+
+	@Test
+	public void weightEvictionTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.path-for-contents.max-weight", "1024");
+			Cache cache = Cache.create(config);
+			for (int i = 0; i < 16; i++) {
+				cache.pathForContents.getOrUploadIfAbsent("/folder/file" + i, () -> ByteBuffer.allocate(128));
+			}
+			assertTrue(cache.pathForContents.getTotalWeight() <= 1024);
+		});
+	}
+
+	@Test
+	public void timeToIdleEvictionTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.path-for-contents.time-to-idle", "50");
+			Cache cache = Cache.create(config);
+			for (int i = 0; i < 4; i++) {
+				cache.pathForContents.getOrUploadIfAbsent("/folder/file" + i, () -> ByteBuffer.allocate(8));
+			}
+			Thread.sleep(150);
+			cache.pathForContents.getOrUploadIfAbsent("/folder/other", () -> ByteBuffer.allocate(8));
+			assertEquals(1, cache.pathForContents.getLoadedResourcesCount());
+			assertEquals(4, cache.pathForContents.getEvictionCount());
+			assertNull(cache.pathForContents.get("/folder/file0"));
+		});
+	}
+
+	@Test
+	public void lfuEvictionTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.path-for-contents.max-entries", "10");
+			config.put("cache.path-for-contents.eviction-policy", "lfu");
+			Cache cache = Cache.create(config);
+			cache.pathForContents.getOrUploadIfAbsent("/folder/frequent", () -> ByteBuffer.allocate(8));
+			for (int i = 0; i < 20; i++) {
+				cache.pathForContents.get("/folder/frequent");
+				cache.pathForContents.getOrUploadIfAbsent("/folder/file" + i, () -> ByteBuffer.allocate(8));
+			}
+			assertTrue(cache.pathForContents.getLoadedResourcesCount() <= 10);
+			assertNotNull(cache.pathForContents.get("/folder/frequent"));
+		});
+	}
+
+	@Test
+	public void keyForResourcesEvictionTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> config = new HashMap<>();
+			config.put("cache.invocation-key-for-resources.max-entries", "10");
+			Cache.ObjectAndKeyForResources<Object, String, String> cache =
+				new Cache.ObjectAndKeyForResources<Object, String, String>().setCapacity(config, "invocation-key-for-resources");
+			Object object = new Object();
+			cache.getOrUploadIfAbsent(object, "frequent", () -> "frequent");
+			for (int i = 0; i < 20; i++) {
+				assertEquals("frequent", cache.get(object, "frequent"));
+				String key = "key" + i;
+				cache.getOrUploadIfAbsent(object, key, () -> key);
+			}
+			assertEquals(20, cache.getHitCount());
+			assertEquals(21, cache.getMissCount());
+			assertTrue(cache.getEvictionCount() >= 10);
+			assertNull(cache.get(object, "key0"));
+			assertEquals("frequent", cache.get(object, "frequent"));
+			assertTrue(cache.remove(object).size() <= 10);
+		});
+	}
+
+	@Test
+	public void uploadDuringLoadingTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = Cache.create(new HashMap<>());
+			ByteBuffer staleContent = ByteBuffer.allocate(8);
+			ByteBuffer freshContent = ByteBuffer.allocate(16);
+			CountDownLatch loadingStarted = new CountDownLatch(1);
+			CountDownLatch uploadStarted = new CountDownLatch(1);
+			Thread loader = new Thread(() ->
+				cache.pathForContents.getOrUploadIfAbsent("/folder/content", () -> {
+					loadingStarted.countDown();
+					try {
+						uploadStarted.await(5, TimeUnit.SECONDS);
+						Thread.sleep(100);
+					} catch (InterruptedException exc) {
+						Thread.currentThread().interrupt();
+					}
+					return staleContent;
+				})
+			);
+			loader.start();
+			assertTrue(loadingStarted.await(5, TimeUnit.SECONDS));
+			uploadStarted.countDown();
+			cache.pathForContents.upload("/folder/content", () -> freshContent, false);
+			loader.join();
+			assertEquals(16, cache.pathForContents.get("/folder/content").capacity());
+		});
+	}
+
+	@Test
+	public void hitAndMissCountersTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = Cache.create(new HashMap<>());
+			cache.pathForContents.getOrUploadIfAbsent("/folder/content", () -> ByteBuffer.allocate(8));
+			cache.pathForContents.get("/folder/content");
+			cache.pathForContents.get("/folder/content");
+			assertEquals(2, cache.pathForContents.getHitCount());
+			assertEquals(1, cache.pathForContents.getMissCount());
+		});
+	}
+
+}
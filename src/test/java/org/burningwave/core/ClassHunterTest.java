@@ -1,27 +1,41 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
 import org.burningwave.core.classes.ClassCriteria;
 import org.burningwave.core.classes.ClassHunter;
 import org.burningwave.core.classes.ConstructorCriteria;
+import org.burningwave.core.classes.JavaClass;
+import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.classes.PathScannerClassLoader;
 import org.burningwave.core.classes.SearchConfig;
 import org.burningwave.core.io.FileSystemItem;
+import org.burningwave.core.io.FileSystemWatcher;
 import org.burningwave.core.io.PathHelper;
+import org.burningwave.core.iterable.IterableObjectHelper;
 import org.junit.jupiter.api.Test;
 
 public class ClassHunterTest extends BaseTest {
@@ -52,6 +66,117 @@ public class ClassHunterTest extends BaseTest {
 		);
 	}
 
+	@Test
+	public void findAllByStreamingTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		componentSupplier.closeHuntersSearchResults();
+		Collection<Class<?>> classesFound = new ArrayList<>();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang")
+				),
+				cls -> {
+					classesFound.add(cls);
+					if (classesFound.size() == 10) {
+						throw IterableObjectHelper.TerminateIteration.NOTIFICATION;
+					}
+				}
+			),
+			(result) -> {
+				assertEquals(10, classesFound.size());
+				assertEquals(10, result.getClasses().size());
+				return result.getClasses();
+			}
+		);
+	}
+
+	@Test
+	public void findAllByStreamingTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		componentSupplier.closeHuntersSearchResults();
+		Collection<Class<?>> classesFound = ConcurrentHashMap.newKeySet();
+		String path = componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang");
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(SearchConfig.forPaths(path), classesFound::add),
+			(result) -> {
+				try (ClassHunter.SearchResult searchResult = componentSupplier.getClassHunter().findBy(SearchConfig.forPaths(path))) {
+					assertEquals(searchResult.getClasses().size(), result.getClasses().size());
+				}
+				assertEquals(result.getClasses().size(), classesFound.size());
+				return classesFound;
+			}
+		);
+	}
+
+	@Test
+	public void findAllByStreamingTestThree() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<String> paths = getSpringCoreAndCommonsLangPaths(componentSupplier);
+		int classFilesCount = 0;
+		for (String path : paths) {
+			classFilesCount += FileSystemItem.ofPath(path).findInAllChildren(
+				FileSystemItem.Criteria.forClassTypeFiles(FileSystemItem.CheckingOption.FOR_NAME)
+			).size();
+		}
+		AtomicInteger testedClassFilesCount = new AtomicInteger();
+		Collection<Class<?>> classesFound = new ArrayList<>();
+		int finalClassFilesCount = classFilesCount;
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(paths).addFileFilter(
+					FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> testedClassFilesCount.incrementAndGet() > 0)
+				).useNewIsolatedClassLoader(),
+				cls -> {
+					classesFound.add(cls);
+					throw IterableObjectHelper.TerminateIteration.NOTIFICATION;
+				}
+			),
+			(result) -> {
+				assertEquals(1, classesFound.size());
+				assertEquals(1, result.getClasses().size());
+				//The children of the paths are no longer iterated once the search has been terminated
+				assertTrue(testedClassFilesCount.get() < finalClassFilesCount);
+				return result.getClasses();
+			}
+		);
+	}
+
+	@Test
+	public void findAllAndKeepUpdatedTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String path = componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang");
+		File folder = FileSystemHelper.createTemporaryFolder("ClassHunterTest-keep-updated");
+		FileSystemItem.ofPath(path).copyAllChildrenTo(folder.getAbsolutePath());
+		File classFile = new File(folder, "org/apache/commons/lang/BitField.class");
+		byte[] byteCode = Files.readAllBytes(classFile.toPath());
+		testNotEmpty(() -> {
+			try (
+				ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(SearchConfig.forPaths(folder.getAbsolutePath()));
+				FileSystemWatcher fileSystemWatcher = FileSystemWatcher.create("ClassHunterTest - file system watcher", 250)
+			) {
+				result.keepUpdatedBy(fileSystemWatcher);
+				int classesCount = result.getClasses().size();
+				Files.delete(classFile.toPath());
+				waitForChanges(fileSystemWatcher, () -> result.getClasses().size() == classesCount - 1);
+				assertEquals(classesCount - 1, result.getClasses().size());
+				Files.write(classFile.toPath(), byteCode);
+				waitForChanges(fileSystemWatcher, () -> result.getClasses().size() == classesCount);
+				assertEquals(classesCount, result.getClasses().size());
+				return new ArrayList<>(result.getClasses());
+			}
+		});
+	}
+
+	//The file system can notify a change some polls after it has been made, so the changes are checked until
+	//the condition is met or a generous timeout expires
+	private void waitForChanges(FileSystemWatcher fileSystemWatcher, BooleanSupplier condition) {
+		long timeout = System.currentTimeMillis() + 30000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < timeout) {
+			fileSystemWatcher.checkForChanges();
+		}
+	}
+
 	@Test
 	public void findAllTestTwo() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -221,6 +346,192 @@ public class ClassHunterTest extends BaseTest {
 		);
 	}
 
+	@Test
+	public void findAllByJavaClassCriteriaTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getPaths(path -> path.endsWith("target/test-classes"))
+				).by(
+					ClassCriteria.create().byJavaClass(
+						JavaClass.Criteria.create().annotationName(
+							"org.junit.platform.suite.api.ExcludeTags"::equals
+						)
+					).and().allThoseThatMatch(cls ->
+						cls.getSimpleName().endsWith("Suite")
+					)
+				)
+			),
+			(result) -> result.getClasses()
+		);
+	}
+
+	@Test
+	public void findAllByPackagePrefixTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		PathHelper pathHelper = componentSupplier.getPathHelper();
+		Collection<String> paths = Arrays.asList(
+			pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"),
+			pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/commons-lang")
+		);
+		Collection<String> expectedClassNames = new ArrayList<>();
+		try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+			SearchConfig.forPaths(paths).by(
+				ClassCriteria.create().className(className ->
+					className.startsWith("org.springframework.util.") && className.endsWith("Utils")
+				)
+			).useNewIsolatedClassLoader()
+		)) {
+			result.getClasses().forEach(cls -> expectedClassNames.add(cls.getName()));
+		}
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(paths).by(
+					ClassCriteria.create().packagePrefix("org.springframework.util").and().classNamePattern("**Utils")
+				).useNewIsolatedClassLoader()
+			),
+			(result) -> {
+				Collection<String> classNames = new ArrayList<>();
+				result.getClasses().forEach(cls -> classNames.add(cls.getName()));
+				assertEquals(new TreeSet<>(expectedClassNames), new TreeSet<>(classNames));
+				return result.getClasses();
+			}
+		);
+	}
+
+	@Test
+	public void findAllByPackagePrefixTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<String> paths = getSpringCoreAndCommonsLangPaths(componentSupplier);
+		testDoesNotThrow(() -> {
+			//Without declarative predicates all the classes of the scanned paths are added to the class loader
+			assertTrue(hasBeenAddedToClassLoader(
+				componentSupplier, paths,
+				ClassCriteria.create().className(className -> className.startsWith("org.springframework.util.")),
+				"org.apache.commons.lang.StringUtils"
+			));
+			//The commons-lang folder is pruned by package
+			assertFalse(hasBeenAddedToClassLoader(
+				componentSupplier, paths,
+				ClassCriteria.create().packagePrefix("org.springframework.util"),
+				"org.apache.commons.lang.StringUtils"
+			));
+			//The spring-core jar is skipped through its directory tree
+			assertFalse(hasBeenAddedToClassLoader(
+				componentSupplier, paths,
+				ClassCriteria.create().packagePrefix("org.apache.commons.lang"),
+				"org.springframework.util.StringUtils"
+			));
+			//The converters implement an interface of an excluded package: only the missing classes are added
+			ClassCriteria convertersCriteria = ClassCriteria.create().packagePrefix("org.springframework.core.convert.support");
+			assertEquals(
+				findClassNames(componentSupplier, paths, ClassCriteria.create().className(className ->
+					className.startsWith("org.springframework.core.convert.support.")
+				)),
+				findClassNames(componentSupplier, paths, convertersCriteria)
+			);
+			assertTrue(hasBeenAddedToClassLoader(
+				componentSupplier, paths, convertersCriteria, "org.springframework.core.convert.converter.Converter"
+			));
+			assertFalse(hasBeenAddedToClassLoader(
+				componentSupplier, paths, convertersCriteria, "org.springframework.util.xml.StaxUtils"
+			));
+		});
+	}
+
+	@Test
+	public void findAllByPackagePrefixWithOrAndNegateTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<String> paths = getSpringCoreAndCommonsLangPaths(componentSupplier);
+		testDoesNotThrow(() -> {
+			ClassCriteria unitedCriteria = ClassCriteria.create().packagePrefix("org.springframework.util")
+				.or().packagePrefix("org.apache.commons.lang");
+			Collection<String> classNames = findClassNames(componentSupplier, paths, unitedCriteria);
+			assertTrue(classNames.contains("org.springframework.util.StringUtils"));
+			assertTrue(classNames.contains("org.apache.commons.lang.StringUtils"));
+			assertFalse(hasBeenAddedToClassLoader(componentSupplier, paths, unitedCriteria, "org.springframework.cglib.core.ClassGenerator"));
+			//The negation admits the classes of all packages
+			ClassCriteria negatedCriteria = ClassCriteria.create().packagePrefix("org.springframework.util").negate();
+			classNames = findClassNames(componentSupplier, paths, negatedCriteria);
+			assertTrue(classNames.contains("org.apache.commons.lang.StringUtils"));
+			assertTrue(classNames.contains("org.springframework.cglib.core.ClassGenerator"));
+			assertFalse(classNames.contains("org.springframework.util.StringUtils"));
+			//An opaque predicate in OR with a declarative one admits the classes of all packages
+			classNames = findClassNames(componentSupplier, paths,
+				ClassCriteria.create().packagePrefix("org.springframework.util")
+					.or().className(className -> className.equals("org.apache.commons.lang.StringUtils"))
+			);
+			assertTrue(classNames.contains("org.springframework.util.StringUtils"));
+			assertTrue(classNames.contains("org.apache.commons.lang.StringUtils"));
+		});
+	}
+
+	@Test
+	public void findAllByDeclarativePredicatesTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<String> paths = getSpringCoreAndCommonsLangPaths(componentSupplier);
+		testDoesNotThrow(() -> {
+			Collection<String> classNames = findClassNames(componentSupplier, paths,
+				ClassCriteria.create().superClassName("org.springframework.core.NestedRuntimeException")
+			);
+			assertFalse(classNames.isEmpty());
+			assertEquals(
+				findClassNames(componentSupplier, paths, ClassCriteria.create().allThoseThatMatch(cls ->
+					cls.getSuperclass() != null && cls.getSuperclass().getName().equals("org.springframework.core.NestedRuntimeException")
+				)),
+				classNames
+			);
+			classNames = findClassNames(componentSupplier, paths,
+				ClassCriteria.create().interfaceName("org.springframework.core.io.Resource")
+			);
+			assertFalse(classNames.isEmpty());
+			assertEquals(
+				findClassNames(componentSupplier, paths, ClassCriteria.create().allThoseThatMatch(cls ->
+					Arrays.stream(cls.getInterfaces()).anyMatch(iface -> iface.getName().equals("org.springframework.core.io.Resource"))
+				)),
+				classNames
+			);
+			classNames = findClassNames(componentSupplier, paths,
+				ClassCriteria.create().packagePrefix("org.springframework").and().annotationDescriptor("Ljava/lang/Deprecated;")
+			);
+			assertFalse(classNames.isEmpty());
+			assertEquals(
+				findClassNames(componentSupplier, paths, ClassCriteria.create().allThoseThatMatch(cls ->
+					cls.getName().startsWith("org.springframework.") && cls.isAnnotationPresent(Deprecated.class)
+				)),
+				classNames
+			);
+		});
+	}
+
+	private Collection<String> getSpringCoreAndCommonsLangPaths(ComponentSupplier componentSupplier) {
+		PathHelper pathHelper = componentSupplier.getPathHelper();
+		return Arrays.asList(
+			pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"),
+			pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/commons-lang")
+		);
+	}
+
+	private Collection<String> findClassNames(ComponentSupplier componentSupplier, Collection<String> paths, ClassCriteria criteria) {
+		try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+			SearchConfig.forPaths(paths).by(criteria.createCopy()).useNewIsolatedClassLoader()
+		)) {
+			Collection<String> classNames = new TreeSet<>();
+			result.getClasses().forEach(cls -> classNames.add(cls.getName()));
+			return classNames;
+		}
+	}
+
+	private boolean hasBeenAddedToClassLoader(ComponentSupplier componentSupplier, Collection<String> paths, ClassCriteria criteria, String className) {
+		try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+			SearchConfig.forPaths(paths).by(criteria.createCopy()).useNewIsolatedClassLoader()
+		)) {
+			Class<?> cls = result.getClasses().iterator().next();
+			return ((MemoryClassLoader)cls.getClassLoader()).getByteCodeOf(className) != null;
+		}
+	}
+
 	@Test
 	public void findAllSubtypeOfTestTwo() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -2,8 +2,12 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -136,6 +140,33 @@ public class ClassLoadersTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void loadOrDefineByByteCodesTestThree() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			PathHelper pathHelper = componentSupplier.getPathHelper();
+			try (
+				URLClassLoader classLoader = new URLClassLoader(new URL[0], null);
+				SearchResult searchResult = componentSupplier.getByteCodeHunter().findBy(
+					SearchConfig.forPaths(
+						pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+					)
+				)
+			) {
+				Map<String, Class<?>> classes = ClassLoaders.loadOrDefineByByteCode(
+					Arrays.asList("org.springframework.core.io.ClassPathResource", "org.springframework.core.io.UrlResource"),
+					searchResult.getByteCodesFlatMap(),
+					classLoader
+				);
+				Class<?> cls = classes.get("org.springframework.core.io.ClassPathResource");
+				assertSame(classLoader, cls.getClassLoader());
+				assertEquals("org.springframework.core.io.AbstractFileResolvingResource", cls.getSuperclass().getName());
+				assertSame(cls.getSuperclass(), classes.get("org.springframework.core.io.UrlResource").getSuperclass());
+				return classes.values();
+			}
+		});
+	}
+
 	@Test
 	//@EnabledOnOs({OS.MAC, OS.WINDOWS})
 	public void createAndClose() {
@@ -1,10 +1,24 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.BodySourceGenerator;
+import org.burningwave.core.classes.CodeExecutor;
 import org.burningwave.core.classes.ExecuteConfig;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.junit.jupiter.api.Test;
@@ -78,4 +92,83 @@ public class CodeExecutorTest extends BaseTest {
 			return componentSupplier.getCodeExecutor().executeProperty("code-block-1", LocalDateTime.now());
 		});
 	}
+
+	@Test
+	public void prepareCodeTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Executable executable = componentSupplier.getCodeExecutor().prepare(
+				BodySourceGenerator.createSimple().addCodeLine("return (Integer)parameter[0] + (Integer)parameter[1];")
+			);
+			assertSame(
+				executable,
+				componentSupplier.getCodeExecutor().prepare(
+					BodySourceGenerator.createSimple().addCodeLine("return (Integer)parameter[0] + (Integer)parameter[1];")
+				)
+			);
+			assertEquals(Integer.valueOf(3), executable.executeAndCast(1, 2));
+			assertEquals(Integer.valueOf(7), executable.executeAndCast(3, 4));
+			return componentSupplier.getCodeExecutor().prepareProperty("code-block-1", LocalDateTime.class).execute(LocalDateTime.now());
+		});
+	}
+
+	@Test
+	public void prepareCodeTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Map<String, String> config = new HashMap<>();
+		config.put(CodeExecutor.Configuration.Key.PREPARED_EXECUTABLES_MAX_ENTRIES, "1");
+		CodeExecutor codeExecutor = CodeExecutor.create(componentSupplier::getClassFactory, componentSupplier.getPathHelper(), config);
+		testNotNull(() -> {
+			try {
+				//The anonymous class is loaded by the class loader of the executable only after it has been evicted
+				Executable executable = codeExecutor.prepare(
+					BodySourceGenerator.createSimple().useType(CountDownLatch.class, Supplier.class)
+					.addCodeLine("((CountDownLatch)parameter[0]).countDown();")
+					.addCodeLine("try {")
+					.addCodeLine("\t((CountDownLatch)parameter[1]).await();")
+					.addCodeLine("} catch (InterruptedException exc) {")
+					.addCodeLine("\tthrow new RuntimeException(exc);")
+					.addCodeLine("}")
+					.addCodeLine("return new Supplier<Integer>() {public Integer get() {return 1;}}.get();")
+				);
+				CountDownLatch executionStarted = new CountDownLatch(1);
+				CountDownLatch evictionDone = new CountDownLatch(1);
+				CompletableFuture<Integer> execution = CompletableFuture.supplyAsync(() -> {
+					try {
+						return executable.executeAndCast(executionStarted, evictionDone);
+					} catch (Throwable exc) {
+						throw new CompletionException(exc);
+					}
+				});
+				assertTrue(executionStarted.await(30, TimeUnit.SECONDS));
+				codeExecutor.prepare(BodySourceGenerator.createSimple().addCodeLine("return 2;"));
+				evictionDone.countDown();
+				assertEquals(Integer.valueOf(1), execution.get(30, TimeUnit.SECONDS));
+				return executable.executeAndCast(new CountDownLatch(1), evictionDone);
+			} finally {
+				((Component)codeExecutor).close();
+			}
+		});
+	}
+
+	@Test
+	public void prepareCodeTestThree() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			//The class loader supplied by the caller has the parent set only while the executor is defined and executed
+			MemoryClassLoader classLoader = MemoryClassLoader.create(null);
+			Executable executable = componentSupplier.getCodeExecutor().prepare(
+				ExecuteConfig.forBodySourceGenerator(
+					BodySourceGenerator.createSimple().useType(ComponentSupplier.class)
+					.addCodeLine("return ComponentSupplier.class.getName();")
+				).useClassLoader(classLoader)
+				.useAsParentClassLoader(Thread.currentThread().getContextClassLoader())
+			);
+			assertNull(classLoader.getParent());
+			Object className = executable.execute();
+			assertNull(classLoader.getParent());
+			return className;
+		});
+	}
+
 }
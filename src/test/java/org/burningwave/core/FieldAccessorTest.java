@@ -13,6 +13,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.burningwave.core.bean.Complex;
+import org.burningwave.core.classes.FieldAccessor;
 import org.junit.jupiter.api.Test;
 
 public class FieldAccessorTest extends BaseTest {
@@ -91,6 +92,35 @@ public class FieldAccessorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	void compiledGetTestOne() {
+		Complex complex = new Complex();
+		FieldAccessor.CompiledPath compiledPath = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[1][1].name");
+		assertEquals((Object) compiledPath.get(complex), ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][1].name"));
+		assertEquals((Object) compiledPath.get(new Complex()), ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][1].name"));
+	}
+
+	@Test
+	void compiledSetTestOne() {
+		Complex complex = new Complex();
+		FieldAccessor.CompiledPath compiledPath = ByFieldOrByMethodPropertyAccessor.compile("data.items[0][2].name");
+		compiledPath.set(complex, "Peter");
+		assertEquals((Object) compiledPath.get(complex), "Peter");
+		assertEquals((Object) ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[0][2].name"), "Peter");
+	}
+
+	@Test
+	void compiledSetTestTwo() {
+		Map<String, Map<String, Map<String, Object>>> nestedMaps= new LinkedHashMap<>();
+		Map<String, Map<String, Object>> innerMapLevelOne = new LinkedHashMap<>();
+		Map<String, Object> innerMapLevelTwo = new LinkedHashMap<>();
+		nestedMaps.put("data", innerMapLevelOne);
+		innerMapLevelOne.put("data", innerMapLevelTwo);
+		FieldAccessor.CompiledPath compiledPath = ByFieldOrByMethodPropertyAccessor.compile("[data][data][data]");
+		compiledPath.set(nestedMaps, "Hello");
+		assertEquals((Object) compiledPath.get(nestedMaps), "Hello");
+	}
+
 	public<T> void setIndexedValue(Supplier<Collection> collSupplier) {
 		testDoesNotThrow(() -> {
 			Collection<Collection<Collection<String>>> nestedCollections = collSupplier.get();
@@ -1,9 +1,21 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.assembler.StaticComponentContainer;
@@ -440,4 +452,38 @@ public class FileSystemItemTest extends BaseTest {
 			}, false
 		);
 	}
+
+	@Test
+	public void readArchiveTreeTestOne() {
+		testNotEmpty(() -> {
+			File archive = new File(FileSystemHelper.createTemporaryFolder("FileSystemItemTest"), "tree.jar");
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+				for (String entryName : Arrays.asList("a/", "a/b/", "a/b/C.class", "a/D.txt", "x/y/Z.txt")) {
+					zipOutputStream.putNextEntry(new ZipEntry(entryName));
+					if (!entryName.endsWith("/")) {
+						zipOutputStream.write(entryName.getBytes());
+					}
+					zipOutputStream.closeEntry();
+				}
+			}
+			String archivePath = archive.getAbsolutePath().replace("\\", "/");
+			FileSystemItem folder = FileSystemItem.ofPath(archivePath + "/a");
+			assertEquals(
+				new TreeSet<>(Arrays.asList(archivePath + "/a/b", archivePath + "/a/D.txt")),
+				toAbsolutePaths(folder.getChildren())
+			);
+			assertEquals(
+				new TreeSet<>(Arrays.asList(archivePath + "/a/b", archivePath + "/a/b/C.class", archivePath + "/a/D.txt")),
+				toAbsolutePaths(folder.getAllChildren())
+			);
+			assertTrue(FileSystemItem.ofPath(archivePath + "/x/y/Z.txt").exists());
+			assertFalse(FileSystemItem.ofPath(archivePath + "/a/b/Missing.class").exists());
+			assertEquals(archivePath + "/a/b", FileSystemItem.ofPath(archivePath + "/a/b/C.class").getParent().getAbsolutePath());
+			return FileSystemItem.ofPath(archivePath).getAllChildren();
+		});
+	}
+
+	private Set<String> toAbsolutePaths(Collection<FileSystemItem> fileSystemItems) {
+		return fileSystemItems.stream().map(FileSystemItem::getAbsolutePath).collect(Collectors.toCollection(TreeSet::new));
+	}
 }
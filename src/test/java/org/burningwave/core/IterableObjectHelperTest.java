@@ -1,14 +1,22 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.IterationStatistics;
+import org.burningwave.core.iterable.IterableObjectHelper.PrimitiveIterationConfig;
 import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
@@ -147,6 +155,96 @@ public class IterableObjectHelperTest extends BaseTest {
 //		);
 	}
 	
+	@Test
+	public void iterateParallelWithAdaptiveChunksTestOne() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 1000000).boxed().collect(Collectors.toList());
+		AtomicReference<IterationStatistics> statisticsWrapper = new AtomicReference<>();
+		testNotEmpty(() -> {
+			Collection<Integer> output = IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(new ArrayList<Integer>())
+				.withAction((number, outputCollectionSupplier) -> {
+					if ((number % 2) == 0) {
+						outputCollectionSupplier.accept(outputCollection ->
+							outputCollection.add(number)
+						);
+					}
+				}).adaptiveChunked()
+				.withStatisticsHandler(statisticsWrapper::set)
+			);
+			assertEquals(input.size() / 2, output.size());
+			assertEquals(input.size(), statisticsWrapper.get().getWorkers().stream().mapToLong(IterationStatistics.Worker::getProcessedItemCount).sum());
+			ManagedLoggerRepository.logInfo(getClass()::getName, statisticsWrapper.get().toString());
+			return output;
+		}, false);
+	}
+
+	@Test
+	public void iterateParallelWithAdaptiveChunksTestTwo() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 1000000).boxed().collect(Collectors.toCollection(HashSet::new));
+		AtomicReference<IterationStatistics> statisticsWrapper = new AtomicReference<>();
+		testNotEmpty(() -> {
+			Collection<Integer> output = IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(new HashSet<Integer>())
+				.withAction((number, outputCollectionSupplier) -> {
+					if ((number % 2) == 0) {
+						outputCollectionSupplier.accept(outputCollection ->
+							outputCollection.add(number)
+						);
+					}
+				}).adaptiveChunked().threadBased()
+				.withStatisticsHandler(statisticsWrapper::set)
+			);
+			assertEquals(input.size() / 2, output.size());
+			assertEquals(input.size(), statisticsWrapper.get().getWorkers().stream().mapToLong(IterationStatistics.Worker::getProcessedItemCount).sum());
+			ManagedLoggerRepository.logInfo(getClass()::getName, statisticsWrapper.get().toString());
+			return output;
+		}, false);
+	}
+
+	@Test
+	public void iterateParallelPrimitivesTestOne() {
+		long[] input = LongStream.rangeClosed(1, 1000000).toArray();
+		testDoesNotThrow(() -> {
+			LongAdder sum = new LongAdder();
+			IterableObjectHelper.iterate(
+				PrimitiveIterationConfig.of(input)
+				.parallelIf(inputArray -> inputArray.length > 2)
+				.withAction(sum::add)
+			);
+			assertEquals(500000500000L, sum.sum());
+			assertEquals(
+				500000500000L,
+				IterableObjectHelper.reduce(
+					PrimitiveIterationConfig.of(input)
+					.parallelIf(inputArray -> inputArray.length > 2)
+					.adaptiveChunked().threadBased(),
+					0L,
+					Long::sum
+				)
+			);
+		});
+	}
+
+	@Test
+	public void iterateParallelPrimitivesTestTwo() {
+		double[] input = DoubleStream.iterate(0.5, number -> number + 1).limit(1000000).toArray();
+		testDoesNotThrow(() -> {
+			assertEquals(
+				999999.5,
+				IterableObjectHelper.reduce(
+					PrimitiveIterationConfig.of(input)
+					.parallelIf(inputArray -> inputArray.length > 2),
+					Double.NEGATIVE_INFINITY,
+					Math::max
+				)
+			);
+		});
+	}
+
 	@Test
 	public void resolveTestThree() {
 		testNotNull(() -> {
@@ -1,5 +1,21 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
@@ -34,4 +50,96 @@ public class IterableZipContainerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void findAllInNestedArchiveTestOne() {
+		testNotEmpty(() -> {
+			byte[] nestedArchive = zip(ZipEntry.DEFLATED, "org/burningwave/Nested.class", "nested class".getBytes());
+			byte[] archive = zip(ZipEntry.STORED, "lib/nested.jar", nestedArchive);
+			try (IterableZipContainer zip = IterableZipContainer.create("/memory/archive.zip", ByteBuffer.wrap(archive))) {
+				IterableZipContainer.Entry nestedArchiveEntry = zip.findFirst(entry -> entry.getName().equals("lib/nested.jar"), entry -> false);
+				assertTrue(nestedArchiveEntry.isArchive());
+				try (IterableZipContainer nestedZip = IterableZipContainer.create(nestedArchiveEntry)) {
+					Collection<IterableZipContainer.Entry> entries = nestedZip.findAll(entry -> !entry.isDirectory(), entry -> true);
+					assertEquals("nested class", new String(entries.iterator().next().toByteArray()));
+					return entries;
+				}
+			}
+		});
+	}
+
+	@Test
+	public void findAllTestOne() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+				"/../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+			);
+			try (
+				IterableZipContainer zip = IterableZipContainer.create(fIS.getAbsolutePath());
+				ZipFile zipFile = new ZipFile(fIS.getAbsolutePath())
+			) {
+				Collection<IterableZipContainer.Entry> entries = zip.findAll(entry -> !entry.isDirectory(), entry -> false);
+				assertEquals(zipFile.stream().filter(entry -> !entry.isDirectory()).count(), entries.size());
+				for (IterableZipContainer.Entry entry : entries) {
+					try (InputStream inputStream = zipFile.getInputStream(zipFile.getEntry(entry.getName()))) {
+						assertArrayEquals(Streams.toByteArray(inputStream), entry.toByteArray());
+					}
+				}
+				return entries;
+			}
+		});
+	}
+
+	@Test
+	public void findAllAfterDestroyTestOne() {
+		testNotEmpty(() -> {
+			byte[] archive = zip(ZipEntry.DEFLATED, "org/burningwave/Shared.class", "shared class".getBytes());
+			IterableZipContainer zip = IterableZipContainer.create("/memory/shared.zip", ByteBuffer.wrap(archive));
+			try (IterableZipContainer otherZip = IterableZipContainer.create("/memory/shared.zip", ByteBuffer.wrap(archive))) {
+				//The entries shared with the cached container are still available to the containers not yet closed
+				zip.close();
+				Cache.pathForIterableZipContainers.remove("/memory/shared.zip", true);
+				Collection<IterableZipContainer.Entry> entries = otherZip.findAll(entry -> !entry.isDirectory(), entry -> true);
+				assertEquals("shared class", new String(entries.iterator().next().toByteArray()));
+				return entries;
+			}
+		});
+	}
+
+	@Test
+	public void findAllAfterContentChangeTestOne() {
+		testNotEmpty(() -> {
+			try (IterableZipContainer zip = IterableZipContainer.create(
+				"/memory/changed.zip", ByteBuffer.wrap(zip(ZipEntry.DEFLATED, "org/burningwave/Changed.class", "old class".getBytes()))
+			)) {
+				assertEquals("old class", new String(zip.findFirst(entry -> !entry.isDirectory(), entry -> true).toByteArray()));
+			}
+			try (IterableZipContainer zip = IterableZipContainer.create(
+				"/memory/changed.zip", ByteBuffer.wrap(zip(ZipEntry.DEFLATED, "org/burningwave/Changed.class", "new class".getBytes()))
+			)) {
+				Collection<IterableZipContainer.Entry> entries = zip.findAll(entry -> !entry.isDirectory(), entry -> true);
+				assertEquals("new class", new String(entries.iterator().next().toByteArray()));
+				return entries;
+			}
+		});
+	}
+
+	private byte[] zip(int method, String entryName, byte[] content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			ZipEntry zipEntry = new ZipEntry(entryName);
+			zipEntry.setMethod(method);
+			if (method == ZipEntry.STORED) {
+				CRC32 crc = new CRC32();
+				crc.update(content);
+				zipEntry.setSize(content.length);
+				zipEntry.setCrc(crc.getValue());
+			}
+			zipOutputStream.putNextEntry(zipEntry);
+			zipOutputStream.write(content);
+			zipOutputStream.closeEntry();
+		}
+		return outputStream.toByteArray();
+	}
+
 }
@@ -0,0 +1,196 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.JavaMemoryCompiler;
+import org.burningwave.core.concurrent.QueuedTaskExecutor.ProducerTask;
+import org.junit.jupiter.api.Test;
+
+public class JavaMemoryCompilerTest extends BaseTest {
+
+	@Test
+	public void compileWithClassPathInsideArchiveTestOne() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			File fatArchive = new File(FileSystemHelper.createTemporaryFolder("JavaMemoryCompilerTest"), "fat.jar");
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(fatArchive))) {
+				zipOutputStream.putNextEntry(new ZipEntry("lib/spring-core.jar"));
+				zipOutputStream.write(
+					Files.readAllBytes(
+						new File(
+							componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+						).toPath()
+					)
+				);
+				zipOutputStream.closeEntry();
+			}
+			JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(
+				JavaMemoryCompiler.Compilation.Config.withSource(
+					"package tryyy;\n" +
+					"\n" +
+					"import org.springframework.util.StringUtils;\n" +
+					"\n" +
+					"public class StringChecker {\n" +
+					"\n" +
+					"	public boolean hasText(String value) {\n" +
+					"		return StringUtils.hasText(value);\n" +
+					"	}\n" +
+					"\n" +
+					"}"
+				).setClassRepository(
+					fatArchive.getAbsolutePath() + "/lib/spring-core.jar"
+				)
+			).join();
+			assertTrue(result.getDependencies().stream().anyMatch(classPath -> classPath.endsWith("fat.jar/lib/spring-core.jar")));
+			return result.getCompiledFiles().keySet();
+		});
+	}
+
+	@Test
+	public void compileTwiceTestOne() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			JavaMemoryCompiler.Compilation.Config config = JavaMemoryCompiler.Compilation.Config.withSource(
+				"package tryyy;\n" +
+				"\n" +
+				"public class Twice {\n" +
+				"\n" +
+				"	public int get() {\n" +
+				"		return 2;\n" +
+				"	}\n" +
+				"\n" +
+				"}"
+			).storeCompiledClasses(false);
+			Map<String, ByteBuffer> firstCompiledFiles;
+			try (JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(config).join()) {
+				firstCompiledFiles = new HashMap<>(result.getCompiledFiles());
+			}
+			JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(config).join();
+			assertEquals(firstCompiledFiles, result.getCompiledFiles());
+			return result.getCompiledFiles().keySet();
+		});
+	}
+
+	@Test
+	public void compileTwiceWithChangedClassPathTestOne() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			File classPath = FileSystemHelper.createTemporaryFolder("JavaMemoryCompilerTest-class-path");
+			storeConstantsClass(componentSupplier, classPath, 1);
+			JavaMemoryCompiler.Compilation.Config config = JavaMemoryCompiler.Compilation.Config.withSource(
+				"package tryyy;\n" +
+				"\n" +
+				"public class ConstantUser {\n" +
+				"\n" +
+				"	public int get() {\n" +
+				"		return constants.Constants.VALUE;\n" +
+				"	}\n" +
+				"\n" +
+				"}"
+			).setClassPaths(
+				classPath.getAbsolutePath()
+			).storeCompiledClasses(false);
+			Map<String, ByteBuffer> firstCompiledFiles;
+			try (JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(config).join()) {
+				firstCompiledFiles = new HashMap<>(result.getCompiledFiles());
+			}
+			File constantsClassFile = storeConstantsClass(componentSupplier, classPath, 2);
+			constantsClassFile.setLastModified(constantsClassFile.lastModified() + 2000);
+			//The changes of the class path folders are detected asynchronously by the watcher of the compilation cache
+			long timeout = System.currentTimeMillis() + 30000;
+			JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(config).join();
+			while (firstCompiledFiles.equals(result.getCompiledFiles()) && System.currentTimeMillis() < timeout) {
+				result.close();
+				Thread.sleep(100);
+				result = componentSupplier.getJavaMemoryCompiler().compile(config).join();
+			}
+			assertNotEquals(firstCompiledFiles, result.getCompiledFiles());
+			return result.getCompiledFiles().keySet();
+		});
+	}
+
+	private File storeConstantsClass(ComponentSupplier componentSupplier, File classPath, int value) throws Exception {
+		try (JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(
+			JavaMemoryCompiler.Compilation.Config.withSource(
+				"package constants;\n" +
+				"\n" +
+				"public class Constants {\n" +
+				"\n" +
+				"	public static final int VALUE = " + value + ";\n" +
+				"\n" +
+				"}"
+			).storeCompiledClasses(false)
+		).join()) {
+			File constantsClassFile = new File(classPath, "constants/Constants.class");
+			constantsClassFile.getParentFile().mkdirs();
+			Files.write(constantsClassFile.toPath(), BufferHandler.toByteArray(result.getCompiledFiles().get("constants.Constants")));
+			return constantsClassFile;
+		}
+	}
+
+	@Test
+	public void compileInBatchTestOne() {
+		testNotEmpty(() -> {
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			JavaMemoryCompiler.Compilation.Config firstConfig = JavaMemoryCompiler.Compilation.Config.withSource(
+				"package tryyy;\n" +
+				"\n" +
+				"public class FirstOfBatch {\n" +
+				"\n" +
+				"	public int get() {\n" +
+				"		return 1;\n" +
+				"	}\n" +
+				"\n" +
+				"}"
+			).storeCompiledClasses(false);
+			JavaMemoryCompiler.Compilation.Config secondConfig = JavaMemoryCompiler.Compilation.Config.withSource(
+				"package tryyy;\n" +
+				"\n" +
+				"public class SecondOfBatch {\n" +
+				"\n" +
+				"	public class Inner {\n" +
+				"\n" +
+				"	}\n" +
+				"\n" +
+				"}"
+			).storeCompiledClasses(false);
+			JavaMemoryCompiler.Compilation.Config wrongConfig = JavaMemoryCompiler.Compilation.Config.withSource(
+				"package tryyy;\n" +
+				"\n" +
+				"public class WrongOfBatch {\n" +
+				"\n" +
+				"	public int get() {\n" +
+				"		return \"1\";\n" +
+				"	}\n" +
+				"\n" +
+				"}"
+			).storeCompiledClasses(false);
+			Map<JavaMemoryCompiler.Compilation.Config, ProducerTask<JavaMemoryCompiler.Compilation.Result>> tasks =
+				componentSupplier.getJavaMemoryCompiler().compile(Arrays.asList(firstConfig, secondConfig));
+			assertEquals(Arrays.asList("tryyy.FirstOfBatch"), Arrays.asList(tasks.get(firstConfig).join().getCompiledFiles().keySet().toArray()));
+			assertEquals(2, tasks.get(secondConfig).join().getCompiledFiles().size());
+			Map<JavaMemoryCompiler.Compilation.Config, ProducerTask<JavaMemoryCompiler.Compilation.Result>> tasksWithErrors =
+				componentSupplier.getJavaMemoryCompiler().compile(Arrays.asList(firstConfig, wrongConfig));
+			assertEquals(1, tasksWithErrors.get(firstConfig).join().getCompiledFiles().size());
+			assertThrows(RuntimeException.class, () -> tasksWithErrors.get(wrongConfig).join());
+			return tasks.get(secondConfig).join().getCompiledFiles().keySet();
+		});
+	}
+
+}
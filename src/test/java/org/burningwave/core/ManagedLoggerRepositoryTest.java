@@ -1,12 +1,24 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
 
 
 public class ManagedLoggerRepositoryTest extends BaseTest {
+	private static final String WRITER_THREAD_NAME = "Burningwave - ManagedLoggerRepository writer";
+	private static final String CALLER_THREAD_NAME = "ManagedLoggerRepositoryTest caller";
 
 	@Test
 	public void placeHolderedLogInfoTest() {
@@ -19,4 +31,179 @@ public class ManagedLoggerRepositoryTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void asyncLogInfoTest() {
+		testDoesNotThrow(() -> {
+			AsyncManagedLoggerRepository managedLoggerRepository = createAsyncManagedLoggerRepository("discard", 16);
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			PrintStream systemOut = System.out;
+			System.setOut(new PrintStream(output, true));
+			int lineNumber;
+			try {
+				lineNumber = new Throwable().getStackTrace()[0].getLineNumber() + 1;
+				managedLoggerRepository.logInfo(() -> ManagedLoggerRepositoryTest.class.getName(), "{}{}{}{}", "Hello", " ", "world", "!");
+				managedLoggerRepository.disableLogging(ManagedLoggerRepositoryTest.class.getName());
+				for (int i = 0; i < 1000; i++) {
+					managedLoggerRepository.logInfo(() -> ManagedLoggerRepositoryTest.class.getName(), "Disabled {}", i);
+				}
+				managedLoggerRepository.flush();
+			} finally {
+				System.setOut(systemOut);
+				managedLoggerRepository.close();
+			}
+			String log = output.toString();
+			assertTrue(log.contains(
+				" - " + ManagedLoggerRepositoryTest.class.getName() + " - (ManagedLoggerRepositoryTest.java:" + lineNumber + ") - Hello world!"
+			));
+			assertFalse(log.contains("Disabled"));
+			assertEquals(0, managedLoggerRepository.getDiscardedEventCount());
+		});
+	}
+
+	@Test
+	public void asyncLogInfoWithDiscardOverflowPolicyTest() {
+		testDoesNotThrow(() -> {
+			AsyncManagedLoggerRepository managedLoggerRepository = createAsyncManagedLoggerRepository("discard", 2);
+			WriterBlockingOutputStream output = new WriterBlockingOutputStream();
+			PrintStream systemOut = System.out;
+			System.setOut(new PrintStream(output, true));
+			try {
+				logInfo(managedLoggerRepository, "Event 0");
+				assertTrue(output.awaitWriterBlocked());
+				for (int i = 1; i < 6; i++) {
+					logInfo(managedLoggerRepository, "Event " + i);
+				}
+				assertEquals(3, managedLoggerRepository.getDiscardedEventCount());
+				output.releaseWriter();
+				managedLoggerRepository.flush();
+			} finally {
+				output.releaseWriter();
+				System.setOut(systemOut);
+				managedLoggerRepository.close();
+			}
+			String log = output.toString();
+			for (int i = 0; i < 3; i++) {
+				assertTrue(log.contains("Event " + i));
+			}
+			for (int i = 3; i < 6; i++) {
+				assertFalse(log.contains("Event " + i));
+			}
+		});
+	}
+
+	@Test
+	public void asyncLogInfoWithWaitOverflowPolicyTest() {
+		testDoesNotThrow(() -> {
+			AsyncManagedLoggerRepository managedLoggerRepository = createAsyncManagedLoggerRepository("wait", 2);
+			WriterBlockingOutputStream output = new WriterBlockingOutputStream();
+			PrintStream systemOut = System.out;
+			System.setOut(new PrintStream(output, true));
+			try {
+				logInfo(managedLoggerRepository, "Event 0");
+				assertTrue(output.awaitWriterBlocked());
+				logInfo(managedLoggerRepository, "Event 1");
+				logInfo(managedLoggerRepository, "Event 2");
+				Thread caller = new Thread(() -> logInfo(managedLoggerRepository, "Event 3"), CALLER_THREAD_NAME);
+				caller.start();
+				caller.join(500);
+				assertTrue(caller.isAlive());
+				output.releaseWriter();
+				caller.join(TimeUnit.SECONDS.toMillis(30));
+				assertFalse(caller.isAlive());
+				managedLoggerRepository.flush();
+			} finally {
+				output.releaseWriter();
+				System.setOut(systemOut);
+				managedLoggerRepository.close();
+			}
+			String log = output.toString();
+			for (int i = 0; i < 4; i++) {
+				assertTrue(log.contains("Event " + i));
+			}
+			assertFalse(output.writingThreadNames.contains(CALLER_THREAD_NAME));
+			assertEquals(0, managedLoggerRepository.getDiscardedEventCount());
+		});
+	}
+
+	@Test
+	public void asyncLogInfoWithWriteInCallerThreadOverflowPolicyTest() {
+		testDoesNotThrow(() -> {
+			AsyncManagedLoggerRepository managedLoggerRepository = createAsyncManagedLoggerRepository("write-in-caller-thread", 2);
+			WriterBlockingOutputStream output = new WriterBlockingOutputStream();
+			PrintStream systemOut = System.out;
+			System.setOut(new PrintStream(output, true));
+			try {
+				logInfo(managedLoggerRepository, "Event 0");
+				assertTrue(output.awaitWriterBlocked());
+				logInfo(managedLoggerRepository, "Event 1");
+				logInfo(managedLoggerRepository, "Event 2");
+				Thread caller = new Thread(() -> logInfo(managedLoggerRepository, "Event 3"), CALLER_THREAD_NAME);
+				caller.start();
+				long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+				while (caller.getState() != Thread.State.BLOCKED && System.currentTimeMillis() < timeout) {
+					Thread.sleep(10);
+				}
+				assertEquals(Thread.State.BLOCKED, caller.getState());
+				output.releaseWriter();
+				caller.join(TimeUnit.SECONDS.toMillis(30));
+				assertFalse(caller.isAlive());
+				managedLoggerRepository.flush();
+			} finally {
+				output.releaseWriter();
+				System.setOut(systemOut);
+				managedLoggerRepository.close();
+			}
+			String log = output.toString();
+			for (int i = 0; i < 4; i++) {
+				assertTrue(log.contains("Event " + i));
+			}
+			assertTrue(output.writingThreadNames.contains(CALLER_THREAD_NAME));
+			assertEquals(0, managedLoggerRepository.getDiscardedEventCount());
+		});
+	}
+
+	private AsyncManagedLoggerRepository createAsyncManagedLoggerRepository(String overflowPolicy, int bufferSize) {
+		Properties config = new Properties();
+		config.putAll(GlobalProperties);
+		config.put(ManagedLogger.Repository.Configuration.Key.TYPE, AsyncManagedLoggerRepository.class.getName());
+		config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_BUFFER_SIZE, String.valueOf(bufferSize));
+		config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_OVERFLOW_POLICY, overflowPolicy);
+		return (AsyncManagedLoggerRepository)ManagedLogger.Repository.create(config);
+	}
+
+	private void logInfo(AsyncManagedLoggerRepository managedLoggerRepository, String message) {
+		managedLoggerRepository.logInfo(() -> ManagedLoggerRepositoryTest.class.getName(), message);
+	}
+
+	//Keeps the writer thread of the repository inside the write of its first event until it is released, so that
+	//the events logged in the meantime fill the buffer
+	private static class WriterBlockingOutputStream extends ByteArrayOutputStream {
+		private final CountDownLatch writerBlocked = new CountDownLatch(1);
+		private final CountDownLatch writerReleased = new CountDownLatch(1);
+		private final Set<String> writingThreadNames = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			String threadName = Thread.currentThread().getName();
+			writingThreadNames.add(threadName);
+			if (threadName.equals(WRITER_THREAD_NAME)) {
+				writerBlocked.countDown();
+				try {
+					writerReleased.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException exc) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.write(bytes, offset, length);
+		}
+
+		boolean awaitWriterBlocked() throws InterruptedException {
+			return writerBlocked.await(30, TimeUnit.SECONDS);
+		}
+
+		void releaseWriter() {
+			writerReleased.countDown();
+		}
+	}
+
 }
@@ -2,6 +2,7 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.MethodCriteria;
@@ -251,6 +252,46 @@ public class MethodsTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void bindTestOne() {
+		testNotNull(() -> {
+			org.burningwave.core.classes.Methods.Invoker invoker = Methods.bind(Service.class, "apply", Long.class);
+			Long result = invoker.invoke(new Service(), 1L);
+			return invoker == Methods.bind(Service.class, "apply", Long.class) && result == 1L ?
+				Methods.bind(Integer.class, "valueOf", int.class).invokeStatic(1) :
+				null;
+		});
+	}
+
+	@Test
+	public void bindDirectTestOne() {
+		testDoesNotThrow(() -> {
+			Methods.bindDirect(Service.class, "methodWithVarArgs", String[].class).invoke(
+				new Service(), new Object[] {new String[] {"Hello!"}}
+			);
+			Methods.bindDirect(Service.class, "staticRun").invokeStatic();
+		});
+	}
+
+	@Test
+	public void bindDirectTestTwo() {
+		testNotNull(() -> {
+			org.burningwave.core.classes.Methods.Invoker invoker = Methods.bindDirect(Service.class, "apply", Long.class);
+			Long result = invoker.invoke(new Service(), 1L);
+			return invoker.getMethod().getParameterTypes()[0] == Long.class && result == 1L ?
+				Methods.bindDirect(Service.class, "apply", String.class).invoke(new Service(), "Hello!") :
+				null;
+		});
+	}
+
+	@Test
+	public void bindDirectTestThree() {
+		assertThrows(
+			org.burningwave.core.classes.Methods.NoSuchMethodException.class,
+			() -> Methods.bindDirect(Service.class, "notExistingMethod")
+		);
+	}
+
 	@Test
 	public void findAllTestOne() {
         testNotEmpty(() ->
@@ -1,7 +1,13 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
 
 public class PropertiesTest extends BaseTest {
@@ -14,4 +20,50 @@ public class PropertiesTest extends BaseTest {
 
 	}
 
+	@Test
+	public void resolveAfterChangeTestOne() {
+		Properties properties = new Properties();
+		properties.put("greeting", "Hello ${subject}");
+		properties.put("subject", "${name}");
+		properties.put("name", "World");
+		properties.put("other", "other");
+		assertEquals("Hello World", properties.resolveStringValue("greeting"));
+		properties.put("other", "changed");
+		assertEquals("Hello World", properties.resolveStringValue("greeting"));
+		properties.put("name", "Burningwave");
+		assertEquals("Hello Burningwave", properties.resolveStringValue("greeting"));
+		Map<Object, Object> newValues = new HashMap<>();
+		newValues.put("subject", "everybody");
+		properties.putAll(newValues);
+		assertEquals("Hello everybody", properties.resolveStringValue("greeting"));
+	}
+
+	@Test
+	public void resolveWithDefaultValuesTestOne() {
+		Properties properties = new Properties();
+		Map<String, Object> defaultValues = new HashMap<>();
+		defaultValues.put("greeting", "Hello ${subject}");
+		defaultValues.put("subject", "World");
+		assertEquals("Hello World", properties.resolveStringValue("greeting", defaultValues));
+		properties.put("greeting", "Hi ${subject}");
+		assertEquals("Hi World", properties.resolveStringValue("greeting", defaultValues));
+		properties.remove("greeting");
+		assertEquals("Hello World", properties.resolveStringValue("greeting", defaultValues));
+	}
+
+	@Test
+	public void resolveWithChangedDefaultValuesTestOne() {
+		Properties properties = new Properties();
+		properties.put("greeting", "Hello ${subject}");
+		Map<String, Object> defaultValues = new HashMap<>();
+		defaultValues.put("subject", "World");
+		assertEquals("Hello World", properties.resolveStringValue("greeting", defaultValues));
+		defaultValues.put("subject", "everybody");
+		assertEquals("Hello everybody", properties.resolveStringValue("greeting", defaultValues));
+		Map<String, Object> unmodifiableDefaultValues = Collections.unmodifiableMap(defaultValues);
+		assertEquals("Hello everybody", properties.resolveStringValue("greeting", unmodifiableDefaultValues));
+		properties.put("subject", "Burningwave");
+		assertEquals("Hello Burningwave", properties.resolveStringValue("greeting", unmodifiableDefaultValues));
+	}
+
 }
@@ -1,9 +1,13 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.burningwave.core.concurrent.Thread;
@@ -50,6 +54,31 @@ public class ThreadSupplierTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void getVirtualThreadsTest() {
+		AtomicInteger operationCount = new AtomicInteger(0);
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(GlobalProperties);
+			config.put(Thread.Supplier.Configuration.Key.MODE, "virtual");
+			Thread.Supplier threadSupplier = Thread.Supplier.create(
+				"Virtual ThreadSupplier for test",
+				config,
+				false
+			);
+			assertEquals(JVMInfo.getVersion() >= 21, threadSupplier.isVirtualThreadsModeEnabled());
+			for (int i = 0; i < 1000; i++) {
+				Thread thread = threadSupplier.getOrCreateThread().setExecutable(thr -> {
+					operationCount.incrementAndGet();
+				});
+				assertEquals(threadSupplier.isVirtualThreadsModeEnabled(), thread.isVirtual());
+				thread.start();
+			}
+			threadSupplier.joinAllRunningThreads()
+			.shutDownAllThreads(true);
+			assertEquals(1000, operationCount.get());
+		});
+	}
+
 	//@Test
 	public void stressTest() {
 		testDoesNotThrow(() -> {